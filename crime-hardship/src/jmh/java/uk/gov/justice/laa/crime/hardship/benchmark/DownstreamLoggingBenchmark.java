@@ -0,0 +1,102 @@
+package uk.gov.justice.laa.crime.hardship.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.config.AccessLogConfiguration;
+import uk.gov.justice.laa.crime.hardship.filter.AccessLogFilter;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * Logging cost of a single downstream exchange, before and after the access log replaced the per-header and
+ * per-response log lines.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=DownstreamLoggingBenchmark}. Log events are written to
+ * {@code build/jmh/benchmark.log} with the production pattern, and the gc profiler reports allocation per call.
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DownstreamLoggingBenchmark {
+
+    private static final ClientResponse RESPONSE = ClientResponse.create(HttpStatus.OK).build();
+    private static final ExchangeFunction CONNECTOR = request -> Mono.just(RESPONSE);
+
+    private ClientRequest request;
+    private ExchangeFilterFunction accessLog;
+    private ExchangeFilterFunction sampledAccessLog;
+
+    @Setup
+    public void setUp() {
+        request = ClientRequest.create(
+                        HttpMethod.GET, URI.create("https://maat.example.com/api/internal/v1/assessment/hardship/1234"))
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+                .header("X-Request-Timeout", "29950")
+                .header("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")
+                .header("X-B3-TraceId", "4bf92f3577b34da6a3ce929d0e0e4736")
+                .header("X-B3-SpanId", "00f067aa0ba902b7")
+                .header("X-B3-Sampled", "1")
+                .build();
+
+        AccessLogConfiguration configuration = new AccessLogConfiguration();
+        accessLog = new AccessLogFilter(configuration, "maatCourtDataWebClient");
+
+        AccessLogConfiguration sampledConfiguration = new AccessLogConfiguration();
+        sampledConfiguration.setHeaderSampleRate(0.01);
+        sampledAccessLog = new AccessLogFilter(sampledConfiguration, "maatCourtDataWebClient");
+    }
+
+    /**
+     * The logging previously done for each exchange: a line for the request, one per header and one for the
+     * response status.
+     */
+    @Benchmark
+    public ClientResponse perHeaderLogging() {
+        return perHeaderLogging(request, CONNECTOR).block();
+    }
+
+    @Benchmark
+    public ClientResponse accessLog() {
+        return accessLog.filter(request, CONNECTOR).block();
+    }
+
+    @Benchmark
+    public ClientResponse accessLogWithSampledHeaders() {
+        return sampledAccessLog.filter(request, CONNECTOR).block();
+    }
+
+    private static Mono<ClientResponse> perHeaderLogging(ClientRequest clientRequest, ExchangeFunction next) {
+        log.info("Request: {} {}", clientRequest.method(), clientRequest.url());
+        clientRequest.headers().forEach((name, values) -> {
+            if (!name.equals(HttpHeaders.AUTHORIZATION)) {
+                values.forEach(value -> log.info("{}={}", name, value));
+            }
+        });
+        return next.exchange(clientRequest).map(clientResponse -> {
+            if (clientResponse.statusCode().is2xxSuccessful()) {
+                log.info("✅ Response status: {}", clientResponse.statusCode());
+            }
+            return clientResponse;
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package uk.gov.justice.laa.crime.hardship.benchmark;
+
+import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
+import uk.gov.justice.laa.crime.hardship.calculation.BigDecimalCalculationEngine;
+import uk.gov.justice.laa.crime.hardship.calculation.FixedPointCalculationEngine;
+import uk.gov.justice.laa.crime.hardship.calculation.HardshipCalculationEngine;
+import uk.gov.justice.laa.crime.hardship.config.CalculationConfiguration;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipResult;
+import uk.gov.justice.laa.crime.hardship.mapper.HardshipDetailMapper;
+import uk.gov.justice.laa.crime.hardship.service.HardshipCalculationService;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput of {@link HardshipCalculationService#calculateHardship} with each calculation engine.
+ * <p>
+ * The Court Data API and the detail cache are only used when calculating by detail type, so the service is built
+ * without them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HardshipCalculationBenchmark {
+
+    private static final BigDecimal FULL_THRESHOLD = BigDecimal.valueOf(3000);
+
+    @Param({"0", "10", "100", "500"})
+    private int items;
+
+    @Param({"BIG_DECIMAL", "FIXED_POINT"})
+    private CalculationConfiguration.Engine engine;
+
+    private HardshipCalculationService calculationService;
+    private HardshipReview review;
+
+    @Setup
+    public void setUp() {
+        HardshipCalculationEngine calculationEngine =
+                switch (engine) {
+                    case BIG_DECIMAL -> new BigDecimalCalculationEngine();
+                    case FIXED_POINT -> new FixedPointCalculationEngine();
+                };
+        calculationService = new HardshipCalculationService(new HardshipDetailMapper(), null, null, calculationEngine);
+        review = HardshipReviewFixtures.review(items);
+    }
+
+    /**
+     * Both engines store the solicitor costs' estimated total on the review, so it is cleared before each
+     * invocation to calculate it from the rate, hours, VAT and disbursements as a new request does.
+     */
+    @Benchmark
+    public HardshipResult calculateHardship() {
+        review.getSolicitorCosts().setEstimatedTotal(null);
+        return calculationService.calculateHardship(review, FULL_THRESHOLD);
+    }
+}
@@ -0,0 +1,57 @@
+package uk.gov.justice.laa.crime.hardship.benchmark;
+
+import uk.gov.justice.laa.crime.common.model.hardship.ApiPerformHardshipRequest;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Throughput of binding the perform hardship request body, with an {@link ObjectMapper} configured as Spring
+ * Boot configures the one used by the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HardshipJsonBindingBenchmark {
+
+    @Param({"0", "10", "100", "500"})
+    private int items;
+
+    private ObjectMapper objectMapper;
+    private ApiPerformHardshipRequest request;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        request = HardshipReviewFixtures.performRequest(items);
+        json = objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public ApiPerformHardshipRequest readRequest() throws IOException {
+        return objectMapper.readValue(json, ApiPerformHardshipRequest.class);
+    }
+
+    @Benchmark
+    public byte[] writeRequest() throws IOException {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public ApiPerformHardshipRequest roundTrip() throws IOException {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(request), ApiPerformHardshipRequest.class);
+    }
+}
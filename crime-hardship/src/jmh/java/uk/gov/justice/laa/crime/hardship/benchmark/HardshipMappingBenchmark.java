@@ -0,0 +1,65 @@
+package uk.gov.justice.laa.crime.hardship.benchmark;
+
+import uk.gov.justice.laa.crime.common.model.hardship.ApiHardshipDetail;
+import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
+import uk.gov.justice.laa.crime.common.model.hardship.maat_api.ApiPersistHardshipRequest;
+import uk.gov.justice.laa.crime.enums.RequestType;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipReviewDTO;
+import uk.gov.justice.laa.crime.hardship.mapper.HardshipDetailMapper;
+import uk.gov.justice.laa.crime.hardship.mapper.PersistHardshipMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput of mapping a review to the Court Data API persist request, and of mapping the hardship details
+ * returned by the Court Data API back onto a review.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HardshipMappingBenchmark {
+
+    @Param({"0", "10", "100", "500"})
+    private int items;
+
+    @Param({"CREATE", "UPDATE"})
+    private RequestType requestType;
+
+    private PersistHardshipMapper persistHardshipMapper;
+    private HardshipDetailMapper hardshipDetailMapper;
+    private HardshipReviewDTO reviewDto;
+    private List<ApiHardshipDetail> details;
+
+    @Setup
+    public void setUp() {
+        persistHardshipMapper = new PersistHardshipMapper();
+        hardshipDetailMapper = new HardshipDetailMapper();
+        reviewDto = HardshipReviewFixtures.reviewDto(items, requestType);
+        details = HardshipReviewFixtures.details(items);
+    }
+
+    @Benchmark
+    public ApiPersistHardshipRequest persistRequestFromDto() {
+        return persistHardshipMapper.fromDto(reviewDto);
+    }
+
+    /**
+     * The mapper adds to the review's lists, so each invocation maps onto a new review.
+     */
+    @Benchmark
+    public HardshipReview hardshipDetailsToDto() {
+        HardshipReview review = new HardshipReview();
+        hardshipDetailMapper.toDto(details, review);
+        return review;
+    }
+}
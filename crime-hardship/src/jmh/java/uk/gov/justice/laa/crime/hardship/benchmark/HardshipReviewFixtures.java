@@ -0,0 +1,146 @@
+package uk.gov.justice.laa.crime.hardship.benchmark;
+
+import uk.gov.justice.laa.crime.common.model.common.ApiUserSession;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiHardshipDetail;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiPerformHardshipRequest;
+import uk.gov.justice.laa.crime.common.model.hardship.DeniedIncome;
+import uk.gov.justice.laa.crime.common.model.hardship.ExtraExpenditure;
+import uk.gov.justice.laa.crime.common.model.hardship.HardshipMetadata;
+import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
+import uk.gov.justice.laa.crime.common.model.hardship.SolicitorCosts;
+import uk.gov.justice.laa.crime.enums.CourtType;
+import uk.gov.justice.laa.crime.enums.DeniedIncomeDetailCode;
+import uk.gov.justice.laa.crime.enums.ExtraExpenditureDetailCode;
+import uk.gov.justice.laa.crime.enums.Frequency;
+import uk.gov.justice.laa.crime.enums.HardshipReviewDetailCode;
+import uk.gov.justice.laa.crime.enums.HardshipReviewDetailReason;
+import uk.gov.justice.laa.crime.enums.HardshipReviewDetailType;
+import uk.gov.justice.laa.crime.enums.HardshipReviewResult;
+import uk.gov.justice.laa.crime.enums.HardshipReviewStatus;
+import uk.gov.justice.laa.crime.enums.NewWorkReason;
+import uk.gov.justice.laa.crime.enums.RequestType;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipResult;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipReviewDTO;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds hardship reviews of a given size for the benchmarks. Items are split evenly between denied income and
+ * extra expenditure, and every review carries solicitor costs, so a review of {@code 0} items still exercises the
+ * solicitor costs calculation.
+ */
+final class HardshipReviewFixtures {
+
+    private static final Frequency[] FREQUENCIES = Frequency.values();
+    private static final LocalDateTime REVIEW_DATE = LocalDateTime.of(2024, 4, 1, 0, 0);
+
+    private HardshipReviewFixtures() {}
+
+    static HardshipReview review(int items) {
+        List<DeniedIncome> deniedIncome = new ArrayList<>();
+        List<ExtraExpenditure> extraExpenditure = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            BigDecimal amount = amount(i);
+            Frequency frequency = FREQUENCIES[i % FREQUENCIES.length];
+            if (i % 2 == 0) {
+                deniedIncome.add(new DeniedIncome()
+                        .withAccepted(i % 3 != 0)
+                        .withAmount(amount)
+                        .withFrequency(frequency)
+                        .withReasonNote("Hospitalisation")
+                        .withItemCode(DeniedIncomeDetailCode.MEDICAL_GROUNDS));
+            } else {
+                extraExpenditure.add(new ExtraExpenditure()
+                        .withAccepted(i % 3 != 0)
+                        .withAmount(amount)
+                        .withFrequency(frequency)
+                        .withDescription("Extra Expenditure")
+                        .withReasonCode(HardshipReviewDetailReason.ESSENTIAL_ITEM)
+                        .withItemCode(ExtraExpenditureDetailCode.CARDS));
+            }
+        }
+        return new HardshipReview()
+                .withCourtType(CourtType.MAGISTRATE)
+                .withReviewDate(REVIEW_DATE)
+                .withTotalAnnualDisposableIncome(BigDecimal.valueOf(5000))
+                .withSolicitorCosts(new SolicitorCosts()
+                        .withRate(BigDecimal.valueOf(200))
+                        .withHours(BigDecimal.valueOf(50))
+                        .withDisbursements(BigDecimal.valueOf(375))
+                        .withVat(BigDecimal.valueOf(250)))
+                .withDeniedIncome(deniedIncome)
+                .withExtraExpenditure(extraExpenditure);
+    }
+
+    /**
+     * The hardship details returned by the Court Data API for a review of the given size, including the solicitor
+     * costs row.
+     */
+    static List<ApiHardshipDetail> details(int items) {
+        List<ApiHardshipDetail> details = new ArrayList<>(items + 1);
+        for (int i = 0; i < items; i++) {
+            ApiHardshipDetail detail = new ApiHardshipDetail()
+                    .withAmount(amount(i))
+                    .withFrequency(FREQUENCIES[i % FREQUENCIES.length])
+                    .withAccepted(i % 3 != 0 ? "Y" : "N");
+            if (i % 2 == 0) {
+                details.add(detail.withDetailType(HardshipReviewDetailType.INCOME)
+                        .withOtherDescription("Statutory sick pay")
+                        .withDetailCode(HardshipReviewDetailCode.SUSPENDED_WORK));
+            } else {
+                details.add(detail.withDetailType(HardshipReviewDetailType.EXPENDITURE)
+                        .withOtherDescription("Loan to family members")
+                        .withDetailReason(HardshipReviewDetailReason.COVERED_BY_LIVING_EXPENSE)
+                        .withDetailCode(HardshipReviewDetailCode.OTHER));
+            }
+        }
+        details.add(new ApiHardshipDetail()
+                .withDetailType(HardshipReviewDetailType.SOL_COSTS)
+                .withAmount(BigDecimal.valueOf(2500))
+                .withFrequency(Frequency.ANNUALLY)
+                .withAccepted("Y"));
+        return details;
+    }
+
+    static HardshipMetadata metadata() {
+        return new HardshipMetadata()
+                .withReviewReason(NewWorkReason.PRI)
+                .withCmuId(50)
+                .withHardshipReviewId(1234)
+                .withNotes("Mock Note.")
+                .withDecisionNotes("Mock Decision Note.")
+                .withRepId(91919)
+                .withReviewStatus(HardshipReviewStatus.COMPLETE)
+                .withUserSession(new ApiUserSession().withUserName("mock-u").withSessionId("session"))
+                .withFinancialAssessmentId(6781);
+    }
+
+    static ApiPerformHardshipRequest performRequest(int items) {
+        return new ApiPerformHardshipRequest().withHardship(review(items)).withHardshipMetadata(metadata());
+    }
+
+    static HardshipReviewDTO reviewDto(int items, RequestType requestType) {
+        return HardshipReviewDTO.builder()
+                .requestType(requestType)
+                .hardship(review(items))
+                .hardshipMetadata(metadata())
+                .hardshipResult(HardshipResult.builder()
+                        .result(HardshipReviewResult.PASS)
+                        .resultDate(LocalDate.of(2024, 4, 1))
+                        .postHardshipDisposableIncome(BigDecimal.valueOf(250))
+                        .build())
+                .fullThreshold(BigDecimal.valueOf(3000))
+                .build();
+    }
+
+    /**
+     * Amounts with a mix of whole pounds and pence, so that the calculation has to carry the scale through.
+     */
+    private static BigDecimal amount(int item) {
+        return BigDecimal.valueOf(1000 + item * 37L, item % 2 == 0 ? 0 : 2);
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.justice.laa.crime.hardship.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiPerformHardshipRequest;
+import uk.gov.justice.laa.crime.hardship.metrics.StageMetrics;
+import uk.gov.justice.laa.crime.hardship.validation.HardshipValidationService;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput of the validation rules that only need the request. The rules that fetch the hardship or the
+ * financial assessment from the Court Data API are left out, so the service is built without it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HardshipValidationBenchmark {
+
+    @Param({"0", "10", "100", "500"})
+    private int items;
+
+    private HardshipValidationService validationService;
+    private ApiPerformHardshipRequest request;
+
+    @Setup
+    public void setUp() {
+        validationService = new HardshipValidationService(null, new StageMetrics(new SimpleMeterRegistry()));
+        request = HardshipReviewFixtures.performRequest(items);
+    }
+
+    @Benchmark
+    public ApiPerformHardshipRequest checkRequest() {
+        validationService.checkRequest(request);
+        return request;
+    }
+}
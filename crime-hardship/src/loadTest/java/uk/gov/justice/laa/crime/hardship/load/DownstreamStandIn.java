@@ -0,0 +1,127 @@
+package uk.gov.justice.laa.crime.hardship.load;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.DelayDistribution;
+import com.github.tomakehurst.wiremock.http.FixedDelayDistribution;
+import com.github.tomakehurst.wiremock.http.LogNormal;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.UniformDistribution;
+import com.github.tomakehurst.wiremock.matching.MatchResult;
+import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+
+/**
+ * A WireMock stand-in for one downstream API, answering every stubbed call after a delay drawn from its latency
+ * distribution and failing a configured fraction of them.
+ * <p>
+ * The profile of a downstream named {@code maat} is read from {@code loadTest.maat.latency}, one of
+ * {@code fixed:<millis>}, {@code uniform:<lowerMillis>,<upperMillis>} or {@code lognormal:<medianMillis>,<sigma>},
+ * and from {@code loadTest.maat.errorRate} and {@code loadTest.maat.errorStatus}.
+ */
+final class DownstreamStandIn {
+
+    private static final String RANDOM_FAILURE = "random-failure";
+    private static final String RATE = "rate";
+    private static final String TOKEN_PATH = "/oauth2/token";
+
+    private final String name;
+    private final DelayDistribution latency;
+    private final double errorRate;
+    private final int errorStatus;
+    private final WireMockServer server;
+
+    DownstreamStandIn(String name, String defaultLatency) {
+        this.name = name;
+        this.latency = latency(System.getProperty("loadTest." + name + ".latency", defaultLatency));
+        this.errorRate = Double.parseDouble(System.getProperty("loadTest." + name + ".errorRate", "0"));
+        this.errorStatus = Integer.getInteger("loadTest." + name + ".errorStatus", 503);
+        this.server = new WireMockServer(options().dynamicPort()
+                .asynchronousResponseEnabled(true)
+                .asynchronousResponseThreads(50)
+                .containerThreads(400)
+                .extensions(new RandomFailureMatcher()));
+        server.start();
+        if (errorRate > 0) {
+            server.stubFor(any(urlPathMatching("(?!" + TOKEN_PATH + ").*"))
+                    .atPriority(1)
+                    .andMatching(RANDOM_FAILURE, Parameters.one(RATE, errorRate))
+                    .willReturn(aResponse().withStatus(errorStatus).withRandomDelay(latency)));
+        }
+    }
+
+    /**
+     * Answers the call with the JSON body once the profiled delay has passed, unless it is picked to fail.
+     */
+    void stub(MappingBuilder mapping, String body) {
+        server.stubFor(mapping.atPriority(5).willReturn(json(body).withRandomDelay(latency)));
+    }
+
+    /**
+     * Answers client credentials token requests straight away, as the token endpoint is not part of the profile.
+     */
+    void stubToken(String body) {
+        server.stubFor(any(urlPathMatching(TOKEN_PATH)).atPriority(1).willReturn(json(body)));
+    }
+
+    String name() {
+        return name;
+    }
+
+    int port() {
+        return server.port();
+    }
+
+    void stop() {
+        server.stop();
+    }
+
+    String describe() {
+        return String.format("%s latency=%s errorRate=%s errorStatus=%d", name, latency, errorRate, errorStatus);
+    }
+
+    private static ResponseDefinitionBuilder json(String body) {
+        return aResponse()
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody(body);
+    }
+
+    static DelayDistribution latency(String specification) {
+        String[] parts = specification.split(":", 2);
+        String[] arguments = parts.length == 2 ? parts[1].split(",") : new String[0];
+        return switch (parts[0]) {
+            case "fixed" -> new FixedDelayDistribution(Long.parseLong(arguments[0]));
+            case "uniform" -> new UniformDistribution(Integer.parseInt(arguments[0]), Integer.parseInt(arguments[1]));
+            case "lognormal" -> new LogNormal(Double.parseDouble(arguments[0]), Double.parseDouble(arguments[1]));
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + specification);
+        };
+    }
+
+    /**
+     * Matches a random fraction of requests, so that the failure stub takes precedence for that fraction only.
+     */
+    static class RandomFailureMatcher extends RequestMatcherExtension {
+
+        @Override
+        public String getName() {
+            return RANDOM_FAILURE;
+        }
+
+        @Override
+        public MatchResult match(Request request, Parameters parameters) {
+            double rate = Double.parseDouble(String.valueOf(parameters.get(RATE)));
+            return MatchResult.of(ThreadLocalRandom.current().nextDouble() < rate);
+        }
+    }
+}
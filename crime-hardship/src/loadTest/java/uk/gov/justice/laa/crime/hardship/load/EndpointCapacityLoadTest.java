@@ -0,0 +1,351 @@
+package uk.gov.justice.laa.crime.hardship.load;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.patch;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailRequest;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipRequest;
+import uk.gov.justice.laa.crime.enums.HardshipReviewDetailType;
+import uk.gov.justice.laa.crime.enums.HardshipReviewStatus;
+import uk.gov.justice.laa.crime.hardship.CrimeHardshipApplication;
+import uk.gov.justice.laa.crime.hardship.config.CrimeHardshipTestConfiguration;
+import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipRecalculationRequest;
+import uk.gov.justice.laa.crime.hardship.load.OpenModelLoadGenerator.Result;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives open-model traffic at every {@code HardshipController} endpoint at once, against WireMock stand-ins for
+ * the Court Data API and CMA, and reports throughput and latency percentiles for each endpoint and for each
+ * downstream call the service makes.
+ * <p>
+ * Run with {@code ./gradlew loadTest --tests EndpointCapacityLoadTest}. Every endpoint receives
+ * {@code -PloadTest.rate} requests a second, or {@code -PloadTest.rate.<endpoint>} for a single endpoint, for
+ * {@code -PloadTest.durationSeconds} after a {@code -PloadTest.warmUpSeconds} warm-up. Ids are drawn from
+ * {@code -PloadTest.keys} values, which sets how often the caches are hit. The stand-ins are profiled with
+ * {@code -PloadTest.maat.latency}, {@code -PloadTest.cma.latency} and the matching {@code errorRate} properties,
+ * as described on {@link DownstreamStandIn}. Latency distributions for each endpoint are written to
+ * {@code build/reports/loadTest}.
+ */
+@Slf4j
+@DirtiesContext
+@AutoConfigureObservability
+@Import(CrimeHardshipTestConfiguration.class)
+@SpringBootTest(
+        classes = CrimeHardshipApplication.class,
+        webEnvironment = RANDOM_PORT,
+        properties = {
+            "management.metrics.distribution.percentiles.http.client.requests=0.5,0.95,0.99,0.999",
+            "management.metrics.distribution.expiry.http.client.requests=1h"
+        })
+class EndpointCapacityLoadTest {
+
+    private static final double RATE = Double.parseDouble(System.getProperty("loadTest.rate", "20"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadTest.durationSeconds", 60));
+    private static final Duration WARM_UP = Duration.ofSeconds(Long.getLong("loadTest.warmUpSeconds", 10));
+    private static final int KEYS = Integer.getInteger("loadTest.keys", 10_000);
+    private static final int BATCH_SIZE = Integer.getInteger("loadTest.batchSize", 10);
+    private static final long SEED = Long.getLong("loadTest.seed", 42);
+    private static final Path REPORT_DIRECTORY =
+            Path.of(System.getProperty("loadTest.reportDir", "build/reports/loadTest"));
+
+    private static final String ENDPOINT_URL = "/api/internal/v1/hardship";
+    private static final String CLIENT_REQUESTS_METRIC = "http.client.requests";
+    private static final String TOKEN = "{\"access_token\":\"token\",\"token_type\":\"Bearer\",\"expires_in\":3600}";
+    private static final LocalDateTime FIRST_REVIEW_DATE = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+    // the client request timers are only tagged with the host, so each stand-in is addressed by a different one
+    private static final String MAAT_HOST = "localhost";
+    private static final String CMA_HOST = "127.0.0.1";
+
+    private static final DownstreamStandIn MAAT = new DownstreamStandIn("maat", "lognormal:80,0.4");
+    private static final DownstreamStandIn CMA = new DownstreamStandIn("cma", "lognormal:40,0.3");
+
+    static {
+        MAAT.stubToken(TOKEN);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void downstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("wiremock.server.port", MAAT::port);
+        registry.add("services.maat-api.baseUrl", () -> "http://" + MAAT_HOST + ":" + MAAT.port());
+        registry.add("services.cma-api.baseUrl", () -> "http://" + CMA_HOST + ":" + CMA.port());
+    }
+
+    @AfterAll
+    static void stopDownstreams() {
+        MAAT.stop();
+        CMA.stop();
+    }
+
+    @Test
+    void givenOpenModelTraffic_whenEveryEndpointIsLoaded_thenThroughputAndLatenciesAreReported() throws Exception {
+        stubDownstreams();
+        Map<String, Supplier<HttpRequest>> endpoints = endpoints();
+
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(client, SEED);
+            run(generator, endpoints, WARM_UP);
+            meterRegistry.find(CLIENT_REQUESTS_METRIC).meters().forEach(meterRegistry::remove);
+
+            List<Result> results = run(generator, endpoints, DURATION);
+            report(results);
+
+            assertThat(results).allSatisfy(result -> assertThat(result.succeeded())
+                    .as(result.endpoint())
+                    .isPositive());
+        }
+    }
+
+    private List<Result> run(
+            OpenModelLoadGenerator generator, Map<String, Supplier<HttpRequest>> endpoints, Duration duration)
+            throws Exception {
+        try (ExecutorService drivers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Result>> running = new ArrayList<>();
+            endpoints.forEach((endpoint, requests) ->
+                    running.add(drivers.submit(() -> generator.run(endpoint, requests, rate(endpoint), duration))));
+            List<Result> results = new ArrayList<>();
+            for (Future<Result> result : running) {
+                results.add(result.get());
+            }
+            return results;
+        }
+    }
+
+    private Map<String, Supplier<HttpRequest>> endpoints() {
+        String performRequest = json(TestModelDataBuilder.getApiPerformHardshipRequest());
+
+        Map<String, Supplier<HttpRequest>> endpoints = new LinkedHashMap<>();
+        endpoints.put(
+                "calculateHardshipForDetail",
+                () -> post("/calculate-hardship-for-detail", MediaType.APPLICATION_JSON_VALUE, json(detailRequest())));
+        endpoints.put(
+                "calculateHardshipForDetails",
+                () -> post(
+                        "/calculate-hardship-for-detail/bulk",
+                        MediaType.APPLICATION_JSON_VALUE,
+                        json(batch(this::detailRequest))));
+        endpoints.put("find", () -> request("/" + key()).GET().build());
+        endpoints.put(
+                "calculateHardship",
+                () -> post("/calculate-hardship", MediaType.APPLICATION_JSON_VALUE, json(calculateRequest())));
+        endpoints.put(
+                "calculateHardshipBatch",
+                () -> post(
+                        "/calculate-hardship/batch",
+                        MediaType.APPLICATION_JSON_VALUE,
+                        json(batch(this::calculateRequest))));
+        endpoints.put(
+                "recalculateHardship",
+                () -> post("/recalculate", MediaType.APPLICATION_NDJSON_VALUE, recalculationRequests()));
+        endpoints.put("create", () -> post("", MediaType.APPLICATION_JSON_VALUE, performRequest));
+        endpoints.put(
+                "update",
+                () -> request("")
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .PUT(HttpRequest.BodyPublishers.ofString(performRequest))
+                        .build());
+        endpoints.put(
+                "rollback",
+                () -> request("/" + key())
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                        .build());
+        return endpoints;
+    }
+
+    private void stubDownstreams() {
+        MAAT.stub(
+                get(urlPathMatching("/hardship/\\d+")),
+                json(TestModelDataBuilder.getApiFindHardshipResponse().withStatus(HardshipReviewStatus.IN_PROGRESS)));
+        MAAT.stub(
+                get(urlPathMatching("/hardship/repId/\\d+/detailType/\\w+")),
+                json(TestModelDataBuilder.getApiHardshipReviewDetails(
+                        HardshipReviewDetailType.EXPENDITURE,
+                        HardshipReviewDetailType.INCOME,
+                        HardshipReviewDetailType.SOL_COSTS)));
+        MAAT.stub(post(urlPathEqualTo("/hardship")), json(TestModelDataBuilder.getApiPersistHardshipResponse()));
+        MAAT.stub(put(urlPathEqualTo("/hardship")), json(TestModelDataBuilder.getApiPersistHardshipResponse()));
+        MAAT.stub(patch(urlPathMatching("/hardship/\\d+")), "");
+        MAAT.stub(
+                get(urlPathMatching("/financial-assessments/\\d+")),
+                json(TestModelDataBuilder.getFinancialAssessmentDTO()));
+        CMA.stub(get(urlPathMatching("/fullAssessmentThreshold/.+")), json(TestModelDataBuilder.FULL_THRESHOLD));
+    }
+
+    private void report(List<Result> results) throws IOException {
+        Duration elapsed = results.stream().map(Result::elapsed).max(Duration::compareTo).orElse(DURATION);
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(
+                "Load test: %.1f req/s per endpoint for %ds, %d keys", RATE, DURATION.toSeconds(), KEYS));
+        lines.add(MAAT.describe());
+        lines.add(CMA.describe());
+        lines.add("Endpoints:");
+        results.forEach(result -> lines.add(result.describe()));
+        lines.add("Downstream calls:");
+        lines.addAll(describeDownstreamCalls(elapsed));
+        log.info(String.join("\n", lines));
+
+        Files.createDirectories(REPORT_DIRECTORY);
+        Files.write(REPORT_DIRECTORY.resolve("summary.txt"), lines);
+        for (Result result : results) {
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(REPORT_DIRECTORY.resolve(result.endpoint() + ".hgrm")))) {
+                result.writeDistribution(out);
+            }
+        }
+    }
+
+    private List<String> describeDownstreamCalls(Duration elapsed) {
+        Map<String, String> downstreams = Map.of(MAAT_HOST, MAAT.name(), CMA_HOST, CMA.name());
+        return meterRegistry.find(CLIENT_REQUESTS_METRIC).timers().stream()
+                .filter(timer -> downstreams.containsKey(timer.getId().getTag("client.name")))
+                .map(timer -> describe(downstreams.get(timer.getId().getTag("client.name")), timer, elapsed))
+                .sorted()
+                .toList();
+    }
+
+    private static String describe(String downstream, Timer timer, Duration elapsed) {
+        Map<Double, Double> percentiles = new HashMap<>();
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            percentiles.put(value.percentile(), value.value(TimeUnit.MILLISECONDS));
+        }
+        Meter.Id id = timer.getId();
+        return String.format(
+                "%-5s %-6s %-48s %-4s count=%-7d %7.1f req/s p50=%6.1fms p95=%6.1fms p99=%6.1fms p99.9=%6.1fms"
+                        + " max=%6.1fms",
+                downstream,
+                id.getTag("method"),
+                id.getTag("uri"),
+                id.getTag("status"),
+                timer.count(),
+                timer.count() / (elapsed.toNanos() / 1_000_000_000.0),
+                percentiles.getOrDefault(0.5, Double.NaN),
+                percentiles.getOrDefault(0.95, Double.NaN),
+                percentiles.getOrDefault(0.99, Double.NaN),
+                percentiles.getOrDefault(0.999, Double.NaN),
+                timer.max(TimeUnit.MILLISECONDS));
+    }
+
+    private static double rate(String endpoint) {
+        return Double.parseDouble(System.getProperty("loadTest.rate." + endpoint, String.valueOf(RATE)));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + ENDPOINT_URL + path))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+                .timeout(Duration.ofMinutes(1));
+    }
+
+    private HttpRequest post(String path, String contentType, String body) {
+        return request(path)
+                .header(HttpHeaders.CONTENT_TYPE, contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private ApiCalculateHardshipByDetailRequest detailRequest() {
+        return new ApiCalculateHardshipByDetailRequest()
+                .withRepId(key())
+                .withDetailType(HardshipReviewDetailType.EXPENDITURE.getType());
+    }
+
+    private ApiCalculateHardshipRequest calculateRequest() {
+        return new ApiCalculateHardshipRequest()
+                .withHardship(TestModelDataBuilder.getHardshipReview().withReviewDate(reviewDate()));
+    }
+
+    private String recalculationRequests() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            body.append(json(HardshipRecalculationRequest.builder()
+                            .reference(String.valueOf(i))
+                            .hardship(TestModelDataBuilder.getHardshipReview())
+                            .thresholdDate(reviewDate().toLocalDate())
+                            .build()))
+                    .append('\n');
+        }
+        return body.toString();
+    }
+
+    private static <T> List<T> batch(Supplier<T> request) {
+        return IntStream.range(0, BATCH_SIZE).mapToObj(i -> request.get()).toList();
+    }
+
+    /**
+     * Spreads review dates over a thousand days, so that threshold lookups are not all served by one interval.
+     */
+    private static LocalDateTime reviewDate() {
+        return FIRST_REVIEW_DATE.plusDays(ThreadLocalRandom.current().nextInt(1000));
+    }
+
+    private static int key() {
+        return ThreadLocalRandom.current().nextInt(1, KEYS + 1);
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
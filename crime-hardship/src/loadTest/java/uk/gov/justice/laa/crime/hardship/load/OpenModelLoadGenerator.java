@@ -0,0 +1,123 @@
+package uk.gov.justice.laa.crime.hardship.load;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Sends requests as an open model: arrivals follow a Poisson process at the target rate whatever the response
+ * times are, so a slow service builds up a queue instead of slowing the load down.
+ * <p>
+ * Latency is measured from the time each request was due to be sent rather than the time it was sent, so any
+ * delay in the generator itself is charged to the service and the percentiles do not suffer from coordinated
+ * omission.
+ */
+final class OpenModelLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final HttpClient client;
+    private final long seed;
+
+    OpenModelLoadGenerator(HttpClient client, long seed) {
+        this.client = client;
+        this.seed = seed;
+    }
+
+    Result run(String endpoint, Supplier<HttpRequest> requests, double ratePerSecond, Duration duration) {
+        Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        LongAdder succeeded = new LongAdder();
+        Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+        List<CompletableFuture<?>> responses = new ArrayList<>();
+        SplittableRandom arrivals = new SplittableRandom(seed ^ endpoint.hashCode());
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+
+        long started = System.nanoTime();
+        long finish = started + duration.toNanos();
+        long due = started;
+        while (due < finish) {
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long scheduled = due;
+            responses.add(client.sendAsync(requests.get(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latency = Math.min(System.nanoTime() - scheduled, HIGHEST_TRACKABLE_NANOS);
+                        if (error == null && response.statusCode() / 100 == 2) {
+                            latencies.recordValue(latency);
+                            succeeded.increment();
+                        } else {
+                            String reason = error == null
+                                    ? String.valueOf(response.statusCode())
+                                    : error.getClass().getSimpleName();
+                            failures.computeIfAbsent(reason, key -> new LongAdder()).increment();
+                        }
+                    }));
+            due += (long) (-Math.log(1 - arrivals.nextDouble()) * meanIntervalNanos);
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+                .exceptionally(error -> null)
+                .join();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        Map<String, Long> failureCounts = new ConcurrentHashMap<>();
+        failures.forEach((reason, count) -> failureCounts.put(reason, count.sum()));
+        return new Result(endpoint, responses.size(), succeeded.sum(), failureCounts, latencies, elapsed);
+    }
+
+    record Result(
+            String endpoint,
+            long sent,
+            long succeeded,
+            Map<String, Long> failures,
+            Histogram latencies,
+            Duration elapsed) {
+
+        double throughput() {
+            return succeeded / (elapsed.toNanos() / 1_000_000_000.0);
+        }
+
+        String describe() {
+            return String.format(
+                    "%-32s sent=%-7d ok=%-7d %7.1f req/s p50=%6.1fms p95=%6.1fms p99=%6.1fms p99.9=%6.1fms"
+                            + " max=%6.1fms failures=%s",
+                    endpoint,
+                    sent,
+                    succeeded,
+                    throughput(),
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(95)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()),
+                    failures);
+        }
+
+        /**
+         * Writes the full latency distribution in milliseconds, in the format read by the HdrHistogram plotter.
+         */
+        void writeDistribution(PrintStream out) {
+            latencies.outputPercentileDistribution(out, 1_000_000.0);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
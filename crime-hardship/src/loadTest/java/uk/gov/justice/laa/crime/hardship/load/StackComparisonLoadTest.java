@@ -0,0 +1,188 @@
+package uk.gov.justice.laa.crime.hardship.load;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.DEFINED_PORT;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.hardship.CrimeHardshipApplication;
+import uk.gov.justice.laa.crime.hardship.config.CrimeHardshipTestConfiguration;
+import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+/**
+ * Fires the same burst of concurrent find requests at the servlet and the reactive hardship endpoints, with
+ * a fixed Court Data API latency, and reports latency percentiles and throughput for each stack.
+ * <p>
+ * Run with {@code ./gradlew loadTest}; {@code -PloadTest.concurrency} and {@code -PloadTest.downstreamDelayMillis}
+ * change the burst size and the simulated downstream latency. Both stacks share the WebClient connection pool,
+ * so the reactive stack is bounded by its 500 connections rather than the 200 Tomcat threads.
+ */
+@Slf4j
+@Import(CrimeHardshipTestConfiguration.class)
+@SpringBootTest(classes = CrimeHardshipApplication.class, webEnvironment = DEFINED_PORT)
+class StackComparisonLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadTest.concurrency", 2000);
+    private static final int DOWNSTREAM_DELAY_MILLIS = Integer.getInteger("loadTest.downstreamDelayMillis", 200);
+    private static final String SERVLET_URL = "/api/internal/v1/hardship/";
+    private static final String REACTIVE_URL = "/api/internal/v1/reactive/hardship/";
+
+    private static final WireMockServer DOWNSTREAM = startDownstream();
+
+    @Value("${server.port}")
+    private int port;
+
+    @DynamicPropertySource
+    static void downstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("wiremock.server.port", DOWNSTREAM::port);
+        registry.add("wiremock.server.baseUrl", DOWNSTREAM::baseUrl);
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        DOWNSTREAM.stop();
+    }
+
+    @Test
+    void givenConcurrentFindRequests_whenBothStacksAreLoaded_thenLatenciesAreReported() throws Exception {
+        // warm up both stacks, including the OAuth token and connection pools
+        run(SERVLET_URL, 50);
+        run(REACTIVE_URL, 50);
+
+        Result servlet = run(SERVLET_URL, CONCURRENCY);
+        Result reactive = run(REACTIVE_URL, CONCURRENCY);
+
+        log.info(
+                "Load test: {} concurrent requests, {}ms downstream latency\n{}\n{}",
+                CONCURRENCY,
+                DOWNSTREAM_DELAY_MILLIS,
+                servlet.describe("servlet"),
+                reactive.describe("reactive"));
+
+        assertThat(servlet.failures()).isZero();
+        assertThat(reactive.failures()).isZero();
+    }
+
+    private Result run(String path, int requests) throws Exception {
+        URI uri = URI.create("http://localhost:" + port + path + TestModelDataBuilder.HARDSHIP_ID);
+        CountDownLatch start = new CountDownLatch(1);
+        try (HttpClient client = HttpClient.newBuilder()
+                        .executor(Executors.newVirtualThreadPerTaskExecutor())
+                        .build();
+                ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> latencies = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                latencies.add(callers.submit(() -> {
+                    start.await();
+                    long started = System.nanoTime();
+                    HttpResponse<Void> response = client.send(
+                            HttpRequest.newBuilder(uri)
+                                    .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+                                    .timeout(Duration.ofMinutes(1))
+                                    .GET()
+                                    .build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    return response.statusCode() == 200 ? System.nanoTime() - started : -1L;
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            long[] nanos = new long[requests];
+            int failures = 0;
+            for (int i = 0; i < requests; i++) {
+                long latency;
+                try {
+                    latency = latencies.get(i).get();
+                } catch (Exception e) {
+                    latency = -1L;
+                }
+                if (latency < 0) {
+                    failures++;
+                }
+                nanos[i] = latency;
+            }
+            return new Result(nanos, failures, Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    private static WireMockServer startDownstream() {
+        WireMockServer server = new WireMockServer(
+                options().dynamicPort().asynchronousResponseEnabled(true).containerThreads(400));
+        server.start();
+        try {
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+            server.stubFor(post("/oauth2/token")
+                    .willReturn(aResponse()
+                            .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .withBody(objectMapper.writeValueAsString(Map.of(
+                                    "expires_in", 3600,
+                                    "token_type", "Bearer",
+                                    "access_token", "token")))));
+            String hardship = objectMapper.writeValueAsString(TestModelDataBuilder.getApiFindHardshipResponse());
+            server.stubFor(get(urlPathMatching("/hardship/\\d+"))
+                    .willReturn(aResponse()
+                            .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .withBody(hardship)
+                            .withFixedDelay(DOWNSTREAM_DELAY_MILLIS)));
+        } catch (Exception e) {
+            server.stop();
+            throw new IllegalStateException("Unable to stub the downstream APIs", e);
+        }
+        return server;
+    }
+
+    private record Result(long[] nanos, int failures, Duration elapsed) {
+
+        String describe(String stack) {
+            long[] succeeded = Arrays.stream(nanos).filter(latency -> latency >= 0).sorted().toArray();
+            return String.format(
+                    "%-8s p50=%dms p95=%dms p99=%dms max=%dms throughput=%.0f req/s failures=%d",
+                    stack,
+                    percentile(succeeded, 0.50),
+                    percentile(succeeded, 0.95),
+                    percentile(succeeded, 0.99),
+                    percentile(succeeded, 1.0),
+                    nanos.length / (elapsed.toNanos() / 1_000_000_000.0),
+                    failures);
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return Duration.ofNanos(sorted[Math.max(index, 0)]).toMillis();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import uk.gov.justice.laa.crime.common.model.hardship.ApiHardshipDetail;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The hardship details held by MAAT for a rep id and detail type, with the summary calculated from them.
+ */
+public record CachedHardshipDetails(List<ApiHardshipDetail> details, BigDecimal summary) {}
@@ -0,0 +1,84 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Caches the JWTs decoded by another {@link JwtDecoder}, keyed by the SHA-256 hash of the token so that raw
+ * bearer tokens are not held in memory.
+ * <p>
+ * Callers reuse the same token for many requests, so its signature and claims are only validated the first
+ * time it is seen. An entry expires when the token does, and tokens that fail validation are never cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Duration maximumTimeToLive;
+    private final Cache<String, Jwt> jwts;
+    private final Timer decodeTimer;
+
+    public CachingJwtDecoder(
+            JwtDecoder delegate, CachingConfiguration.Jwt configuration, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maximumTimeToLive = configuration.getMaximumTimeToLive();
+        this.jwts = Caffeine.newBuilder()
+                .maximumSize(configuration.getMaximumSize())
+                .expireAfter(Expiry.creating((String key, Jwt jwt) -> timeToLive(jwt, Instant.now())))
+                .recordStats()
+                .build();
+        this.decodeTimer = Timer.builder("hardship.jwt.decode")
+                .description("Time taken to validate and decode an inbound JWT that was not cached")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, jwts, "jwt-decoder");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = jwts.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        Jwt jwt = decodeTimer.record(() -> delegate.decode(token));
+        jwts.put(key, jwt);
+        return jwt;
+    }
+
+    Duration timeToLive(Jwt jwt, Instant now) {
+        if (jwt.getExpiresAt() == null) {
+            return maximumTimeToLive;
+        }
+        Duration untilExpiry = Duration.between(now, jwt.getExpiresAt());
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiry.compareTo(maximumTimeToLive) < 0 ? untilExpiry : maximumTimeToLive;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
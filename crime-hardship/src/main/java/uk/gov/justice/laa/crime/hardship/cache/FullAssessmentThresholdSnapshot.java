@@ -0,0 +1,166 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+import uk.gov.justice.laa.crime.hardship.service.CrimeMeansAssessmentService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persists the learned threshold intervals to a local file so that a restarted pod can answer
+ * threshold lookups before its first call to CMA.
+ * <p>
+ * The snapshot is restored once the context has started, which is before the readiness state is
+ * published, and the restored intervals are then re-verified against CMA in the background. Each
+ * interval keeps the time it was last verified, so an old snapshot is only served as a last known
+ * threshold while CMA is unavailable, never as a fresh one.
+ * <p>
+ * Several pods may share the snapshot path, so each write goes to its own temporary file before it
+ * is moved into place.
+ */
+@Slf4j
+@Component
+public class FullAssessmentThresholdSnapshot {
+
+    private static final String HEADER = "# full assessment thresholds v1";
+    private static final String SEPARATOR = ",";
+
+    private final FullAssessmentThresholdStore thresholdStore;
+    private final CrimeMeansAssessmentService crimeMeansAssessmentService;
+    private final CachingConfiguration.Snapshot configuration;
+    private ScheduledExecutorService writer;
+    private long writtenVersion = -1;
+
+    public FullAssessmentThresholdSnapshot(
+            FullAssessmentThresholdStore thresholdStore,
+            CrimeMeansAssessmentService crimeMeansAssessmentService,
+            CachingConfiguration cachingConfiguration) {
+        this.thresholdStore = thresholdStore;
+        this.crimeMeansAssessmentService = crimeMeansAssessmentService;
+        this.configuration = cachingConfiguration.getThreshold().getSnapshot();
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void restore() {
+        if (!configuration.isEnabled() || !Files.isReadable(configuration.getPath())) {
+            return;
+        }
+        try {
+            List<ThresholdInterval> intervals = read(configuration.getPath());
+            thresholdStore.restore(intervals);
+            writtenVersion = thresholdStore.version();
+            log.info(
+                    "Restored {} full assessment threshold intervals from {}",
+                    intervals.size(),
+                    configuration.getPath());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to restore full assessment thresholds from {}", configuration.getPath(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!configuration.isEnabled()) {
+            return;
+        }
+        List<ThresholdInterval> restored = thresholdStore.snapshot();
+        Thread.ofVirtual().name("threshold-snapshot-refresh").start(() -> refresh(restored));
+
+        long interval = configuration.getWriteInterval().toMillis();
+        writer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("threshold-snapshot-writer").daemon().factory());
+        writer.scheduleWithFixedDelay(this::writeIfChanged, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (writer != null) {
+            writer.shutdownNow();
+            writeIfChanged();
+        }
+    }
+
+    synchronized void writeIfChanged() {
+        long version = thresholdStore.version();
+        if (version == writtenVersion) {
+            return;
+        }
+        try {
+            write(configuration.getPath(), thresholdStore.snapshot());
+            writtenVersion = version;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to write full assessment threshold snapshot to {}", configuration.getPath(), e);
+        }
+    }
+
+    private void refresh(List<ThresholdInterval> intervals) {
+        for (ThresholdInterval interval : intervals) {
+            try {
+                crimeMeansAssessmentService.refreshFullAssessmentThreshold(interval.from());
+                if (!interval.to().equals(interval.from())) {
+                    crimeMeansAssessmentService.refreshFullAssessmentThreshold(interval.to());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Unable to refresh restored full assessment threshold for {}", interval.from(), e);
+            }
+        }
+    }
+
+    static void write(Path path, List<ThresholdInterval> intervals) throws IOException {
+        List<String> lines = new ArrayList<>(intervals.size() + 1);
+        lines.add(HEADER);
+        intervals.forEach(interval -> lines.add(String.join(
+                SEPARATOR,
+                interval.from().toString(),
+                interval.to().toString(),
+                interval.threshold().toPlainString(),
+                interval.verifiedAt().toString())));
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, lines, StandardCharsets.UTF_8);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    static List<ThresholdInterval> read(Path path) throws IOException {
+        try (var lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            return lines.filter(line -> !line.isBlank() && !line.startsWith("#"))
+                    .map(line -> {
+                        String[] fields = line.split(SEPARATOR);
+                        if (fields.length != 4) {
+                            throw new UncheckedIOException(new IOException("Malformed snapshot line: " + line));
+                        }
+                        return new ThresholdInterval(
+                                LocalDate.parse(fields[0]),
+                                LocalDate.parse(fields[1]),
+                                new BigDecimal(fields[2]),
+                                Instant.parse(fields[3]));
+                    })
+                    .toList();
+        }
+    }
+}
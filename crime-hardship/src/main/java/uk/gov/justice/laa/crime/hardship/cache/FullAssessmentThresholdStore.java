@@ -0,0 +1,107 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory table of effective-dated full assessment thresholds.
+ * <p>
+ * Only dates that have been fetched from CMA are known. Consecutive fetched dates that share a
+ * threshold are merged into one interval to keep the table small, but an unfetched date between two
+ * intervals is never assumed to share their threshold, as the threshold may have changed and changed
+ * back in the gap. Any date falling inside a known interval is answered without a call to CMA.
+ */
+@Component
+public class FullAssessmentThresholdStore {
+
+    private final ConcurrentSkipListMap<LocalDate, ThresholdInterval> intervals = new ConcurrentSkipListMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    public Optional<ThresholdInterval> find(LocalDate date) {
+        return Optional.ofNullable(intervals.floorEntry(date))
+                .map(Map.Entry::getValue)
+                .filter(interval -> interval.contains(date));
+    }
+
+    public Optional<ThresholdInterval> findLatestOnOrBefore(LocalDate date) {
+        return Optional.ofNullable(intervals.floorEntry(date)).map(Map.Entry::getValue);
+    }
+
+    public int size() {
+        return intervals.size();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public List<ThresholdInterval> snapshot() {
+        return List.copyOf(intervals.values());
+    }
+
+    public synchronized void restore(Collection<ThresholdInterval> restored) {
+        restored.stream()
+                .filter(interval -> find(interval.from()).isEmpty() && find(interval.to()).isEmpty())
+                .forEach(interval -> intervals.put(interval.from(), interval));
+        version.incrementAndGet();
+    }
+
+    public synchronized void put(LocalDate date, BigDecimal threshold, Instant verifiedAt) {
+        version.incrementAndGet();
+        Optional<ThresholdInterval> containing = find(date);
+        if (containing.isPresent()) {
+            ThresholdInterval interval = containing.get();
+            if (sameThreshold(interval, threshold)) {
+                intervals.put(interval.from(), interval.withVerifiedAt(verifiedAt));
+                return;
+            }
+            split(interval, date);
+        }
+
+        ThresholdInterval merged = new ThresholdInterval(date, date, threshold, verifiedAt);
+        Map.Entry<LocalDate, ThresholdInterval> lower = intervals.lowerEntry(date);
+        if (lower != null && touches(lower.getValue().to(), date) && sameThreshold(lower.getValue(), threshold)) {
+            intervals.remove(lower.getKey());
+            merged = lower.getValue().mergeWith(merged);
+        }
+        Map.Entry<LocalDate, ThresholdInterval> higher = intervals.higherEntry(date);
+        if (higher != null && touches(date, higher.getValue().from()) && sameThreshold(higher.getValue(), threshold)) {
+            intervals.remove(higher.getKey());
+            merged = merged.mergeWith(higher.getValue());
+        }
+        intervals.put(merged.from(), merged);
+    }
+
+    private static boolean touches(LocalDate to, LocalDate from) {
+        return to.plusDays(1).equals(from);
+    }
+
+    private static boolean sameThreshold(ThresholdInterval interval, BigDecimal threshold) {
+        return interval.threshold().compareTo(threshold) == 0;
+    }
+
+    private void split(ThresholdInterval interval, LocalDate date) {
+        intervals.remove(interval.from());
+        if (interval.from().isBefore(date)) {
+            intervals.put(
+                    interval.from(),
+                    new ThresholdInterval(
+                            interval.from(), date.minusDays(1), interval.threshold(), interval.verifiedAt()));
+        }
+        if (interval.to().isAfter(date)) {
+            intervals.put(
+                    date.plusDays(1),
+                    new ThresholdInterval(
+                            date.plusDays(1), interval.to(), interval.threshold(), interval.verifiedAt()));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.enums.HardshipReviewDetailType;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Bounded cache of hardship details and their summaries, keyed by rep id and detail type.
+ * <p>
+ * Entries are held as futures so that a load still in flight when its rep is invalidated is discarded rather
+ * than cached, and concurrent loads of the same key share one MAAT API call. Rollbacks only carry the hardship
+ * review id, so the rep id of every review persisted through this service is remembered; a rollback of a
+ * review that is not known here clears the whole cache.
+ */
+@Component
+public class HardshipDetailCache {
+
+    private final boolean enabled;
+    private final AsyncCache<HardshipDetailKey, CachedHardshipDetails> details;
+    private final Cache<Integer, Integer> repIdsByHardshipReviewId;
+
+    public HardshipDetailCache(CachingConfiguration cachingConfiguration, MeterRegistry meterRegistry) {
+        CachingConfiguration.HardshipDetail configuration = cachingConfiguration.getHardshipDetail();
+        this.enabled = configuration.isEnabled();
+        this.details = Caffeine.newBuilder()
+                .maximumSize(configuration.getMaximumSize())
+                .expireAfterWrite(configuration.getTimeToLive())
+                .recordStats()
+                .buildAsync();
+        this.repIdsByHardshipReviewId = Caffeine.newBuilder()
+                .maximumSize(configuration.getMaximumSize())
+                .expireAfterWrite(configuration.getTimeToLive())
+                .build();
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, details.synchronous(), "hardship-details");
+        }
+    }
+
+    public CachedHardshipDetails get(Integer repId, String detailType, Supplier<CachedHardshipDetails> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CompletableFuture<CachedHardshipDetails> created = new CompletableFuture<>();
+        CompletableFuture<CachedHardshipDetails> existing =
+                details.asMap().putIfAbsent(new HardshipDetailKey(repId, detailType), created);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            created.complete(loader.get());
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        }
+        return created.join();
+    }
+
+    public Mono<CachedHardshipDetails> getAsync(
+            Integer repId, String detailType, Supplier<Mono<CachedHardshipDetails>> loader) {
+        if (!enabled) {
+            return Mono.defer(loader);
+        }
+        return Mono.defer(() -> {
+            CompletableFuture<CachedHardshipDetails> created = new CompletableFuture<>();
+            CompletableFuture<CachedHardshipDetails> existing =
+                    details.asMap().putIfAbsent(new HardshipDetailKey(repId, detailType), created);
+            if (existing != null) {
+                return Mono.fromFuture(existing, true);
+            }
+            return loader.get()
+                    .doOnSuccess(created::complete)
+                    .doOnError(created::completeExceptionally)
+                    .doOnCancel(() -> created.cancel(false));
+        });
+    }
+
+    public void rememberHardshipReview(Integer hardshipReviewId, Integer repId) {
+        if (enabled && hardshipReviewId != null && repId != null) {
+            repIdsByHardshipReviewId.put(hardshipReviewId, repId);
+        }
+    }
+
+    public void invalidateRep(Integer repId) {
+        if (!enabled || repId == null) {
+            return;
+        }
+        for (HardshipReviewDetailType detailType : HardshipReviewDetailType.values()) {
+            details.synchronous().invalidate(new HardshipDetailKey(repId, detailType.getType()));
+        }
+    }
+
+    public void invalidateHardshipReview(Integer hardshipReviewId) {
+        if (!enabled) {
+            return;
+        }
+        Integer repId = hardshipReviewId == null ? null : repIdsByHardshipReviewId.getIfPresent(hardshipReviewId);
+        if (repId != null) {
+            invalidateRep(repId);
+        } else {
+            details.synchronous().invalidateAll();
+        }
+    }
+
+    private static CachedHardshipDetails join(CompletableFuture<CachedHardshipDetails> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record HardshipDetailKey(Integer repId, String detailType) {}
+}
@@ -0,0 +1,68 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import uk.gov.justice.laa.crime.common.model.hardship.ApiFindHardshipResponse;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Keeps the last serialized response for each hardship review. When the Court Data API returns the same bytes
+ * as last time, the cached response and its ETag are reused and the review is neither mapped nor serialized
+ * again.
+ */
+@Component
+public class HardshipResponseCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Integer, SerializedHardship> responses;
+
+    public HardshipResponseCache(ObjectMapper objectMapper, CachingConfiguration cachingConfiguration) {
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(cachingConfiguration.getHardshipResponse().getMaximumBytes())
+                .weigher((Integer hardshipReviewId, SerializedHardship hardship) -> hardship.body().length)
+                .build();
+    }
+
+    public SerializedHardship serialize(Integer hardshipReviewId, byte[] source) {
+        byte[] sourceDigest = digest(source);
+        SerializedHardship cached = responses.getIfPresent(hardshipReviewId);
+        if (cached != null && Arrays.equals(cached.sourceDigest(), sourceDigest)) {
+            return cached;
+        }
+        try {
+            ApiFindHardshipResponse response = objectMapper.readValue(source, ApiFindHardshipResponse.class);
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            SerializedHardship serialized = new SerializedHardship(body, eTag(body), sourceDigest);
+            responses.put(hardshipReviewId, serialized);
+            return serialized;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read hardship review " + hardshipReviewId, e);
+        }
+    }
+
+    private static String eTag(byte[] body) {
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest(body)) + "\"";
+    }
+
+    private static byte[] digest(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Cache handed to the resource server's JWT decoder for the issuer's JWK set, which the decoder stores as JSON
+ * keyed by the JWK set URI.
+ * <p>
+ * Without it the issuer is discovered and the JWK set fetched by the first request after start-up. Spring Boot's
+ * issuer decoder only runs its discovery when it first decodes a token, so once the application is ready the
+ * decoder is handed a token it cannot parse to make it initialise, and the JWK set is fetched into the cache.
+ * Both happen on the ready event itself, before the application reports that it accepts traffic. The set is then
+ * refreshed in the background, so requests always find the keys cached. The decoder still fetches the set itself
+ * when a token is signed with a key it does not know.
+ */
+@Slf4j
+public class JwkSetCache extends ConcurrentMapCache {
+
+    private static final String DISCOVERY_PATH = "/.well-known/openid-configuration";
+    private static final String REFRESH_METRIC = "hardship.jwks.refresh";
+    private static final String UNPARSEABLE_TOKEN = "initialise";
+
+    private final CachingConfiguration.JwkSet configuration;
+    private final String issuerUri;
+    private final RestClient restClient;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<JwtDecoder> jwtDecoder;
+    private ScheduledExecutorService refresher;
+
+    public JwkSetCache(
+            CachingConfiguration cachingConfiguration,
+            OAuth2ResourceServerProperties resourceServerProperties,
+            RestClient.Builder restClientBuilder,
+            MeterRegistry meterRegistry,
+            ObjectProvider<JwtDecoder> jwtDecoder) {
+        super("jwk-set");
+        this.configuration = cachingConfiguration.getJwkSet();
+        this.issuerUri = resourceServerProperties.getJwt().getIssuerUri();
+        this.restClient = restClientBuilder.build();
+        this.meterRegistry = meterRegistry;
+        this.jwtDecoder = jwtDecoder;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!configuration.isPrefetch() || issuerUri == null) {
+            return;
+        }
+        long interval = configuration.getRefreshInterval().toMillis();
+        refresher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("jwk-set-refresher").daemon().factory());
+        prefetch();
+        refresher.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    void prefetch() {
+        try {
+            jwtDecoder.ifAvailable(JwkSetCache::initialise);
+        } catch (RuntimeException e) {
+            log.warn("Unable to initialise the JWT decoder for {}", issuerUri, e);
+        }
+        try {
+            fetch(discoverJwkSetUri());
+        } catch (RuntimeException e) {
+            log.warn("Unable to prefetch the JWK set for {}", issuerUri, e);
+        }
+    }
+
+    /**
+     * Runs the decoder's issuer discovery, if it has not run yet, by decoding a token that cannot be parsed. The
+     * token is always rejected; a failed discovery is thrown as some other exception and retried by the next
+     * decode.
+     */
+    private static void initialise(JwtDecoder decoder) {
+        try {
+            decoder.decode(UNPARSEABLE_TOKEN);
+        } catch (JwtException expected) {
+            // discovery ran and the decoder rejected the token
+        }
+    }
+
+    /**
+     * Fetches every cached JWK set again, keeping the cached set if the fetch fails.
+     */
+    void refresh() {
+        for (Object jwkSetUri : List.copyOf(getNativeCache().keySet())) {
+            try {
+                fetch(jwkSetUri.toString());
+            } catch (RuntimeException e) {
+                log.warn("Unable to refresh the JWK set from {}", jwkSetUri, e);
+            }
+        }
+    }
+
+    private void fetch(String jwkSetUri) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
+        try {
+            String jwkSet = restClient.get().uri(jwkSetUri).retrieve().body(String.class);
+            if (jwkSet == null) {
+                throw new IllegalStateException("Empty JWK set returned from " + jwkSetUri);
+            }
+            put(jwkSetUri, jwkSet);
+            result = "success";
+        } finally {
+            sample.stop(Timer.builder(REFRESH_METRIC)
+                    .description("Time taken to fetch the JWK set used to validate inbound JWTs")
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    private String discoverJwkSetUri() {
+        String discoveryUri = issuerUri.replaceAll("/$", "") + DISCOVERY_PATH;
+        Map<String, Object> metadata =
+                restClient.get().uri(discoveryUri).retrieve().body(new ParameterizedTypeReference<>() {});
+        if (metadata == null || !(metadata.get("jwks_uri") instanceof String jwkSetUri)) {
+            throw new IllegalStateException("No jwks_uri published at " + discoveryUri);
+        }
+        return jwkSetUri;
+    }
+}
@@ -0,0 +1,89 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import io.micrometer.context.ContextRegistry;
+import uk.gov.justice.laa.crime.hardship.concurrent.SingleFlight;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the Court Data API reads made while serving a single inbound request, so that validation,
+ * calculation and persistence share one read of each entity, and counts the downstream calls the request made.
+ * <p>
+ * The current context is held in a thread local that is registered with the {@link ContextRegistry}, so it
+ * follows the request onto Reactor and context-propagating executor threads.
+ */
+public class RequestFetchContext {
+
+    public static final String CONTEXT_KEY = "hardship.request-fetch-context";
+
+    private static final ThreadLocal<RequestFetchContext> CURRENT = new ThreadLocal<>();
+
+    static {
+        ContextRegistry.getInstance()
+                .registerThreadLocalAccessor(CONTEXT_KEY, CURRENT::get, CURRENT::set, CURRENT::remove);
+    }
+
+    private final Map<ReadKey, Optional<Object>> reads = new ConcurrentHashMap<>();
+    private final SingleFlight<ReadKey, Optional<Object>> pendingReads = new SingleFlight<>();
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+    private final AtomicInteger memoizedReads = new AtomicInteger();
+
+    public static RequestFetchContext open() {
+        RequestFetchContext context = new RequestFetchContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    public static Optional<RequestFetchContext> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V read(String operation, Object id, Supplier<V> loader) {
+        ReadKey key = new ReadKey(operation, id);
+        Optional<Object> read = reads.get(key);
+        if (read != null) {
+            memoizedReads.incrementAndGet();
+            return (V) read.orElse(null);
+        }
+        return (V) pendingReads.execute(key, () -> load(key, loader)).orElse(null);
+    }
+
+    /**
+     * Forgets every read made so far; called after a write so that later reads see the persisted state.
+     */
+    public void invalidateAll() {
+        reads.clear();
+    }
+
+    public void recordDownstreamCall() {
+        downstreamCalls.incrementAndGet();
+    }
+
+    public int downstreamCalls() {
+        return downstreamCalls.get();
+    }
+
+    public int memoizedReads() {
+        return memoizedReads.get();
+    }
+
+    private Optional<Object> load(ReadKey key, Supplier<?> loader) {
+        Optional<Object> read = reads.get(key);
+        if (read == null) {
+            read = Optional.ofNullable(loader.get());
+            reads.put(key, read);
+        }
+        return read;
+    }
+
+    private record ReadKey(String operation, Object id) {}
+}
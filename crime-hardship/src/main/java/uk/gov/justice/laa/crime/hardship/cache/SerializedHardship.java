@@ -0,0 +1,7 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+/**
+ * A hardship review as serialized by this service, with the strong ETag of those bytes and the digest of the
+ * Court Data API response they were produced from.
+ */
+public record SerializedHardship(byte[] body, String eTag, byte[] sourceDigest) {}
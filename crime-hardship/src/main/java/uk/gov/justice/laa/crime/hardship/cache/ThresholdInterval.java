@@ -0,0 +1,29 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record ThresholdInterval(LocalDate from, LocalDate to, BigDecimal threshold, Instant verifiedAt) {
+
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(from) && !date.isAfter(to);
+    }
+
+    public boolean isStale(Instant now, Duration timeToLive) {
+        return !now.isBefore(verifiedAt.plus(timeToLive));
+    }
+
+    ThresholdInterval withVerifiedAt(Instant verified) {
+        return new ThresholdInterval(from, to, threshold, verified);
+    }
+
+    ThresholdInterval mergeWith(ThresholdInterval other) {
+        return new ThresholdInterval(
+                from.isBefore(other.from) ? from : other.from,
+                to.isAfter(other.to) ? to : other.to,
+                threshold,
+                verifiedAt.isAfter(other.verifiedAt) ? verifiedAt : other.verifiedAt);
+    }
+}
@@ -0,0 +1,51 @@
+package uk.gov.justice.laa.crime.hardship.calculation;
+
+import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
+import uk.gov.justice.laa.crime.common.model.hardship.SolicitorCosts;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Reference implementation of the hardship arithmetic in {@link BigDecimal}.
+ */
+public class BigDecimalCalculationEngine implements HardshipCalculationEngine {
+
+    @Override
+    public BigDecimal calculateTotal(HardshipReview hardship) {
+        BigDecimal total = Stream.of(hardship.getDeniedIncome(), hardship.getExtraExpenditure())
+                .flatMap(Collection::stream)
+                .filter(item -> Boolean.TRUE.equals(item.getAccepted()))
+                .map(item -> item.getAmount()
+                        .multiply(BigDecimal.valueOf(item.getFrequency().getWeighting())))
+                .reduce(BigDecimal::add)
+                .orElse(BigDecimal.ZERO);
+
+        SolicitorCosts solicitorCosts = hardship.getSolicitorCosts();
+        if (solicitorCosts != null) {
+            BigDecimal estimatedTotal;
+            if (solicitorCosts.getEstimatedTotal() != null) {
+                estimatedTotal = solicitorCosts.getEstimatedTotal();
+            } else {
+                estimatedTotal = solicitorCosts
+                        .getRate()
+                        .multiply(solicitorCosts.getHours())
+                        .add(solicitorCosts.getVat())
+                        .add(Optional.ofNullable(solicitorCosts.getDisbursements())
+                                .orElse(BigDecimal.ZERO));
+                solicitorCosts.setEstimatedTotal(estimatedTotal);
+            }
+            total = total.add(estimatedTotal);
+        }
+        return total;
+    }
+
+    @Override
+    public BigDecimal calculateDisposableIncomeAfterHardship(HardshipReview hardship) {
+        BigDecimal total = calculateTotal(hardship);
+        return hardship.getTotalAnnualDisposableIncome().subtract(total).setScale(2, RoundingMode.HALF_UP);
+    }
+}
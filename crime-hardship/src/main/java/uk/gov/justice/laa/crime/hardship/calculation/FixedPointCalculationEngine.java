@@ -0,0 +1,177 @@
+package uk.gov.justice.laa.crime.hardship.calculation;
+
+import uk.gov.justice.laa.crime.common.model.hardship.DeniedIncome;
+import uk.gov.justice.laa.crime.common.model.hardship.ExtraExpenditure;
+import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
+import uk.gov.justice.laa.crime.common.model.hardship.SolicitorCosts;
+
+import java.math.BigDecimal;
+
+/**
+ * Hardship arithmetic in scaled {@code long}s, with every amount held as a whole number of ten-thousandths of a
+ * pound. Items are accumulated in a plain loop, so no stream, list or intermediate {@link BigDecimal} is created
+ * per item, and only the returned values are built as {@link BigDecimal}s.
+ * <p>
+ * Results are identical to the {@link BigDecimalCalculationEngine}. The scale of each result is tracked
+ * alongside its value, as {@link BigDecimal} addition keeps the larger scale and multiplication adds them, and
+ * rounding is half up as in {@link java.math.RoundingMode#HALF_UP}. A review whose amounts have more than four
+ * decimal places, or whose totals would overflow, is handed to the reference engine instead.
+ */
+public class FixedPointCalculationEngine implements HardshipCalculationEngine {
+
+    static final int SCALE = 4;
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L};
+    private static final int RESULT_SCALE = 2;
+
+    private final HardshipCalculationEngine reference;
+
+    public FixedPointCalculationEngine() {
+        this(new BigDecimalCalculationEngine());
+    }
+
+    FixedPointCalculationEngine(HardshipCalculationEngine reference) {
+        this.reference = reference;
+    }
+
+    @Override
+    public BigDecimal calculateTotal(HardshipReview hardship) {
+        long total;
+        int scale;
+        try {
+            total = total(hardship);
+            scale = totalScale(hardship);
+            setEstimatedTotal(hardship.getSolicitorCosts());
+        } catch (ArithmeticException e) {
+            return reference.calculateTotal(hardship);
+        }
+        return BigDecimal.valueOf(total / POWERS_OF_TEN[SCALE - scale], scale);
+    }
+
+    @Override
+    public BigDecimal calculateDisposableIncomeAfterHardship(HardshipReview hardship) {
+        long disposableIncome;
+        try {
+            disposableIncome = Math.subtractExact(toScaled(hardship.getTotalAnnualDisposableIncome()), total(hardship));
+            setEstimatedTotal(hardship.getSolicitorCosts());
+        } catch (ArithmeticException e) {
+            return reference.calculateDisposableIncomeAfterHardship(hardship);
+        }
+        return BigDecimal.valueOf(roundHalfUp(disposableIncome, SCALE - RESULT_SCALE), RESULT_SCALE);
+    }
+
+    private static long total(HardshipReview hardship) {
+        long total = 0;
+        for (DeniedIncome item : hardship.getDeniedIncome()) {
+            if (Boolean.TRUE.equals(item.getAccepted())) {
+                total = Math.addExact(
+                        total, Math.multiplyExact(toScaled(item.getAmount()), item.getFrequency().getWeighting()));
+            }
+        }
+        for (ExtraExpenditure item : hardship.getExtraExpenditure()) {
+            if (Boolean.TRUE.equals(item.getAccepted())) {
+                total = Math.addExact(
+                        total, Math.multiplyExact(toScaled(item.getAmount()), item.getFrequency().getWeighting()));
+            }
+        }
+        SolicitorCosts solicitorCosts = hardship.getSolicitorCosts();
+        if (solicitorCosts != null) {
+            total = Math.addExact(total, estimatedTotal(solicitorCosts));
+        }
+        return total;
+    }
+
+    /**
+     * The scale of the reference total: the largest scale of any accepted item and of the solicitor costs,
+     * or zero when there are neither.
+     */
+    private static int totalScale(HardshipReview hardship) {
+        int scale = 0;
+        for (DeniedIncome item : hardship.getDeniedIncome()) {
+            if (Boolean.TRUE.equals(item.getAccepted())) {
+                scale = Math.max(scale, item.getAmount().scale());
+            }
+        }
+        for (ExtraExpenditure item : hardship.getExtraExpenditure()) {
+            if (Boolean.TRUE.equals(item.getAccepted())) {
+                scale = Math.max(scale, item.getAmount().scale());
+            }
+        }
+        SolicitorCosts solicitorCosts = hardship.getSolicitorCosts();
+        if (solicitorCosts != null) {
+            scale = Math.max(scale, estimatedTotalScale(solicitorCosts));
+        }
+        return scale;
+    }
+
+    private static long estimatedTotal(SolicitorCosts solicitorCosts) {
+        if (solicitorCosts.getEstimatedTotal() != null) {
+            return toScaled(solicitorCosts.getEstimatedTotal());
+        }
+        BigDecimal rate = solicitorCosts.getRate();
+        BigDecimal hours = solicitorCosts.getHours();
+        int costScale = rate.scale() + hours.scale();
+        checkScale(costScale);
+        long cost = Math.multiplyExact(
+                Math.multiplyExact(unscaled(rate), unscaled(hours)), POWERS_OF_TEN[SCALE - costScale]);
+        long estimatedTotal = Math.addExact(cost, toScaled(solicitorCosts.getVat()));
+        if (solicitorCosts.getDisbursements() != null) {
+            estimatedTotal = Math.addExact(estimatedTotal, toScaled(solicitorCosts.getDisbursements()));
+        }
+        return estimatedTotal;
+    }
+
+    private static int estimatedTotalScale(SolicitorCosts solicitorCosts) {
+        if (solicitorCosts.getEstimatedTotal() != null) {
+            return solicitorCosts.getEstimatedTotal().scale();
+        }
+        int scale = Math.max(
+                solicitorCosts.getRate().scale() + solicitorCosts.getHours().scale(),
+                solicitorCosts.getVat().scale());
+        if (solicitorCosts.getDisbursements() != null) {
+            scale = Math.max(scale, solicitorCosts.getDisbursements().scale());
+        }
+        return scale;
+    }
+
+    /**
+     * Sets a calculated estimated total on the solicitor costs, as the reference engine does. Only called once
+     * the whole calculation has succeeded, so that a review handed to the reference engine is left untouched.
+     */
+    private static void setEstimatedTotal(SolicitorCosts solicitorCosts) {
+        if (solicitorCosts != null && solicitorCosts.getEstimatedTotal() == null) {
+            int scale = estimatedTotalScale(solicitorCosts);
+            solicitorCosts.setEstimatedTotal(
+                    BigDecimal.valueOf(estimatedTotal(solicitorCosts) / POWERS_OF_TEN[SCALE - scale], scale));
+        }
+    }
+
+    static long toScaled(BigDecimal amount) {
+        int scale = amount.scale();
+        checkScale(scale);
+        return Math.multiplyExact(unscaled(amount), POWERS_OF_TEN[SCALE - scale]);
+    }
+
+    private static long unscaled(BigDecimal amount) {
+        checkScale(amount.scale());
+        return amount.movePointRight(amount.scale()).longValueExact();
+    }
+
+    private static void checkScale(int scale) {
+        if (scale < 0 || scale > SCALE) {
+            throw new ArithmeticException("Scale " + scale + " is outside the fixed-point range");
+        }
+    }
+
+    /**
+     * Drops {@code digits} decimal places, rounding half away from zero.
+     */
+    static long roundHalfUp(long value, int digits) {
+        long divisor = POWERS_OF_TEN[digits];
+        long quotient = value / divisor;
+        long remainder = Math.abs(value % divisor);
+        if (remainder * 2 >= divisor) {
+            quotient += Long.signum(value);
+        }
+        return quotient;
+    }
+}
@@ -0,0 +1,25 @@
+package uk.gov.justice.laa.crime.hardship.calculation;
+
+import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
+
+import java.math.BigDecimal;
+
+/**
+ * Arithmetic of a hardship review. Implementations must give identical results, including the scale of every
+ * returned {@link BigDecimal}, so that they can be swapped without any change to responses or persisted values.
+ */
+public interface HardshipCalculationEngine {
+
+    /**
+     * Returns the annual total of the accepted denied income and extra expenditure items plus the solicitor
+     * costs, unrounded. When the solicitor costs have no estimated total, it is calculated from the rate, hours,
+     * VAT and disbursements and set on them, as it is persisted with the review.
+     */
+    BigDecimal calculateTotal(HardshipReview hardship);
+
+    /**
+     * Returns the review's total annual disposable income less its {@linkplain #calculateTotal(HardshipReview)
+     * total}, rounded half up to two decimal places.
+     */
+    BigDecimal calculateDisposableIncomeAfterHardship(HardshipReview hardship);
+}
@@ -23,6 +23,9 @@ public interface MaatCourtDataApiClient {
     @GetExchange("/hardship/{hardshipId}")
     ApiFindHardshipResponse getHardship(@PathVariable Integer hardshipId);
 
+    @GetExchange("/hardship/{hardshipId}")
+    byte[] getHardshipBody(@PathVariable Integer hardshipId);
+
     @GetExchange("/hardship/repId/{repId}/detailType/{detailType}")
     List<ApiHardshipDetail> getHardshipDetails(@PathVariable Integer repId, @PathVariable String detailType);
 
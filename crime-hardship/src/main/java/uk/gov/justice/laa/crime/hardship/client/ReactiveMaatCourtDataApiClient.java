@@ -0,0 +1,44 @@
+package uk.gov.justice.laa.crime.hardship.client;
+
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiFindHardshipResponse;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiHardshipDetail;
+import uk.gov.justice.laa.crime.common.model.hardship.maat_api.ApiPersistHardshipRequest;
+import uk.gov.justice.laa.crime.common.model.hardship.maat_api.ApiPersistHardshipResponse;
+import uk.gov.justice.laa.crime.hardship.dto.maat_api.FinancialAssessmentDTO;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PatchExchange;
+import org.springframework.web.service.annotation.PostExchange;
+import org.springframework.web.service.annotation.PutExchange;
+
+/**
+ * Non-blocking counterpart of {@link MaatCourtDataApiClient}, backed by the same WebClient.
+ */
+@HttpExchange()
+public interface ReactiveMaatCourtDataApiClient {
+
+    @GetExchange("/hardship/{hardshipId}")
+    Mono<ApiFindHardshipResponse> getHardship(@PathVariable Integer hardshipId);
+
+    @GetExchange("/hardship/repId/{repId}/detailType/{detailType}")
+    Mono<List<ApiHardshipDetail>> getHardshipDetails(@PathVariable Integer repId, @PathVariable String detailType);
+
+    @PostExchange("/hardship")
+    Mono<ApiPersistHardshipResponse> create(@RequestBody ApiPersistHardshipRequest request);
+
+    @PutExchange("/hardship")
+    Mono<ApiPersistHardshipResponse> update(@RequestBody ApiPersistHardshipRequest request);
+
+    @PatchExchange("/hardship/{hardshipId}")
+    Mono<Void> patchHardship(@PathVariable Integer hardshipId, @RequestBody Map<String, Object> updateFields);
+
+    @GetExchange("/financial-assessments/{financialAssessmentId}")
+    Mono<FinancialAssessmentDTO> getFinancialAssessment(@PathVariable Integer financialAssessmentId);
+}
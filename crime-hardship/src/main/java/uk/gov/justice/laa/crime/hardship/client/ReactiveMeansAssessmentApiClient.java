@@ -0,0 +1,19 @@
+package uk.gov.justice.laa.crime.hardship.client;
+
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+
+/**
+ * Non-blocking counterpart of {@link MeansAssessmentApiClient}, backed by the same WebClient.
+ */
+@HttpExchange()
+public interface ReactiveMeansAssessmentApiClient {
+
+    @GetExchange("/fullAssessmentThreshold/{assessmentDate}")
+    Mono<BigDecimal> find(@PathVariable String assessmentDate);
+}
@@ -0,0 +1,121 @@
+package uk.gov.justice.laa.crime.hardship.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reports the carrier threads behind the virtual thread scheduler.
+ * <p>
+ * JDK 21 has no management interface for the scheduler, so the carriers are found by name: a virtual thread
+ * names the carrier it is mounted on, which gives the worker name prefix of the scheduler's pool. Carrier CPU
+ * time is summed; {@code rate(hardship_threads_virtual_carriers_cpu_seconds_total)} divided by the parallelism
+ * gauge gives carrier utilisation. CPU time of carriers that have exited is retained so that the counter stays
+ * monotonic.
+ * <p>
+ * Threads are listed by ID without their stacks, and one sample is shared by every meter read within
+ * {@link #SAMPLE_INTERVAL}, so a scrape lists the threads once.
+ */
+public class CarrierThreadMetrics implements MeterBinder {
+
+    static final Duration SAMPLE_INTERVAL = Duration.ofSeconds(1);
+
+    private static final String WORKER_INFIX = "-worker-";
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final String carrierNamePrefix = carrierNamePrefix();
+    private final Map<Long, Long> carrierCpuNanos = new HashMap<>();
+    private long retiredCpuNanos;
+    private long sampledAt;
+    private boolean sampled;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("hardship.threads.virtual.carriers.parallelism", CarrierThreadMetrics::parallelism)
+                .description("Maximum number of carrier threads that run virtual threads")
+                .register(registry);
+        Gauge.builder("hardship.threads.virtual.carriers.live", this, CarrierThreadMetrics::liveCarriers)
+                .description("Carrier threads currently started by the virtual thread scheduler")
+                .register(registry);
+        FunctionCounter.builder("hardship.threads.virtual.carriers.cpu", this, CarrierThreadMetrics::cpuSeconds)
+                .description("CPU time consumed by carrier threads")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    static int parallelism() {
+        return Integer.getInteger(
+                "jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Returns the name prefix of the scheduler's carrier threads, such as {@code ForkJoinPool-1-worker-}, taken
+     * from the description of a virtual thread while it is mounted.
+     */
+    static String carrierNamePrefix() {
+        AtomicReference<String> description = new AtomicReference<>();
+        try {
+            Thread.ofVirtual()
+                    .start(() -> description.set(Thread.currentThread().toString()))
+                    .join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        String mounted = description.get();
+        int carrier = mounted == null ? -1 : mounted.lastIndexOf('@');
+        int worker = carrier < 0 ? -1 : mounted.lastIndexOf(WORKER_INFIX);
+        if (worker <= carrier) {
+            return null;
+        }
+        return mounted.substring(carrier + 1, worker + WORKER_INFIX.length());
+    }
+
+    synchronized double liveCarriers() {
+        sample();
+        return carrierCpuNanos.size();
+    }
+
+    synchronized double cpuSeconds() {
+        sample();
+        long totalNanos = retiredCpuNanos
+                + carrierCpuNanos.values().stream().mapToLong(Long::longValue).sum();
+        return totalNanos / 1_000_000_000.0;
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+        if (sampled && now - sampledAt < SAMPLE_INTERVAL.toNanos()) {
+            return;
+        }
+        sampled = true;
+        sampledAt = now;
+        if (carrierNamePrefix == null) {
+            return;
+        }
+
+        Map<Long, Long> current = new HashMap<>();
+        for (ThreadInfo thread : threads.getThreadInfo(threads.getAllThreadIds(), 0)) {
+            if (thread != null && thread.getThreadName().startsWith(carrierNamePrefix)) {
+                current.put(thread.getThreadId(), Math.max(0, threads.getThreadCpuTime(thread.getThreadId())));
+            }
+        }
+
+        carrierCpuNanos.forEach((threadId, cpuNanos) -> {
+            if (!current.containsKey(threadId)) {
+                retiredCpuNanos += cpuNanos;
+            }
+        });
+        carrierCpuNanos.clear();
+        carrierCpuNanos.putAll(current);
+    }
+}
@@ -0,0 +1,124 @@
+package uk.gov.justice.laa.crime.hardship.concurrent;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent blocking calls concurrently on virtual threads and fails fast: the first subtask to fail
+ * cancels its siblings, and {@link #join()} rethrows that failure to the caller.
+ * <p>
+ * This mirrors {@code StructuredTaskScope.ShutdownOnFailure}, which is still a preview API on Java 21. The
+ * caller's thread-local context (tracing, request fetch context) is captured when the scope is opened and
+ * restored on every subtask.
+ */
+public class FanOut implements AutoCloseable {
+
+    private static final ContextSnapshotFactory SNAPSHOTS =
+            ContextSnapshotFactory.builder().build();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ContextSnapshot context = SNAPSHOTS.captureAll();
+    private final List<Future<?>> subtasks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    public static FanOut open() {
+        return new FanOut();
+    }
+
+    public <T> Supplier<T> fork(Callable<T> task) {
+        Callable<T> contextual = context.wrap(task);
+        Future<T> subtask = executor.submit(() -> {
+            try {
+                return contextual.call();
+            } catch (Exception | Error e) {
+                if (failure.compareAndSet(null, e)) {
+                    cancelAll();
+                }
+                throw e;
+            }
+        });
+        subtasks.add(subtask);
+        if (failure.get() != null) {
+            subtask.cancel(true);
+        }
+        return subtask::resultNow;
+    }
+
+    /**
+     * Forks a subtask whose failure neither cancels its siblings nor fails {@link #join()}. The failure is
+     * rethrown when the result is read instead, so the caller only sees it once every other subtask has
+     * succeeded. The subtask is still cancelled if a sibling fails.
+     */
+    public <T> Supplier<T> forkIsolated(Callable<T> task) {
+        Future<T> subtask = executor.submit(context.wrap(task));
+        subtasks.add(subtask);
+        if (failure.get() != null) {
+            subtask.cancel(true);
+        }
+        return () -> {
+            if (subtask.state() == Future.State.FAILED) {
+                throw propagate(subtask.exceptionNow());
+            }
+            return subtask.resultNow();
+        };
+    }
+
+    public void fork(Runnable task) {
+        fork(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Waits for every subtask to finish, rethrowing the first failure if there was one.
+     */
+    public void join() {
+        for (Future<?> subtask : subtasks) {
+            try {
+                subtask.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll();
+                throw new IllegalStateException("Interrupted while waiting for concurrent calls", e);
+            } catch (ExecutionException | CancellationException e) {
+                // the first failure is recorded by the subtask itself
+            }
+        }
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw propagate(cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        executor.close();
+    }
+
+    private void cancelAll() {
+        subtasks.forEach(subtask -> subtask.cancel(true));
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,43 @@
+package uk.gov.justice.laa.crime.hardship.concurrent;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Starts a virtual thread per task and keeps count of them, since virtual threads are not reported by the
+ * JVM thread metrics.
+ */
+public class InstrumentedVirtualThreadExecutor implements Executor {
+
+    private final ThreadFactory threadFactory;
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder started = new LongAdder();
+
+    public InstrumentedVirtualThreadExecutor(String namePrefix) {
+        this.threadFactory = Thread.ofVirtual().name(namePrefix, 0).factory();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Thread thread = threadFactory.newThread(() -> {
+            try {
+                command.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+        active.incrementAndGet();
+        started.increment();
+        thread.start();
+    }
+
+    public int active() {
+        return active.get();
+    }
+
+    public long started() {
+        return started.sum();
+    }
+}
@@ -0,0 +1,21 @@
+package uk.gov.justice.laa.crime.hardship.config;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogConfiguration {
+
+    /**
+     * Write one log event for every downstream exchange, including each retried attempt and hedge.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Fraction of exchanges, between 0 and 1, whose request headers are included in the log event. The
+     * Authorization header is never logged.
+     */
+    private double headerSampleRate = 0.0;
+}
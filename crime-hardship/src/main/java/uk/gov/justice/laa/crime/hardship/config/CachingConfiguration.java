@@ -0,0 +1,106 @@
+package uk.gov.justice.laa.crime.hardship.config;
+
+import lombok.Data;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "caching")
+public class CachingConfiguration {
+
+    private Threshold threshold = new Threshold();
+
+    private CourtData courtData = new CourtData();
+
+    private HardshipDetail hardshipDetail = new HardshipDetail();
+
+    private HardshipResponse hardshipResponse = new HardshipResponse();
+
+    private Jwt jwt = new Jwt();
+
+    private JwkSet jwkSet = new JwkSet();
+
+    @Data
+    public static class Threshold {
+
+        private boolean enabled = true;
+
+        private Duration timeToLive = Duration.ofHours(12);
+
+        private Snapshot snapshot = new Snapshot();
+    }
+
+    @Data
+    public static class Snapshot {
+
+        private boolean enabled = false;
+
+        private Path path = Path.of(System.getProperty("java.io.tmpdir"), "crime-hardship", "thresholds.csv");
+
+        private Duration writeInterval = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class CourtData {
+
+        /**
+         * Share a single in-flight MAAT API call between identical concurrent reads.
+         */
+        private boolean coalesceRequests = false;
+    }
+
+    @Data
+    public static class HardshipDetail {
+
+        /**
+         * Cache hardship details and their summary by rep id and detail type. Entries are invalidated when
+         * this service writes a review for the rep; writes made elsewhere are picked up once the entry expires.
+         */
+        private boolean enabled = false;
+
+        private long maximumSize = 10_000;
+
+        private Duration timeToLive = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class HardshipResponse {
+
+        /**
+         * Upper bound on the total size of the serialized hardship reviews kept for conditional GETs.
+         */
+        private long maximumBytes = 32L * 1024 * 1024;
+    }
+
+    @Data
+    public static class Jwt {
+
+        /**
+         * Cache decoded inbound JWTs by the hash of the token, so that a token reused across requests is only
+         * validated once. Entries expire with the token.
+         */
+        private boolean enabled = true;
+
+        private long maximumSize = 10_000;
+
+        /**
+         * Upper bound on how long a decoded token is reused, for tokens with a distant or no expiry.
+         */
+        private Duration maximumTimeToLive = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class JwkSet {
+
+        /**
+         * Run the JWT decoder's issuer discovery and fetch the issuer's JWK set at start-up, then refresh the set
+         * in the background, so that no request waits for discovery or keys.
+         */
+        private boolean prefetch = true;
+
+        private Duration refreshInterval = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.justice.laa.crime.hardship.config;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "calculation")
+public class CalculationConfiguration {
+
+    /**
+     * Arithmetic used for hardship calculations. Both engines give identical results.
+     */
+    private Engine engine = Engine.BIG_DECIMAL;
+
+    public enum Engine {
+        BIG_DECIMAL,
+        FIXED_POINT
+    }
+}
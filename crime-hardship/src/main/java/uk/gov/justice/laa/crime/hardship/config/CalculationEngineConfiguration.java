@@ -0,0 +1,20 @@
+package uk.gov.justice.laa.crime.hardship.config;
+
+import uk.gov.justice.laa.crime.hardship.calculation.BigDecimalCalculationEngine;
+import uk.gov.justice.laa.crime.hardship.calculation.FixedPointCalculationEngine;
+import uk.gov.justice.laa.crime.hardship.calculation.HardshipCalculationEngine;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CalculationEngineConfiguration {
+
+    @Bean
+    HardshipCalculationEngine hardshipCalculationEngine(CalculationConfiguration calculationConfiguration) {
+        return switch (calculationConfiguration.getEngine()) {
+            case BIG_DECIMAL -> new BigDecimalCalculationEngine();
+            case FIXED_POINT -> new FixedPointCalculationEngine();
+        };
+    }
+}
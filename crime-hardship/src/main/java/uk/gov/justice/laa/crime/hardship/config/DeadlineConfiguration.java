@@ -0,0 +1,26 @@
+package uk.gov.justice.laa.crime.hardship.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "deadline")
+public class DeadlineConfiguration {
+
+    private boolean enabled = true;
+
+    /**
+     * Deadline for a request to an endpoint without its own entry in {@link #endpoints}.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Deadlines for particular endpoints, keyed by Ant-style path pattern. The first matching pattern wins.
+     */
+    private Map<String, Duration> endpoints = new LinkedHashMap<>();
+}
@@ -0,0 +1,59 @@
+package uk.gov.justice.laa.crime.hardship.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import uk.gov.justice.laa.crime.hardship.cache.CachingJwtDecoder;
+import uk.gov.justice.laa.crime.hardship.cache.JwkSetCache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.JwkSetUriJwtDecoderBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Tunes the JWT decoder that Spring Boot builds from the issuer URI, rather than replacing it, so that its
+ * issuer discovery and default validators are kept.
+ */
+@Configuration
+public class JwtDecoderConfiguration {
+
+    @Bean
+    JwkSetCache jwkSetCache(
+            CachingConfiguration cachingConfiguration,
+            OAuth2ResourceServerProperties resourceServerProperties,
+            RestClient.Builder restClientBuilder,
+            MeterRegistry meterRegistry,
+            ObjectProvider<JwtDecoder> jwtDecoder) {
+        return new JwkSetCache(
+                cachingConfiguration, resourceServerProperties, restClientBuilder, meterRegistry, jwtDecoder);
+    }
+
+    @Bean
+    JwkSetUriJwtDecoderBuilderCustomizer jwkSetCacheCustomizer(JwkSetCache jwkSetCache) {
+        return builder -> builder.cache(jwkSetCache);
+    }
+
+    /**
+     * Wraps whichever {@link JwtDecoder} is defined in a {@link CachingJwtDecoder}. The post processor is static
+     * and looks its dependencies up lazily so that it does not initialise them early.
+     */
+    @Bean
+    static BeanPostProcessor cachingJwtDecoderPostProcessor(
+            ObjectProvider<CachingConfiguration> cachingConfiguration, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof JwtDecoder jwtDecoder
+                        && !(bean instanceof CachingJwtDecoder)
+                        && cachingConfiguration.getObject().getJwt().isEnabled()) {
+                    return new CachingJwtDecoder(
+                            jwtDecoder, cachingConfiguration.getObject().getJwt(), meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
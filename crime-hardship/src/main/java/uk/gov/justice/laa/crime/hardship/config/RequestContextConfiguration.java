@@ -0,0 +1,50 @@
+package uk.gov.justice.laa.crime.hardship.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import uk.gov.justice.laa.crime.hardship.filter.RequestDeadlineFilter;
+import uk.gov.justice.laa.crime.hardship.filter.RequestFetchContextFilter;
+import uk.gov.justice.laa.crime.hardship.filter.ServerTimingFilter;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class RequestContextConfiguration {
+
+    @Bean
+    FilterRegistrationBean<RequestFetchContextFilter> requestFetchContextFilter(MeterRegistry meterRegistry) {
+        DistributionSummary downstreamCalls = DistributionSummary.builder("hardship.request.downstream.calls")
+                .description("Downstream API calls made while serving a single inbound request")
+                .baseUnit("calls")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Counter memoizedReads = Counter.builder("hardship.request.memoized.reads")
+                .description("Court Data API reads served from the inbound request's fetch context")
+                .register(meterRegistry);
+
+        FilterRegistrationBean<RequestFetchContextFilter> registration =
+                new FilterRegistrationBean<>(new RequestFetchContextFilter(downstreamCalls, memoizedReads));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(DeadlineConfiguration deadlineConfiguration) {
+        FilterRegistrationBean<RequestDeadlineFilter> registration =
+                new FilterRegistrationBean<>(new RequestDeadlineFilter(deadlineConfiguration));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    @Bean
+    FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingConfiguration serverTimingConfiguration) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(serverTimingConfiguration));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
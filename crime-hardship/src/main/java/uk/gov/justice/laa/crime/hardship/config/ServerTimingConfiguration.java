@@ -0,0 +1,16 @@
+package uk.gov.justice.laa.crime.hardship.config;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "server-timing")
+public class ServerTimingConfiguration {
+
+    /**
+     * Add a Server-Timing header to hardship API responses, breaking the request down into the time spent in
+     * each stage. The response body is buffered so that the header can include the time taken to write it.
+     */
+    private boolean enabled = false;
+}
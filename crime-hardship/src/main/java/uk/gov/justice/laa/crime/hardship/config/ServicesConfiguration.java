@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @Data
@@ -29,6 +31,17 @@ public class ServicesConfiguration {
 
         @NotNull
         private String registrationId;
+
+        /**
+         * Maximum number of concurrent MAAT API calls made by a single bulk request.
+         */
+        private int bulkConcurrency = 50;
+
+        private Hedging hedging = new Hedging();
+
+        private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+        private RetryBudget retryBudget = new RetryBudget();
     }
 
     @Data
@@ -41,5 +54,104 @@ public class ServicesConfiguration {
 
         @NotNull
         private String registrationId;
+
+        private Hedging hedging = new Hedging();
+
+        private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+        private RetryBudget retryBudget = new RetryBudget();
+    }
+
+    /**
+     * Hedging of idempotent GET exchanges: when a read has not answered within the given percentile of recent
+     * latencies, an identical request is sent and whichever answers first is used.
+     */
+    @Data
+    @NoArgsConstructor
+    public static class Hedging {
+
+        private boolean enabled = false;
+
+        /**
+         * Percentile of recent latencies after which a hedge is sent, between 0 and 1.
+         */
+        private double percentile = 0.95;
+
+        /**
+         * Lower bound on the hedge delay, so that a fast dependency is not hedged on noise.
+         */
+        private Duration minDelay = Duration.ofMillis(50);
+
+        /**
+         * Maximum number of hedges per GET request, i.e. the extra load hedging may add.
+         */
+        private double maxRatio = 0.05;
+
+        /**
+         * Number of hedges that may be sent in a burst once the allowance has built up.
+         */
+        private int burst = 10;
+
+        /**
+         * Number of recent latencies the percentile is taken from.
+         */
+        private int windowSize = 1000;
+
+        /**
+         * Number of latencies recorded before any request is hedged.
+         */
+        private int minSamples = 100;
+    }
+
+    /**
+     * Adaptive limit on concurrent calls to a downstream service. The limit grows additively while calls
+     * succeed within the latency threshold and shrinks multiplicatively on overload, and calls over the
+     * current limit are rejected straight away.
+     */
+    @Data
+    @NoArgsConstructor
+    public static class ConcurrencyLimit {
+
+        private boolean enabled = false;
+
+        private int initialLimit = 20;
+
+        private int minLimit = 5;
+
+        private int maxLimit = 200;
+
+        /**
+         * Factor the limit is multiplied by when a call is dropped or exceeds the latency threshold.
+         */
+        private double backoffRatio = 0.9;
+
+        /**
+         * Latency above which a successful call is still treated as a sign of overload.
+         */
+        private Duration latencyThreshold = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Caps retries of downstream calls at a fraction of traffic, so that a struggling service is not sent
+     * up to three times its normal load.
+     */
+    @Data
+    @NoArgsConstructor
+    public static class RetryBudget {
+
+        /**
+         * Retries earned by each call, i.e. the extra load retries may add.
+         */
+        private double ratio = 0.2;
+
+        /**
+         * Number of retries that may be made in a burst, e.g. at low traffic or straight after start-up.
+         */
+        private int burst = 10;
+
+        /**
+         * Longest Retry-After delay that is waited for; a 429 or 503 asking for longer is not retried.
+         */
+        private Duration maxRetryAfter = Duration.ofSeconds(10);
     }
 }
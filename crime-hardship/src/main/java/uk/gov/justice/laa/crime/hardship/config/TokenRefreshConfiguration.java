@@ -0,0 +1,33 @@
+package uk.gov.justice.laa.crime.hardship.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "oauth.token-refresh")
+public class TokenRefreshConfiguration {
+
+    /**
+     * Whether client credentials tokens are fetched at start-up and refreshed in the background. When disabled,
+     * tokens are fetched and refreshed inline by the first request that needs one.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long before a token expires it is replaced, capped at half of the token's lifetime.
+     */
+    private Duration refreshAhead = Duration.ofSeconds(60);
+
+    /**
+     * Delay before a failed background fetch is tried again.
+     */
+    private Duration retryInterval = Duration.ofSeconds(10);
+
+    /**
+     * A cached token closer than this to its expiry is not handed to a request, which fetches a new one instead.
+     */
+    private Duration minValidity = Duration.ofSeconds(5);
+}
@@ -0,0 +1,73 @@
+package uk.gov.justice.laa.crime.hardship.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics;
+import uk.gov.justice.laa.crime.hardship.concurrent.CarrierThreadMetrics;
+import uk.gov.justice.laa.crime.hardship.concurrent.InstrumentedVirtualThreadExecutor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Applies when {@code spring.threads.virtual.enabled} is set. Tomcat then handles each request, and so each
+ * blocking Court Data and CMA call, on its own virtual thread; this replaces Boot's Tomcat executor with one
+ * that counts those threads and publishes carrier and pinning metrics alongside it.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration {
+
+    private static final String ACTIVE_THREADS_METRIC = "hardship.threads.virtual.active";
+    private static final String STARTED_THREADS_METRIC = "hardship.threads.virtual.started";
+
+    @Bean
+    @ConditionalOnMissingBean
+    VirtualThreadMetrics virtualThreadMetrics() {
+        return new VirtualThreadMetrics();
+    }
+
+    @Bean
+    CarrierThreadMetrics carrierThreadMetrics() {
+        return new CarrierThreadMetrics();
+    }
+
+    @Bean
+    WebServerFactoryCustomizer<TomcatServletWebServerFactory> instrumentedTomcatExecutorCustomizer(
+            MeterRegistry meterRegistry) {
+        InstrumentedVirtualThreadExecutor executor = new InstrumentedVirtualThreadExecutor("tomcat-handler-");
+        Gauge.builder(ACTIVE_THREADS_METRIC, executor, InstrumentedVirtualThreadExecutor::active)
+                .description("Virtual threads currently running a task")
+                .tag("executor", "tomcat")
+                .register(meterRegistry);
+        FunctionCounter.builder(STARTED_THREADS_METRIC, executor, InstrumentedVirtualThreadExecutor::started)
+                .description("Virtual threads started")
+                .tag("executor", "tomcat")
+                .register(meterRegistry);
+        return new InstrumentedTomcatExecutorCustomizer(executor);
+    }
+
+    /**
+     * Ordered last so that it runs after Boot's own virtual thread customizer and replaces its executor.
+     */
+    record InstrumentedTomcatExecutorCustomizer(InstrumentedVirtualThreadExecutor executor)
+            implements WebServerFactoryCustomizer<TomcatServletWebServerFactory>, Ordered {
+
+        @Override
+        public void customize(TomcatServletWebServerFactory factory) {
+            factory.addProtocolHandlerCustomizers(protocolHandler -> protocolHandler.setExecutor(executor));
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
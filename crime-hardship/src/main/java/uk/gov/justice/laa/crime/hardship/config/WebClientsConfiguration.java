@@ -1,6 +1,9 @@
 package uk.gov.justice.laa.crime.hardship.config;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.resolver.DefaultAddressResolverGroup;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,8 +11,17 @@ import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 import uk.gov.justice.laa.crime.hardship.client.MaatCourtDataApiClient;
 import uk.gov.justice.laa.crime.hardship.client.MeansAssessmentApiClient;
+import uk.gov.justice.laa.crime.hardship.client.ReactiveMaatCourtDataApiClient;
+import uk.gov.justice.laa.crime.hardship.client.ReactiveMeansAssessmentApiClient;
+import uk.gov.justice.laa.crime.hardship.filter.AccessLogFilter;
+import uk.gov.justice.laa.crime.hardship.filter.AdaptiveConcurrencyLimitFilter;
+import uk.gov.justice.laa.crime.hardship.filter.HedgingFilter;
+import uk.gov.justice.laa.crime.hardship.filter.OAuth2BearerTokenFilter;
+import uk.gov.justice.laa.crime.hardship.filter.Resilience4jBulkheadFilter;
+import uk.gov.justice.laa.crime.hardship.filter.Resilience4jCircuitBreakerFilter;
 import uk.gov.justice.laa.crime.hardship.filter.Resilience4jRetryFilter;
 import uk.gov.justice.laa.crime.hardship.filter.WebClientFilters;
+import uk.gov.justice.laa.crime.hardship.oauth.ClientCredentialsTokenManager;
 
 import java.time.Duration;
 import java.util.List;
@@ -21,8 +33,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientProviderBuilder;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
-import org.springframework.security.oauth2.client.web.OAuth2AuthorizedClientRepository;
 import org.springframework.security.oauth2.client.web.reactive.function.client.ServletOAuth2AuthorizedClientExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -58,25 +73,50 @@ public class WebClientsConfiguration {
         };
     }
 
+    /**
+     * Client credentials tokens are not tied to the inbound request, so they are held by the
+     * {@link OAuth2AuthorizedClientService} rather than the servlet request. This lets the WebClients
+     * be used off the request thread, e.g. by background threshold refreshes.
+     */
+    @Bean
+    OAuth2AuthorizedClientManager authorizedClientManager(
+            ClientRegistrationRepository clientRegistrations, OAuth2AuthorizedClientService authorizedClientService) {
+        AuthorizedClientServiceOAuth2AuthorizedClientManager authorizedClientManager =
+                new AuthorizedClientServiceOAuth2AuthorizedClientManager(clientRegistrations, authorizedClientService);
+        authorizedClientManager.setAuthorizedClientProvider(OAuth2AuthorizedClientProviderBuilder.builder()
+                .clientCredentials()
+                .build());
+        return authorizedClientManager;
+    }
+
     @Bean(COURT_DATA_API_WEB_CLIENT_NAME)
     WebClient maatCourtDataWebClient(
             WebClient.Builder webClientBuilder,
             ServicesConfiguration servicesConfiguration,
-            ClientRegistrationRepository clientRegistrations,
-            OAuth2AuthorizedClientRepository authorizedClients,
-            RetryRegistry retryRegistry) {
+            OAuth2AuthorizedClientManager authorizedClientManager,
+            ClientCredentialsTokenManager tokenManager,
+            TokenRefreshConfiguration tokenRefreshConfiguration,
+            AccessLogConfiguration accessLogConfiguration,
+            ResilienceRegistries resilienceRegistries) {
 
-        ServletOAuth2AuthorizedClientExchangeFilterFunction oauthFilter =
-                new ServletOAuth2AuthorizedClientExchangeFilterFunction(clientRegistrations, authorizedClients);
-        oauthFilter.setDefaultClientRegistrationId(
-                servicesConfiguration.getMaatApi().getRegistrationId());
+        ExchangeFilterFunction oauthFilter = oauthFilter(
+                servicesConfiguration.getMaatApi().getRegistrationId(),
+                authorizedClientManager,
+                tokenManager,
+                tokenRefreshConfiguration);
 
-        Resilience4jRetryFilter retryFilter =
-                new Resilience4jRetryFilter(retryRegistry, COURT_DATA_API_WEB_CLIENT_NAME);
+        List<ExchangeFilterFunction> resilienceFilters = resilienceFilters(
+                COURT_DATA_API_WEB_CLIENT_NAME,
+                servicesConfiguration.getMaatApi().getHedging(),
+                servicesConfiguration.getMaatApi().getConcurrencyLimit(),
+                servicesConfiguration.getMaatApi().getRetryBudget(),
+                resilienceRegistries);
+        AccessLogFilter accessLogFilter = new AccessLogFilter(accessLogConfiguration, COURT_DATA_API_WEB_CLIENT_NAME);
 
         return webClientBuilder
                 .baseUrl(servicesConfiguration.getMaatApi().getBaseUrl())
-                .filters(filters -> configureFilters(filters, oauthFilter, retryFilter))
+                .filters(filters ->
+                        configureFilters(filters, oauthFilter, resilienceFilters, accessLogFilter))
                 .build();
     }
 
@@ -84,21 +124,31 @@ public class WebClientsConfiguration {
     WebClient meansAssessmentWebClient(
             WebClient.Builder webClientBuilder,
             ServicesConfiguration servicesConfiguration,
-            ClientRegistrationRepository clientRegistrations,
-            OAuth2AuthorizedClientRepository authorizedClients,
-            RetryRegistry retryRegistry) {
+            OAuth2AuthorizedClientManager authorizedClientManager,
+            ClientCredentialsTokenManager tokenManager,
+            TokenRefreshConfiguration tokenRefreshConfiguration,
+            AccessLogConfiguration accessLogConfiguration,
+            ResilienceRegistries resilienceRegistries) {
 
-        ServletOAuth2AuthorizedClientExchangeFilterFunction oauthFilter =
-                new ServletOAuth2AuthorizedClientExchangeFilterFunction(clientRegistrations, authorizedClients);
-        oauthFilter.setDefaultClientRegistrationId(
-                servicesConfiguration.getCmaApi().getRegistrationId());
+        ExchangeFilterFunction oauthFilter = oauthFilter(
+                servicesConfiguration.getCmaApi().getRegistrationId(),
+                authorizedClientManager,
+                tokenManager,
+                tokenRefreshConfiguration);
 
-        Resilience4jRetryFilter retryFilter =
-                new Resilience4jRetryFilter(retryRegistry, MEANS_ASSESSMENT_SERVICE_WEB_CLIENT_NAME);
+        List<ExchangeFilterFunction> resilienceFilters = resilienceFilters(
+                MEANS_ASSESSMENT_SERVICE_WEB_CLIENT_NAME,
+                servicesConfiguration.getCmaApi().getHedging(),
+                servicesConfiguration.getCmaApi().getConcurrencyLimit(),
+                servicesConfiguration.getCmaApi().getRetryBudget(),
+                resilienceRegistries);
+        AccessLogFilter accessLogFilter =
+                new AccessLogFilter(accessLogConfiguration, MEANS_ASSESSMENT_SERVICE_WEB_CLIENT_NAME);
 
         return webClientBuilder
                 .baseUrl(servicesConfiguration.getCmaApi().getBaseUrl())
-                .filters(filters -> configureFilters(filters, oauthFilter, retryFilter))
+                .filters(filters ->
+                        configureFilters(filters, oauthFilter, resilienceFilters, accessLogFilter))
                 .build();
     }
 
@@ -120,15 +170,89 @@ public class WebClientsConfiguration {
         return httpServiceProxyFactory.createClient(MeansAssessmentApiClient.class);
     }
 
+    @Bean
+    ReactiveMaatCourtDataApiClient reactiveMaatCourtDataApiClient(
+            @Qualifier(COURT_DATA_API_WEB_CLIENT_NAME) WebClient maatCourtDataWebClient) {
+        HttpServiceProxyFactory httpServiceProxyFactory = HttpServiceProxyFactory.builderFor(
+                        WebClientAdapter.create(maatCourtDataWebClient))
+                .build();
+        return httpServiceProxyFactory.createClient(ReactiveMaatCourtDataApiClient.class);
+    }
+
+    @Bean
+    ReactiveMeansAssessmentApiClient reactiveMeansAssessmentApiClient(
+            @Qualifier(MEANS_ASSESSMENT_SERVICE_WEB_CLIENT_NAME) WebClient meansAssessmentApiClient) {
+        HttpServiceProxyFactory httpServiceProxyFactory = HttpServiceProxyFactory.builderFor(
+                        WebClientAdapter.create(meansAssessmentApiClient))
+                .build();
+        return httpServiceProxyFactory.createClient(ReactiveMeansAssessmentApiClient.class);
+    }
+
+    /**
+     * Uses the tokens kept fresh in the background by the {@link ClientCredentialsTokenManager}, falling back to
+     * Spring's filter, which fetches and refreshes tokens inline, when background refresh is disabled.
+     */
+    private static ExchangeFilterFunction oauthFilter(
+            String registrationId,
+            OAuth2AuthorizedClientManager authorizedClientManager,
+            ClientCredentialsTokenManager tokenManager,
+            TokenRefreshConfiguration tokenRefreshConfiguration) {
+        if (tokenRefreshConfiguration.isEnabled()) {
+            return new OAuth2BearerTokenFilter(tokenManager, registrationId);
+        }
+        ServletOAuth2AuthorizedClientExchangeFilterFunction oauthFilter =
+                new ServletOAuth2AuthorizedClientExchangeFilterFunction(authorizedClientManager);
+        oauthFilter.setDefaultClientRegistrationId(registrationId);
+        return oauthFilter;
+    }
+
+    @Bean
+    ResilienceRegistries resilienceRegistries(
+            RetryRegistry retryRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry) {
+        return new ResilienceRegistries(retryRegistry, circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+    }
+
+    /**
+     * Filters in the order they wrap an exchange. The circuit breaker, bulkhead and concurrency limit sit
+     * inside the retry and hedging filters so that each attempt and each hedge is recorded and limited on its
+     * own, and a rejected attempt is not retried as its exceptions are not retryable.
+     */
+    private static List<ExchangeFilterFunction> resilienceFilters(
+            String clientName,
+            ServicesConfiguration.Hedging hedging,
+            ServicesConfiguration.ConcurrencyLimit concurrencyLimit,
+            ServicesConfiguration.RetryBudget retryBudget,
+            ResilienceRegistries registries) {
+        MeterRegistry meterRegistry = registries.meterRegistry();
+        return List.of(
+                new Resilience4jRetryFilter(registries.retryRegistry(), retryBudget, meterRegistry, clientName),
+                new HedgingFilter(hedging, meterRegistry, clientName),
+                new Resilience4jCircuitBreakerFilter(registries.circuitBreakerRegistry(), clientName),
+                new Resilience4jBulkheadFilter(registries.bulkheadRegistry(), meterRegistry, clientName),
+                new AdaptiveConcurrencyLimitFilter(concurrencyLimit, meterRegistry, clientName));
+    }
+
     private void configureFilters(
             List<ExchangeFilterFunction> filters,
-            ServletOAuth2AuthorizedClientExchangeFilterFunction oauthFilter,
-            ExchangeFilterFunction retryFilter) {
-        filters.add(WebClientFilters.logRequestHeaders());
-        filters.add(retryFilter);
+            ExchangeFilterFunction oauthFilter,
+            List<ExchangeFilterFunction> resilienceFilters,
+            AccessLogFilter accessLogFilter) {
+        filters.add(WebClientFilters.enforceDeadline());
+        filters.addAll(resilienceFilters);
+        filters.add(WebClientFilters.forwardDeadline());
+        filters.add(WebClientFilters.countDownstreamCalls());
         filters.add(oauthFilter);
         filters.add(WebClientFilters.errorResponseHandler());
         filters.add(WebClientFilters.handleNotFoundResponse());
-        filters.add(WebClientFilters.logResponse());
+        filters.add(accessLogFilter);
     }
+
+    record ResilienceRegistries(
+            RetryRegistry retryRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry) {}
 }
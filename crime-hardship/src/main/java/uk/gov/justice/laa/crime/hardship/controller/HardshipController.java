@@ -2,10 +2,13 @@ package uk.gov.justice.laa.crime.hardship.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,15 +22,28 @@ import uk.gov.justice.laa.crime.common.model.hardship.ApiPerformHardshipRequest;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiPerformHardshipResponse;
 import uk.gov.justice.laa.crime.enums.HardshipReviewDetailType;
 import uk.gov.justice.laa.crime.enums.RequestType;
+import uk.gov.justice.laa.crime.hardship.cache.SerializedHardship;
+import uk.gov.justice.laa.crime.hardship.concurrent.FanOut;
+import uk.gov.justice.laa.crime.hardship.dto.CalculateHardshipBatchResult;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipDetailSummaries;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipRecalculationResult;
 import uk.gov.justice.laa.crime.hardship.dto.HardshipResult;
 import uk.gov.justice.laa.crime.hardship.dto.HardshipReviewDTO;
 import uk.gov.justice.laa.crime.hardship.mapper.HardshipMapper;
+import uk.gov.justice.laa.crime.hardship.metrics.Stage;
+import uk.gov.justice.laa.crime.hardship.metrics.StageMetrics;
+import uk.gov.justice.laa.crime.hardship.service.BatchHardshipCalculationService;
+import uk.gov.justice.laa.crime.hardship.service.BulkHardshipCalculationService;
 import uk.gov.justice.laa.crime.hardship.service.CrimeMeansAssessmentService;
 import uk.gov.justice.laa.crime.hardship.service.HardshipCalculationService;
+import uk.gov.justice.laa.crime.hardship.service.HardshipRecalculationService;
 import uk.gov.justice.laa.crime.hardship.service.HardshipService;
 import uk.gov.justice.laa.crime.hardship.validation.HardshipValidationService;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
 
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -52,6 +68,10 @@ public class HardshipController {
     private final CrimeMeansAssessmentService crimeMeansAssessmentService;
     private final HardshipValidationService hardshipValidationService;
     private final HardshipCalculationService hardshipCalculationService;
+    private final BatchHardshipCalculationService batchHardshipCalculationService;
+    private final HardshipRecalculationService hardshipRecalculationService;
+    private final BulkHardshipCalculationService bulkHardshipCalculationService;
+    private final StageMetrics stageMetrics;
 
     @PostMapping(value = "/calculate-hardship-for-detail", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(description = "Calculate Crime Hardship for Detail")
@@ -80,6 +100,34 @@ public class HardshipController {
                 request.getRepId(), HardshipReviewDetailType.valueOf(request.getDetailType())));
     }
 
+    @PostMapping(value = "/calculate-hardship-for-detail/bulk", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(description = "Calculate Crime Hardship for Detail across many rep ids")
+    @ApiResponse(
+            responseCode = "200",
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = HardshipDetailSummaries.class)))
+    @DefaultHTTPErrorResponse
+    public ResponseEntity<HardshipDetailSummaries> calculateHardshipForDetails(
+            @Parameter(
+                            description = "Calculate Crime Hardship For Detail requests",
+                            content =
+                                    @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            array =
+                                                    @ArraySchema(
+                                                            schema =
+                                                                    @Schema(
+                                                                            implementation =
+                                                                                    ApiCalculateHardshipByDetailRequest
+                                                                                            .class))))
+                    @RequestBody
+                    List<ApiCalculateHardshipByDetailRequest> requests) {
+        log.info("Request received to calculate hardship for {} rep id and detail type pairs", requests.size());
+        return ResponseEntity.ok(bulkHardshipCalculationService.calculateHardshipForDetails(requests));
+    }
+
     @GetMapping(value = "/{hardshipReviewId}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(description = "Find Hardship review")
     @ApiResponse(
@@ -87,11 +135,20 @@ public class HardshipController {
             content =
                     @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
-                            schema = @Schema(implementation = ApiPerformHardshipResponse.class)))
+                            schema = @Schema(implementation = ApiFindHardshipResponse.class)))
+    @ApiResponse(responseCode = "304", description = "The review matches the ETag in If-None-Match")
     @DefaultHTTPErrorResponse
-    public ResponseEntity<ApiFindHardshipResponse> find(@PathVariable int hardshipReviewId) {
+    public ResponseEntity<byte[]> find(@PathVariable int hardshipReviewId) {
         log.info("Request received to retrieve hardship review: {}", hardshipReviewId);
-        return ResponseEntity.ok(hardshipService.find(hardshipReviewId));
+        SerializedHardship hardship = hardshipService.findSerialized(hardshipReviewId);
+        if (hardship == null) {
+            return ResponseEntity.ok().build();
+        }
+        // a matching If-None-Match is answered with 304 by Spring MVC once the ETag is set
+        return ResponseEntity.ok()
+                .eTag(hardship.eTag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(hardship.body());
     }
 
     @PostMapping(value = "/calculate-hardship", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -114,17 +171,68 @@ public class HardshipController {
                     @RequestBody
                     ApiCalculateHardshipRequest request) {
 
-        BigDecimal fullThreshold = crimeMeansAssessmentService.getFullAssessmentThreshold(
-                request.getHardship().getReviewDate());
+        BigDecimal fullThreshold = stageMetrics.record(
+                Stage.FULL_THRESHOLD,
+                () -> crimeMeansAssessmentService.getFullAssessmentThreshold(
+                        request.getHardship().getReviewDate()));
 
-        HardshipResult hardshipResult =
-                hardshipCalculationService.calculateHardship(request.getHardship(), fullThreshold);
+        HardshipResult hardshipResult = stageMetrics.record(
+                Stage.CALCULATION,
+                () -> hardshipCalculationService.calculateHardship(request.getHardship(), fullThreshold));
 
         return ResponseEntity.ok(new ApiCalculateHardshipResponse()
                 .withReviewResult(hardshipResult.getResult())
                 .withPostHardshipDisposableIncome(hardshipResult.getPostHardshipDisposableIncome()));
     }
 
+    @PostMapping(value = "/calculate-hardship/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(description = "Calculate Crime Hardship for a batch of requests")
+    @ApiResponse(
+            responseCode = "200",
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array =
+                                    @ArraySchema(
+                                            schema = @Schema(implementation = CalculateHardshipBatchResult.class))))
+    @DefaultHTTPErrorResponse
+    public ResponseEntity<List<CalculateHardshipBatchResult>> calculateHardshipBatch(
+            @Parameter(
+                            description = "Generic Client Agnostic Calculate Crime Hardship requests",
+                            content =
+                                    @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            array =
+                                                    @ArraySchema(
+                                                            schema =
+                                                                    @Schema(
+                                                                            implementation =
+                                                                                    ApiCalculateHardshipRequest
+                                                                                            .class))))
+                    @RequestBody
+                    List<ApiCalculateHardshipRequest> requests) {
+        log.info("Request received to calculate hardship for a batch of {} requests", requests.size());
+        return ResponseEntity.ok(batchHardshipCalculationService.calculateHardship(requests));
+    }
+
+    @PostMapping(
+            value = "/recalculate",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(description = "Recalculate Crime Hardship for a stream of NDJSON hardship reviews")
+    @ApiResponse(
+            responseCode = "200",
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = HardshipRecalculationResult.class)))
+    @DefaultHTTPErrorResponse
+    public void recalculateHardship(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("Request received to recalculate a stream of hardship reviews");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        hardshipRecalculationService.recalculate(request.getInputStream(), response.getOutputStream());
+    }
+
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(description = "Create Hardship review")
     @ApiResponse(
@@ -147,7 +255,7 @@ public class HardshipController {
 
         HardshipReviewDTO reviewDTO = preProcessRequest(hardship, RequestType.CREATE);
         reviewDTO = hardshipService.create(reviewDTO);
-        return ResponseEntity.ok(mapper.fromDto(reviewDTO));
+        return ResponseEntity.ok(toResponse(reviewDTO));
     }
 
     @PutMapping(produces = MediaType.APPLICATION_JSON_VALUE)
@@ -171,7 +279,7 @@ public class HardshipController {
                     ApiPerformHardshipRequest hardship) {
         HardshipReviewDTO reviewDTO = preProcessRequest(hardship, RequestType.UPDATE);
         reviewDTO = hardshipService.update(reviewDTO);
-        return ResponseEntity.ok(mapper.fromDto(reviewDTO));
+        return ResponseEntity.ok(toResponse(reviewDTO));
     }
 
     @PatchMapping(value = "/{hardshipReviewId}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -184,11 +292,33 @@ public class HardshipController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Validates the request and looks up the full assessment threshold. The court data checks and the
+     * threshold lookup are independent of each other, so they run concurrently. A failed check cancels the
+     * lookup, but a failed lookup is only reported once every check has passed, so that an invalid request
+     * is always rejected as such rather than with the CMA error.
+     */
     private HardshipReviewDTO preProcessRequest(ApiPerformHardshipRequest hardship, RequestType requestType) {
+        hardshipValidationService.checkRequest(hardship);
         HardshipReviewDTO reviewDTO =
                 HardshipReviewDTO.builder().requestType(requestType).build();
-        hardshipValidationService.checkHardship(hardship, requestType);
-        mapper.toDto(hardship, reviewDTO);
+        try (FanOut fanOut = FanOut.open()) {
+            fanOut.fork(() -> hardshipValidationService.validateReviewDate(hardship));
+            if (requestType == RequestType.UPDATE) {
+                fanOut.fork(() -> hardshipValidationService.validateUpdate(hardship));
+            }
+            Supplier<BigDecimal> fullThreshold = fanOut.forkIsolated(() -> stageMetrics.record(
+                    Stage.FULL_THRESHOLD,
+                    () -> crimeMeansAssessmentService.getFullAssessmentThreshold(
+                            hardship.getHardship().getReviewDate())));
+            fanOut.join();
+            reviewDTO.setFullThreshold(fullThreshold.get());
+        }
+        stageMetrics.record(Stage.MAPPING, () -> mapper.toDto(hardship, reviewDTO));
         return reviewDTO;
     }
+
+    private ApiPerformHardshipResponse toResponse(HardshipReviewDTO reviewDTO) {
+        return stageMetrics.record(Stage.MAPPING, () -> mapper.fromDto(reviewDTO));
+    }
 }
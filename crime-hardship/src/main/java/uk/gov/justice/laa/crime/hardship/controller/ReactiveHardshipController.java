@@ -0,0 +1,134 @@
+package uk.gov.justice.laa.crime.hardship.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.annotation.DefaultHTTPErrorResponse;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailRequest;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailResponse;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipRequest;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipResponse;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiFindHardshipResponse;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiPerformHardshipRequest;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiPerformHardshipResponse;
+import uk.gov.justice.laa.crime.enums.HardshipReviewDetailType;
+import uk.gov.justice.laa.crime.hardship.mapper.HardshipMapper;
+import uk.gov.justice.laa.crime.hardship.service.ReactiveHardshipService;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Mirrors {@link HardshipController} with non-blocking downstream calls: the servlet thread is released as
+ * soon as the request has been dispatched and the response is written when the {@link Mono} completes.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/internal/v1/reactive/hardship")
+@Tag(name = "Crime Hardship (reactive)", description = "Non-blocking Rest API for Crime Hardship.")
+public class ReactiveHardshipController {
+
+    private final HardshipMapper mapper;
+    private final ReactiveHardshipService hardshipService;
+
+    @PostMapping(value = "/calculate-hardship-for-detail", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(description = "Calculate Crime Hardship for Detail")
+    @ApiResponse(
+            responseCode = "200",
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiCalculateHardshipByDetailResponse.class)))
+    @DefaultHTTPErrorResponse
+    public Mono<ResponseEntity<ApiCalculateHardshipByDetailResponse>> calculateHardshipForDetail(
+            @Valid @RequestBody ApiCalculateHardshipByDetailRequest request) {
+        return hardshipService
+                .calculateHardshipForDetail(
+                        request.getRepId(), HardshipReviewDetailType.valueOf(request.getDetailType()))
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/{hardshipReviewId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(description = "Find Hardship review")
+    @ApiResponse(
+            responseCode = "200",
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiFindHardshipResponse.class)))
+    @DefaultHTTPErrorResponse
+    public Mono<ResponseEntity<ApiFindHardshipResponse>> find(@PathVariable int hardshipReviewId) {
+        log.info("Request received to retrieve hardship review: {}", hardshipReviewId);
+        return hardshipService.find(hardshipReviewId).map(ResponseEntity::ok);
+    }
+
+    @PostMapping(value = "/calculate-hardship", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(description = "Generic Client Agnostic Calculate Crime Hardship")
+    @ApiResponse(
+            responseCode = "200",
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiCalculateHardshipResponse.class)))
+    @DefaultHTTPErrorResponse
+    public Mono<ResponseEntity<ApiCalculateHardshipResponse>> calculateHardship(
+            @Valid @RequestBody ApiCalculateHardshipRequest request) {
+        return hardshipService
+                .calculateHardship(request.getHardship())
+                .map(hardshipResult -> ResponseEntity.ok(new ApiCalculateHardshipResponse()
+                        .withReviewResult(hardshipResult.getResult())
+                        .withPostHardshipDisposableIncome(hardshipResult.getPostHardshipDisposableIncome())));
+    }
+
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(description = "Create Hardship review")
+    @ApiResponse(
+            responseCode = "200",
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiPerformHardshipResponse.class)))
+    @DefaultHTTPErrorResponse
+    public Mono<ResponseEntity<ApiPerformHardshipResponse>> create(
+            @Valid @RequestBody ApiPerformHardshipRequest hardship) {
+        return hardshipService.create(hardship).map(reviewDTO -> ResponseEntity.ok(mapper.fromDto(reviewDTO)));
+    }
+
+    @PutMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(description = "Update Hardship review")
+    @ApiResponse(
+            responseCode = "200",
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiPerformHardshipResponse.class)))
+    @DefaultHTTPErrorResponse
+    public Mono<ResponseEntity<ApiPerformHardshipResponse>> update(
+            @Valid @RequestBody ApiPerformHardshipRequest hardship) {
+        return hardshipService.update(hardship).map(reviewDTO -> ResponseEntity.ok(mapper.fromDto(reviewDTO)));
+    }
+
+    @PatchMapping(value = "/{hardshipReviewId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(description = "Rollback Hardship review")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
+    @DefaultHTTPErrorResponse
+    public Mono<ResponseEntity<Void>> rollback(@PathVariable int hardshipReviewId) {
+        log.info("Received request to rollback Hardship Review with Id: [{}]", hardshipReviewId);
+        return hardshipService.rollback(hardshipReviewId).thenReturn(ResponseEntity.ok().build());
+    }
+}
@@ -0,0 +1,36 @@
+package uk.gov.justice.laa.crime.hardship.controller;
+
+import uk.gov.justice.laa.crime.hardship.metrics.RequestTimings;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks the point at which a {@link HardshipController} response body starts to be serialized, so that the
+ * time taken to write it is reported in the request's {@link RequestTimings}.
+ */
+@ControllerAdvice(assignableTypes = HardshipController.class)
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        RequestTimings.current().ifPresent(RequestTimings::startSerialization);
+        return body;
+    }
+}
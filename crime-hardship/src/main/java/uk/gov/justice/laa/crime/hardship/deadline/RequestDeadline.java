@@ -0,0 +1,70 @@
+package uk.gov.justice.laa.crime.hardship.deadline;
+
+import io.micrometer.context.ContextRegistry;
+import uk.gov.justice.laa.crime.hardship.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The point in time by which the inbound request must be answered. Downstream calls are given no more than
+ * the time that remains, and work stops once the deadline has passed as the caller will have given up.
+ * <p>
+ * Like {@link uk.gov.justice.laa.crime.hardship.cache.RequestFetchContext}, the current deadline is held in a
+ * thread local registered with the {@link ContextRegistry}, so it follows the request onto Reactor and
+ * context-propagating executor threads.
+ */
+public final class RequestDeadline {
+
+    /**
+     * Header carrying the caller's timeout in milliseconds, on inbound and outbound requests.
+     */
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    public static final String CONTEXT_KEY = "hardship.request-deadline";
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    static {
+        ContextRegistry.getInstance()
+                .registerThreadLocalAccessor(CONTEXT_KEY, CURRENT::get, CURRENT::set, CURRENT::remove);
+    }
+
+    private final long deadlineNanos;
+
+    private RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static RequestDeadline open(Duration timeout) {
+        RequestDeadline deadline = new RequestDeadline(System.nanoTime() + timeout.toNanos());
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    public static Optional<RequestDeadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Throws a {@link DeadlineExceededException} if the current request's deadline has passed.
+     */
+    public static void throwIfExpired() {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired()) {
+            throw new DeadlineExceededException();
+        }
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+}
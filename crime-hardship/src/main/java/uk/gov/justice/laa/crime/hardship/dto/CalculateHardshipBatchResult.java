@@ -0,0 +1,24 @@
+package uk.gov.justice.laa.crime.hardship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipResponse;
+import uk.gov.justice.laa.crime.dto.ErrorDTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * The outcome of one item in a batch hardship calculation: either its result or the error that stopped it
+ * being calculated.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CalculateHardshipBatchResult {
+    private ApiCalculateHardshipResponse result;
+    private ErrorDTO error;
+}
@@ -0,0 +1,28 @@
+package uk.gov.justice.laa.crime.hardship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.justice.laa.crime.dto.ErrorDTO;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hardship summaries keyed by rep id and then detail type, with any pair that could not be calculated
+ * reported under the same keys in {@code errors}.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HardshipDetailSummaries {
+
+    @Builder.Default
+    private Map<Integer, Map<String, BigDecimal>> summaries = new TreeMap<>();
+
+    @Builder.Default
+    private Map<Integer, Map<String, ErrorDTO>> errors = new TreeMap<>();
+}
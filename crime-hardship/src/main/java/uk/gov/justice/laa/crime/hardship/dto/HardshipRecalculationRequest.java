@@ -0,0 +1,29 @@
+package uk.gov.justice.laa.crime.hardship.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
+
+import java.time.LocalDate;
+
+/**
+ * One line of a streamed recalculation. The threshold date defaults to the review date when it is not given,
+ * and the reference is echoed back on the result so the caller can correlate the two.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HardshipRecalculationRequest {
+    private String reference;
+
+    @Valid
+    @NotNull
+    private HardshipReview hardship;
+
+    private LocalDate thresholdDate;
+}
@@ -0,0 +1,22 @@
+package uk.gov.justice.laa.crime.hardship.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipResponse;
+import uk.gov.justice.laa.crime.dto.ErrorDTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HardshipRecalculationResult {
+    private long line;
+    private String reference;
+    private ApiCalculateHardshipResponse result;
+    private ErrorDTO error;
+}
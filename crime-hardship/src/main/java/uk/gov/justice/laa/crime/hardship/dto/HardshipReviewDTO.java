@@ -8,6 +8,8 @@ import uk.gov.justice.laa.crime.common.model.hardship.HardshipMetadata;
 import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
 import uk.gov.justice.laa.crime.enums.RequestType;
 
+import java.math.BigDecimal;
+
 @Data
 @Builder
 @AllArgsConstructor
@@ -17,4 +19,5 @@ public class HardshipReviewDTO {
     private HardshipReview hardship;
     private HardshipMetadata hardshipMetadata;
     private HardshipResult hardshipResult;
+    private BigDecimal fullThreshold;
 }
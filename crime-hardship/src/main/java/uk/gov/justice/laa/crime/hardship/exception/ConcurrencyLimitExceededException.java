@@ -0,0 +1,12 @@
+package uk.gov.justice.laa.crime.hardship.exception;
+
+/**
+ * Thrown when a downstream call is rejected because the adaptive concurrency limit for that service has
+ * been reached.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String clientName, int limit) {
+        super("Concurrency limit of " + limit + " reached for " + clientName);
+    }
+}
@@ -0,0 +1,11 @@
+package uk.gov.justice.laa.crime.hardship.exception;
+
+/**
+ * Thrown when work for an inbound request is abandoned because the request's deadline has passed.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException() {
+        super("The request deadline was exceeded");
+    }
+}
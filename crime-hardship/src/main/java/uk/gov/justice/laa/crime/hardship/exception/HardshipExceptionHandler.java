@@ -1,5 +1,7 @@
 package uk.gov.justice.laa.crime.hardship.exception;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.justice.laa.crime.dto.ErrorDTO;
@@ -45,6 +47,21 @@ public class HardshipExceptionHandler {
                 HttpStatus.INTERNAL_SERVER_ERROR, exception.getMessage(), traceIdHandler.getTraceId());
     }
 
+    @ExceptionHandler({
+        CallNotPermittedException.class,
+        BulkheadFullException.class,
+        ConcurrencyLimitExceededException.class
+    })
+    public ResponseEntity<ErrorDTO> onDownstreamUnavailable(RuntimeException exception) {
+        return buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE, exception.getMessage(), traceIdHandler.getTraceId());
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ErrorDTO> onDeadlineExceeded(DeadlineExceededException exception) {
+        return buildErrorResponse(HttpStatus.GATEWAY_TIMEOUT, exception.getMessage(), traceIdHandler.getTraceId());
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ErrorDTO> handleValidationException(ValidationException exception) {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, exception.getMessage(), traceIdHandler.getTraceId());
@@ -0,0 +1,102 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.config.AccessLogConfiguration;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * Writes a single key=value log event for each downstream exchange, with the method, host, path, status,
+ * latency, attempt and trace id, in place of a line per request header and per response.
+ * <p>
+ * The filter sits next to the connector so that it records the raw status of each attempt. The attempt
+ * number is read from the Reactor context, where {@link Resilience4jRetryFilter} puts it. Request headers are
+ * only logged for a configured sample of exchanges, and nothing is formatted when the logger is disabled.
+ */
+@Slf4j(topic = "uk.gov.justice.laa.crime.hardship.access")
+public class AccessLogFilter implements ExchangeFilterFunction {
+
+    public static final String ATTEMPT_CONTEXT_KEY = "hardship.downstream.attempt";
+
+    private static final String TRACE_ID = "traceId";
+    private static final String FORMAT =
+            "downstream client={} method={} host={} path={} status={} latency_ms={} attempt={} trace_id={}";
+    private static final String FORMAT_WITH_HEADERS = FORMAT + " headers={}";
+
+    private final AccessLogConfiguration configuration;
+    private final String clientName;
+
+    public AccessLogFilter(AccessLogConfiguration configuration, String clientName) {
+        this.configuration = configuration;
+        this.clientName = clientName;
+    }
+
+    @Override
+    public @NonNull Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        if (!configuration.isEnabled() || !log.isInfoEnabled()) {
+            return next.exchange(request);
+        }
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            int attempt = context.getOrDefault(ATTEMPT_CONTEXT_KEY, 1);
+            String traceId = MDC.get(TRACE_ID);
+            return next.exchange(request)
+                    .doOnNext(response -> log(request, response.statusCode().value(), start, attempt, traceId))
+                    .doOnError(error -> log(request, error.getClass().getSimpleName(), start, attempt, traceId))
+                    .doOnCancel(() -> log(request, "cancelled", start, attempt, traceId));
+        });
+    }
+
+    private void log(ClientRequest request, Object status, long start, int attempt, String traceId) {
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (isSampled()) {
+            log.info(
+                    FORMAT_WITH_HEADERS,
+                    clientName,
+                    request.method(),
+                    request.url().getHost(),
+                    request.url().getRawPath(),
+                    status,
+                    latencyMillis,
+                    attempt,
+                    traceId,
+                    redacted(request.headers()));
+        } else {
+            log.info(
+                    FORMAT,
+                    clientName,
+                    request.method(),
+                    request.url().getHost(),
+                    request.url().getRawPath(),
+                    status,
+                    latencyMillis,
+                    attempt,
+                    traceId);
+        }
+    }
+
+    private boolean isSampled() {
+        double rate = configuration.getHeaderSampleRate();
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static HttpHeaders redacted(HttpHeaders headers) {
+        HttpHeaders copy = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (!HttpHeaders.AUTHORIZATION.equalsIgnoreCase(name)) {
+                copy.addAll(name, values);
+            }
+        });
+        return copy;
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.config.ServicesConfiguration;
+import uk.gov.justice.laa.crime.hardship.exception.ConcurrencyLimitExceededException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Limits concurrent calls to a downstream service with an {@link AimdLimit} that learns how much
+ * concurrency the service can take. Calls over the limit fail straight away with a
+ * {@link ConcurrencyLimitExceededException} rather than queueing for a pooled connection.
+ * <p>
+ * Connection errors, 429, 503 and 504 responses and calls slower than the latency threshold shrink the
+ * limit. Other errors and cancelled calls, such as a losing hedge, release their permit without adjusting it.
+ */
+public class AdaptiveConcurrencyLimitFilter implements ExchangeFilterFunction {
+
+    private final String clientName;
+    private final boolean enabled;
+    private final AimdLimit limit;
+    private final Counter rejections;
+
+    public AdaptiveConcurrencyLimitFilter(
+            ServicesConfiguration.ConcurrencyLimit configuration, MeterRegistry meterRegistry, String clientName) {
+        this.clientName = clientName;
+        this.enabled = configuration.isEnabled();
+        this.limit = new AimdLimit(
+                configuration.getInitialLimit(),
+                configuration.getMinLimit(),
+                configuration.getMaxLimit(),
+                configuration.getBackoffRatio(),
+                configuration.getLatencyThreshold().toNanos());
+
+        Gauge.builder("hardship.downstream.concurrency.limit", limit, AimdLimit::limit)
+                .description("Current adaptive concurrency limit for a downstream service")
+                .tag("name", clientName)
+                .register(meterRegistry);
+        Gauge.builder("hardship.downstream.concurrency.in.flight", limit, AimdLimit::inFlight)
+                .description("Calls currently in flight to a downstream service")
+                .tag("name", clientName)
+                .register(meterRegistry);
+        this.rejections = Counter.builder("hardship.downstream.concurrency.rejections")
+                .description("Downstream calls rejected by the adaptive concurrency limit")
+                .tag("name", clientName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public @NonNull Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        if (!enabled) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> {
+            if (!limit.tryAcquire()) {
+                rejections.increment();
+                return Mono.error(new ConcurrencyLimitExceededException(clientName, limit.limit()));
+            }
+            long start = System.nanoTime();
+            AtomicBoolean released = new AtomicBoolean();
+            return next.exchange(request)
+                    .doOnNext(response -> release(released, start, outcome(response)))
+                    .doOnError(exception -> release(released, start, outcome(exception)))
+                    .doFinally(signal -> release(released, start, AimdLimit.Outcome.IGNORED));
+        });
+    }
+
+    private void release(AtomicBoolean released, long start, AimdLimit.Outcome outcome) {
+        if (released.compareAndSet(false, true)) {
+            limit.release(System.nanoTime() - start, outcome);
+        }
+    }
+
+    private static AimdLimit.Outcome outcome(ClientResponse response) {
+        return isOverloaded(response.statusCode().value()) ? AimdLimit.Outcome.DROPPED : AimdLimit.Outcome.SUCCESS;
+    }
+
+    private static AimdLimit.Outcome outcome(Throwable exception) {
+        if (exception instanceof WebClientRequestException
+                || (exception instanceof WebClientResponseException responseException
+                        && isOverloaded(responseException.getStatusCode().value()))) {
+            return AimdLimit.Outcome.DROPPED;
+        }
+        return AimdLimit.Outcome.IGNORED;
+    }
+
+    private static boolean isOverloaded(int status) {
+        return status == HttpStatus.TOO_MANY_REQUESTS.value()
+                || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+}
@@ -0,0 +1,102 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.config.ServicesConfiguration;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * Hedges GET exchanges: if a read has not answered within the configured percentile of recent latencies, a
+ * second identical request is sent and the first response wins, the other being cancelled.
+ * <p>
+ * A failed hedge is ignored and the original request is left to answer. Hedges are capped by a
+ * {@link RequestBudget}, so a slow dependency sees at most {@code maxRatio} extra load.
+ * <p>
+ * The latency window records the time from the original request to the first response, whichever exchange
+ * sent it. A cancelled slow request is never timed itself, so timing only completed exchanges would drop the
+ * slow tail from the window and pull the hedge delay down.
+ */
+public class HedgingFilter implements ExchangeFilterFunction {
+
+    private static final String HEDGES_METRIC = "hardship.downstream.hedges";
+
+    private final ServicesConfiguration.Hedging configuration;
+    private final LatencyWindow latencies;
+    private final RequestBudget budget;
+    private final Counter sent;
+    private final Counter won;
+    private final Counter throttled;
+
+    public HedgingFilter(ServicesConfiguration.Hedging configuration, MeterRegistry meterRegistry, String clientName) {
+        this.configuration = configuration;
+        this.latencies = new LatencyWindow(configuration.getWindowSize(), configuration.getMinSamples());
+        this.budget = new RequestBudget(configuration.getMaxRatio(), configuration.getBurst(), 0);
+        this.sent = hedgeCounter(meterRegistry, clientName, "sent");
+        this.won = hedgeCounter(meterRegistry, clientName, "won");
+        this.throttled = hedgeCounter(meterRegistry, clientName, "throttled");
+        Gauge.builder("hardship.downstream.hedge.delay", this, HedgingFilter::hedgeDelaySeconds)
+                .description("Time after which an unanswered GET is hedged")
+                .baseUnit("seconds")
+                .tag("name", clientName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public @NonNull Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        if (!configuration.isEnabled() || !HttpMethod.GET.equals(request.method())) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            budget.deposit();
+            Mono<ClientResponse> primary = next.exchange(request);
+            Optional<Duration> delay = hedgeDelay();
+            Mono<ClientResponse> exchange =
+                    delay.isEmpty() ? primary : Mono.firstWithSignal(primary, hedge(request, next, delay.get()));
+            return exchange.doOnNext(response -> latencies.record(System.nanoTime() - start));
+        });
+    }
+
+    Optional<Duration> hedgeDelay() {
+        return latencies.percentile(configuration.getPercentile())
+                .map(percentile -> percentile.compareTo(configuration.getMinDelay()) > 0
+                        ? percentile
+                        : configuration.getMinDelay());
+    }
+
+    private Mono<ClientResponse> hedge(ClientRequest request, ExchangeFunction next, Duration delay) {
+        return Mono.delay(delay).flatMap(tick -> {
+            if (!budget.tryAcquire()) {
+                throttled.increment();
+                return Mono.never();
+            }
+            sent.increment();
+            return next.exchange(request)
+                    .doOnNext(response -> won.increment())
+                    .onErrorResume(exception -> Mono.never());
+        });
+    }
+
+    private double hedgeDelaySeconds() {
+        return hedgeDelay().map(delay -> delay.toNanos() / 1e9).orElse(Double.NaN);
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String clientName, String result) {
+        return Counter.builder(HEDGES_METRIC)
+                .description("Hedged GET requests sent to a downstream service")
+                .tag("name", clientName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
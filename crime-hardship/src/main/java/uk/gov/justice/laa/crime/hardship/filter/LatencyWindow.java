@@ -0,0 +1,46 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * A fixed-size window over the most recent latencies. The sorted copy used for percentiles is refreshed
+ * after a tenth of the window has been replaced, rather than on every lookup.
+ */
+class LatencyWindow {
+
+    private final long[] samples;
+    private final int minSamples;
+    private final int refreshAfter;
+    private long[] sorted = new long[0];
+    private int next;
+    private int size;
+    private int recordedSinceSort;
+
+    LatencyWindow(int windowSize, int minSamples) {
+        this.samples = new long[windowSize];
+        this.minSamples = Math.min(minSamples, windowSize);
+        this.refreshAfter = Math.max(1, windowSize / 10);
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+        recordedSinceSort++;
+    }
+
+    synchronized Optional<Duration> percentile(double percentile) {
+        if (size < minSamples) {
+            return Optional.empty();
+        }
+        if (sorted.length != size || recordedSinceSort >= refreshAfter) {
+            sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            recordedSinceSort = 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return Optional.of(Duration.ofNanos(sorted[Math.clamp(index, 0, sorted.length - 1)]));
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import uk.gov.justice.laa.crime.hardship.oauth.ClientCredentialsTokenManager;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Adds the registration's bearer token from the {@link ClientCredentialsTokenManager} to each exchange.
+ * <p>
+ * The token is normally already held, so no call to the token endpoint is made on the request path. When one
+ * has to be fetched it is done on the bounded elastic scheduler, and a token rejected with a 401 is dropped so
+ * that the next exchange fetches a new one. The 401 is usually seen as a {@link WebClientResponseException}, as
+ * the error response handler runs inside this filter.
+ */
+@RequiredArgsConstructor
+public class OAuth2BearerTokenFilter implements ExchangeFilterFunction {
+
+    private final ClientCredentialsTokenManager tokenManager;
+    private final String registrationId;
+
+    @Override
+    public @NonNull Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        return Mono.defer(() -> Mono.justOrEmpty(tokenManager.currentToken(registrationId)))
+                .switchIfEmpty(Mono.fromCallable(() -> tokenManager.getToken(registrationId))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .flatMap(token -> next.exchange(withBearerToken(request, token))
+                        .doOnNext(response -> {
+                            if (response.statusCode().isSameCodeAs(HttpStatus.UNAUTHORIZED)) {
+                                tokenManager.invalidate(registrationId, token);
+                            }
+                        })
+                        .doOnError(WebClientResponseException.class, exception -> {
+                            if (exception.getStatusCode().isSameCodeAs(HttpStatus.UNAUTHORIZED)) {
+                                tokenManager.invalidate(registrationId, token);
+                            }
+                        }));
+    }
+
+    private static ClientRequest withBearerToken(ClientRequest request, OAuth2AccessToken token) {
+        return ClientRequest.from(request)
+                .headers(headers -> headers.setBearerAuth(token.getTokenValue()))
+                .build();
+    }
+}
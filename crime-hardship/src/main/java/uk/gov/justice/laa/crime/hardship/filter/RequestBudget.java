@@ -0,0 +1,30 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+/**
+ * A token bucket that caps extra requests, such as hedges or retries, at a fraction of traffic: every request
+ * adds {@code ratio} of a token, up to {@code burst} tokens, and every extra request spends a whole token.
+ */
+class RequestBudget {
+
+    private final double ratio;
+    private final double burst;
+    private double tokens;
+
+    RequestBudget(double ratio, int burst, int initialTokens) {
+        this.ratio = ratio;
+        this.burst = burst;
+        this.tokens = Math.min(burst, initialTokens);
+    }
+
+    synchronized void deposit() {
+        tokens = Math.min(burst, tokens + ratio);
+    }
+
+    synchronized boolean tryAcquire() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+}
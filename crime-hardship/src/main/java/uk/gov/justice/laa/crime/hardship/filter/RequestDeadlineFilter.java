@@ -0,0 +1,72 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.hardship.config.DeadlineConfiguration;
+import uk.gov.justice.laa.crime.hardship.deadline.RequestDeadline;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Opens a {@link RequestDeadline} for each inbound request. The deadline is the endpoint's configured timeout,
+ * shortened to the caller's own timeout when an {@value RequestDeadline#TIMEOUT_HEADER} header is sent.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final DeadlineConfiguration configuration;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestDeadline.open(timeout(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.close();
+        }
+    }
+
+    Duration timeout(HttpServletRequest request) {
+        Duration timeout = endpointTimeout(request.getRequestURI());
+        String header = request.getHeader(RequestDeadline.TIMEOUT_HEADER);
+        if (header != null) {
+            try {
+                Duration callerTimeout = Duration.ofMillis(Long.parseLong(header.trim()));
+                if (callerTimeout.compareTo(timeout) < 0) {
+                    timeout = callerTimeout.isNegative() ? Duration.ZERO : callerTimeout;
+                }
+            } catch (NumberFormatException exception) {
+                log.warn("Ignoring invalid {} header: {}", RequestDeadline.TIMEOUT_HEADER, header);
+            }
+        }
+        return timeout;
+    }
+
+    private Duration endpointTimeout(String path) {
+        for (Map.Entry<String, Duration> endpoint : configuration.getEndpoints().entrySet()) {
+            if (PATH_MATCHER.match(endpoint.getKey(), path)) {
+                return endpoint.getValue();
+            }
+        }
+        return configuration.getDefaultTimeout();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !configuration.isEnabled();
+    }
+}
@@ -0,0 +1,38 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import uk.gov.justice.laa.crime.hardship.cache.RequestFetchContext;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Opens a {@link RequestFetchContext} for each inbound request and records how many downstream calls it made
+ * and how many reads were served from the context instead.
+ */
+@RequiredArgsConstructor
+public class RequestFetchContextFilter extends OncePerRequestFilter {
+
+    private final DistributionSummary downstreamCalls;
+    private final Counter memoizedReads;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestFetchContext context = RequestFetchContext.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestFetchContext.close();
+            downstreamCalls.record(context.downstreamCalls());
+            memoizedReads.increment(context.memoizedReads());
+        }
+    }
+}
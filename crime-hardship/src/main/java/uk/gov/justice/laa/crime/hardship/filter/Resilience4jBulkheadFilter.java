@@ -0,0 +1,40 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * Caps the number of concurrent calls to a downstream service. Calls over the limit are rejected straight
+ * away with a {@link io.github.resilience4j.bulkhead.BulkheadFullException} rather than queueing behind a
+ * slow dependency.
+ */
+public class Resilience4jBulkheadFilter implements ExchangeFilterFunction {
+
+    private final Bulkhead bulkhead;
+
+    public Resilience4jBulkheadFilter(
+            BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry, String clientName) {
+        bulkhead = bulkheadRegistry.bulkhead(clientName);
+
+        Counter rejections = Counter.builder("hardship.downstream.bulkhead.rejections")
+                .description("Downstream calls rejected because the bulkhead was full")
+                .tag("name", clientName)
+                .register(meterRegistry);
+        bulkhead.getEventPublisher().onCallRejected(event -> rejections.increment());
+    }
+
+    @Override
+    public @NonNull Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        return next.exchange(request).transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+}
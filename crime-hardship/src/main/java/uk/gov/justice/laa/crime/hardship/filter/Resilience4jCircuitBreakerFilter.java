@@ -0,0 +1,40 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * Stops calling a downstream service once its recent failure rate crosses the configured threshold, so that
+ * requests fail straight away with a {@link io.github.resilience4j.circuitbreaker.CallNotPermittedException}
+ * instead of waiting on a service that is already struggling.
+ */
+@Slf4j
+public class Resilience4jCircuitBreakerFilter implements ExchangeFilterFunction {
+
+    private final CircuitBreaker circuitBreaker;
+
+    public Resilience4jCircuitBreakerFilter(CircuitBreakerRegistry circuitBreakerRegistry, String clientName) {
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker(clientName);
+
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn(
+                        "Circuit breaker {} moved from {} to {}",
+                        event.getCircuitBreakerName(),
+                        event.getStateTransition().getFromState(),
+                        event.getStateTransition().getToState()));
+    }
+
+    @Override
+    public @NonNull Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        return next.exchange(request).transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+}
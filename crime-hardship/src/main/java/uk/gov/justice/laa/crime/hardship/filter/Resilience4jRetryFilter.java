@@ -2,11 +2,16 @@ package uk.gov.justice.laa.crime.hardship.filter;
 
 import io.github.resilience4j.reactor.retry.RetryOperator;
 import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.config.ServicesConfiguration;
 
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.lang.NonNull;
 import org.springframework.web.reactive.function.client.ClientRequest;
@@ -14,22 +19,49 @@ import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeFunction;
 
+/**
+ * Retries failed exchanges using the configuration of the Resilience4j retry named after the client, or of the
+ * default retry, with the {@link RetryPolicy} applied on top of it. The resulting retry is registered under the
+ * client's name.
+ * <p>
+ * The number of attempts made for each call is recorded in {@code hardship.downstream.attempts}, whose mean is
+ * the retry amplification seen by the downstream service.
+ */
 @Slf4j
 public class Resilience4jRetryFilter implements ExchangeFilterFunction {
 
     private final Retry retry;
+    private final RetryPolicy retryPolicy;
+    private final DistributionSummary attempts;
     private static final String DEFAULT_RETRY = "default";
 
-    public Resilience4jRetryFilter(RetryRegistry retryRegistry, String clientName) {
+    public Resilience4jRetryFilter(
+            RetryRegistry retryRegistry,
+            ServicesConfiguration.RetryBudget retryBudget,
+            MeterRegistry meterRegistry,
+            String clientName) {
         Set<String> availableRetries =
                 retryRegistry.getAllRetries().stream().map(Retry::getName).collect(java.util.stream.Collectors.toSet());
 
-        String retryName = availableRetries.contains(clientName) ? clientName : DEFAULT_RETRY;
-        retry = retryRegistry.retry(retryName);
+        Retry configured = retryRegistry.retry(availableRetries.contains(clientName) ? clientName : DEFAULT_RETRY);
+        RetryConfig base = configured.getRetryConfig().getIntervalBiFunction() instanceof RetryPolicy applied
+                ? applied.base()
+                : configured.getRetryConfig();
+        // Each client has its own retry and policy, so that clients sharing the default configuration do not
+        // share a budget, metrics or event listeners.
+        retryPolicy = new RetryPolicy(base, retryBudget, meterRegistry, clientName);
+        retryRegistry.remove(clientName);
+        retry = retryRegistry.retry(clientName, retryPolicy.config(), configured.getTags());
+        attempts = DistributionSummary.builder("hardship.downstream.attempts")
+                .description("Attempts made for each downstream call, including retries")
+                .tag("name", clientName)
+                .register(meterRegistry);
 
+        // Each attempt is written to the access log, so the retry events are only logged at debug.
         retry.getEventPublisher()
-                .onSuccess(event -> log.info("✅ Request succeeded after {} attempts", event.getNumberOfRetryAttempts()))
-                .onRetry(event -> log.info(
+                .onSuccess(event ->
+                        log.debug("✅ Request succeeded after {} attempts", event.getNumberOfRetryAttempts()))
+                .onRetry(event -> log.debug(
                         "🔄 Retry #{} after {}ms for request",
                         event.getNumberOfRetryAttempts(),
                         event.getWaitInterval().toMillis()))
@@ -39,6 +71,17 @@ public class Resilience4jRetryFilter implements ExchangeFilterFunction {
 
     @Override
     public @NonNull Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
-        return next.exchange(request).transformDeferred(RetryOperator.of(retry));
+        return Mono.defer(() -> {
+            retryPolicy.onCall();
+            AtomicInteger attempt = new AtomicInteger();
+            return Mono.defer(() -> {
+                        int number = attempt.incrementAndGet();
+                        return next.exchange(request)
+                                .doOnError(exception -> retryPolicy.onAttemptFailed(number, exception))
+                                .contextWrite(context -> context.put(AccessLogFilter.ATTEMPT_CONTEXT_KEY, number));
+                    })
+                    .transformDeferred(RetryOperator.of(retry))
+                    .doFinally(signal -> attempts.record(attempt.get()));
+        });
     }
 }
@@ -0,0 +1,154 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import io.github.resilience4j.core.IntervalBiFunction;
+import io.github.resilience4j.core.functions.Either;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import uk.gov.justice.laa.crime.hardship.config.ServicesConfiguration;
+import uk.gov.justice.laa.crime.hardship.deadline.RequestDeadline;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Adds a retry budget, full jitter and Retry-After support to a configured Resilience4j retry.
+ * <p>
+ * A failure is retried only if the base configuration allows it, the request deadline has not passed, any
+ * Retry-After is within the configured maximum and the {@link RequestBudget} has a token to spend. The wait is
+ * the Retry-After delay of a 429 or 503 response where one is given, and otherwise a random time up to the
+ * configured backoff.
+ * <p>
+ * Resilience4j tests the exception predicate before it checks the number of attempts, so the failure of a call's
+ * last attempt is reported by the filter first and never spends a token, as it will not be retried anyway.
+ */
+class RetryPolicy implements IntervalBiFunction<Object> {
+
+    private static final String RETRIES_METRIC = "hardship.downstream.retries.rejected";
+
+    private final RetryConfig base;
+    private final IntervalBiFunction<Object> backoff;
+    private final Predicate<Throwable> retryable;
+    private final RequestBudget budget;
+    private final Duration maxRetryAfter;
+    private final Counter budgetExhausted;
+    private final Counter retryAfterTooLong;
+    private final Set<Throwable> finalAttemptFailures = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
+    RetryPolicy(
+            RetryConfig base,
+            ServicesConfiguration.RetryBudget configuration,
+            MeterRegistry meterRegistry,
+            String retryName) {
+        this.base = base;
+        this.backoff = base.getIntervalBiFunction();
+        this.retryable = base.getExceptionPredicate();
+        this.budget = new RequestBudget(configuration.getRatio(), configuration.getBurst(), configuration.getBurst());
+        this.maxRetryAfter = configuration.getMaxRetryAfter();
+        this.budgetExhausted = rejectedRetries(meterRegistry, retryName, "budget_exhausted");
+        this.retryAfterTooLong = rejectedRetries(meterRegistry, retryName, "retry_after_too_long");
+    }
+
+    /**
+     * Returns the configuration the policy was applied to.
+     */
+    RetryConfig base() {
+        return base;
+    }
+
+    RetryConfig config() {
+        return RetryConfig.custom()
+                .maxAttempts(base.getMaxAttempts())
+                .failAfterMaxAttempts(base.isFailAfterMaxAttempts())
+                .retryOnException(this::shouldRetry)
+                .intervalBiFunction(this)
+                .build();
+    }
+
+    void onCall() {
+        budget.deposit();
+    }
+
+    void onAttemptFailed(int attempt, Throwable exception) {
+        if (attempt >= base.getMaxAttempts()) {
+            finalAttemptFailures.add(exception);
+        }
+    }
+
+    boolean shouldRetry(Throwable exception) {
+        if (!retryable.test(exception) || RequestDeadline.current().filter(RequestDeadline::isExpired).isPresent()) {
+            finalAttemptFailures.remove(exception);
+            return false;
+        }
+        if (finalAttemptFailures.remove(exception)) {
+            return true;
+        }
+        if (retryAfter(exception).filter(delay -> delay.compareTo(maxRetryAfter) > 0).isPresent()) {
+            retryAfterTooLong.increment();
+            return false;
+        }
+        if (!budget.tryAcquire()) {
+            budgetExhausted.increment();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Long apply(Integer attempt, Either<Throwable, Object> outcome) {
+        if (outcome.isLeft()) {
+            Optional<Duration> retryAfter = retryAfter(outcome.getLeft());
+            if (retryAfter.isPresent()) {
+                return retryAfter.get().toMillis();
+            }
+        }
+        long ceiling = backoff.apply(attempt, outcome);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    static Optional<Duration> retryAfter(Throwable exception) {
+        if (!(exception instanceof WebClientResponseException responseException)
+                || !(responseException.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                        || responseException.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE))) {
+            return Optional.empty();
+        }
+        String value = responseException.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                Instant retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                        .toInstant();
+                Duration delay = Duration.between(Instant.now(), retryAt);
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (DateTimeParseException notDate) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private static Counter rejectedRetries(MeterRegistry meterRegistry, String retryName, String reason) {
+        return Counter.builder(RETRIES_METRIC)
+                .description("Failed downstream calls that were not retried because of the retry policy")
+                .tag("name", retryName)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
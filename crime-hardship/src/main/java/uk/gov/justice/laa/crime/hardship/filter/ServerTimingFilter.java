@@ -0,0 +1,59 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import uk.gov.justice.laa.crime.hardship.config.ServerTimingConfiguration;
+import uk.gov.justice.laa.crime.hardship.metrics.RequestTimings;
+
+import java.io.IOException;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Opens {@link RequestTimings} for each hardship API request and returns them to the caller in a
+ * {@value #SERVER_TIMING_HEADER} header.
+ * <p>
+ * The response body is held back until the handler has finished, so that the header can be set after the body
+ * has been serialized. Streamed NDJSON requests are left alone, as their body cannot be held back.
+ */
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final String HARDSHIP_PATH = "/api/internal/v1/hardship";
+
+    private final ServerTimingConfiguration configuration;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        RequestTimings timings = RequestTimings.open();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            RequestTimings.close();
+            timings.finishSerialization();
+            wrapper.setHeader(SERVER_TIMING_HEADER, timings.header());
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !configuration.isEnabled()
+                || !request.getRequestURI().startsWith(HARDSHIP_PATH)
+                || isNdjson(request.getContentType())
+                || isNdjson(request.getHeader("Accept"));
+    }
+
+    private static boolean isNdjson(String mediaType) {
+        return mediaType != null && mediaType.contains(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+}
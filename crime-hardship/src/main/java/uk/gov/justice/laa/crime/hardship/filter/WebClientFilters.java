@@ -3,9 +3,15 @@ package uk.gov.justice.laa.crime.hardship.filter;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.cache.RequestFetchContext;
+import uk.gov.justice.laa.crime.hardship.deadline.RequestDeadline;
+import uk.gov.justice.laa.crime.hardship.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.Optional;
 
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 
@@ -13,30 +19,6 @@ import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 @UtilityClass
 public class WebClientFilters {
 
-    public static ExchangeFilterFunction logResponse() {
-        return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
-            if (clientResponse.statusCode().is4xxClientError()
-                    || clientResponse.statusCode().is5xxServerError()) {
-                log.error("❌  Response status: {}", clientResponse.statusCode());
-            } else if (clientResponse.statusCode().is2xxSuccessful()) {
-                log.info("✅ Response status: {}", clientResponse.statusCode());
-            }
-            return Mono.just(clientResponse);
-        });
-    }
-
-    public static ExchangeFilterFunction logRequestHeaders() {
-        return (clientRequest, next) -> {
-            log.info("Request: {} {}", clientRequest.method(), clientRequest.url());
-            clientRequest.headers().forEach((name, values) -> {
-                if (!name.equals(HttpHeaders.AUTHORIZATION)) {
-                    values.forEach(value -> log.info("{}={}", name, value));
-                }
-            });
-            return next.exchange(clientRequest);
-        };
-    }
-
     public static ExchangeFilterFunction handleNotFoundResponse() {
         return ExchangeFilterFunction.ofResponseProcessor(response -> {
             if (response.statusCode() == HttpStatus.NOT_FOUND) {
@@ -57,4 +39,53 @@ public class WebClientFilters {
             return Mono.just(response);
         });
     }
+
+    /**
+     * Bounds a downstream call, including any retries and the waits between them, by the time left before the
+     * inbound request's deadline, failing with a {@link DeadlineExceededException} once it has passed.
+     */
+    public static ExchangeFilterFunction enforceDeadline() {
+        return (clientRequest, next) -> Mono.defer(() -> {
+            Optional<RequestDeadline> deadline = RequestDeadline.current();
+            if (deadline.isEmpty()) {
+                return next.exchange(clientRequest);
+            }
+            Duration remaining = deadline.get().remaining();
+            if (remaining.isZero()) {
+                return Mono.error(new DeadlineExceededException());
+            }
+            return next.exchange(clientRequest)
+                    .timeout(remaining, Mono.defer(() -> Mono.error(new DeadlineExceededException())));
+        });
+    }
+
+    /**
+     * Passes the time left before the inbound request's deadline on to the downstream service, and stops an
+     * attempt from being made once the deadline has passed.
+     */
+    public static ExchangeFilterFunction forwardDeadline() {
+        return (clientRequest, next) -> Mono.defer(() -> {
+            Optional<RequestDeadline> deadline = RequestDeadline.current();
+            if (deadline.isEmpty()) {
+                return next.exchange(clientRequest);
+            }
+            long remainingMillis = deadline.get().remaining().toMillis();
+            if (remainingMillis <= 0) {
+                return Mono.error(new DeadlineExceededException());
+            }
+            return next.exchange(ClientRequest.from(clientRequest)
+                    .headers(headers -> headers.set(RequestDeadline.TIMEOUT_HEADER, String.valueOf(remainingMillis)))
+                    .build());
+        });
+    }
+
+    /**
+     * Counts every exchange, including retried attempts, against the inbound request that triggered it.
+     */
+    public static ExchangeFilterFunction countDownstreamCalls() {
+        return (clientRequest, next) -> Mono.defer(() -> {
+            RequestFetchContext.current().ifPresent(RequestFetchContext::recordDownstreamCall);
+            return next.exchange(clientRequest);
+        });
+    }
 }
@@ -0,0 +1,95 @@
+package uk.gov.justice.laa.crime.hardship.metrics;
+
+import io.micrometer.context.ContextRegistry;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Adds up the time a single inbound request spent in each {@link Stage}, so that it can be reported back to the
+ * caller in a {@code Server-Timing} header.
+ * <p>
+ * The current timings are held in a thread local that is registered with the {@link ContextRegistry}, so stages
+ * run on forked subtasks are added to the request that forked them. A stage that runs more than once, such as
+ * several Court Data API reads, is reported as one entry with the total time and the number of calls.
+ */
+public class RequestTimings {
+
+    public static final String CONTEXT_KEY = "hardship.request-timings";
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final Stage[] STAGES = Stage.values();
+
+    static {
+        ContextRegistry.getInstance()
+                .registerThreadLocalAccessor(CONTEXT_KEY, CURRENT::get, CURRENT::set, CURRENT::remove);
+    }
+
+    private final long started = System.nanoTime();
+    private final AtomicLongArray nanos = new AtomicLongArray(STAGES.length);
+    private final AtomicLongArray calls = new AtomicLongArray(STAGES.length);
+    private volatile long serializationStarted;
+
+    public static RequestTimings open() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    public static Optional<RequestTimings> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public void add(Stage stage, long durationNanos) {
+        nanos.addAndGet(stage.ordinal(), durationNanos);
+        calls.incrementAndGet(stage.ordinal());
+    }
+
+    /**
+     * Marks the point at which the response body starts to be written.
+     */
+    public void startSerialization() {
+        serializationStarted = System.nanoTime();
+    }
+
+    /**
+     * Adds the time since {@link #startSerialization()} to the serialization stage, if the response body was
+     * written at all.
+     */
+    public void finishSerialization() {
+        long mark = serializationStarted;
+        if (mark != 0) {
+            serializationStarted = 0;
+            add(Stage.SERIALIZATION, System.nanoTime() - mark);
+        }
+    }
+
+    /**
+     * Returns the {@code Server-Timing} header value, listing each stage the request passed through followed by
+     * the total time since the timings were opened.
+     */
+    public String header() {
+        StringBuilder header = new StringBuilder();
+        for (Stage stage : STAGES) {
+            long count = calls.get(stage.ordinal());
+            if (count == 0) {
+                continue;
+            }
+            header.append(stage.getTag()).append(";dur=").append(millis(nanos.get(stage.ordinal())));
+            if (count > 1) {
+                header.append(";desc=\"").append(count).append(" calls\"");
+            }
+            header.append(", ");
+        }
+        return header.append("total;dur=").append(millis(System.nanoTime() - started)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
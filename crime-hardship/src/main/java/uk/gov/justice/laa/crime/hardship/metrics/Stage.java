@@ -0,0 +1,22 @@
+package uk.gov.justice.laa.crime.hardship.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The stages a hardship request passes through. Each stage is a separate leaf of the request, so the stages of
+ * one request do not include each other's time.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Stage {
+    VALIDATION("validation"),
+    FULL_THRESHOLD("full_threshold"),
+    CALCULATION("calculation"),
+    MAPPING("mapping"),
+    SERIALIZATION("serialization"),
+    COURT_DATA_READ("court_data_read"),
+    COURT_DATA_WRITE("court_data_write");
+
+    private final String tag;
+}
@@ -0,0 +1,83 @@
+package uk.gov.justice.laa.crime.hardship.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Times each {@link Stage} of a request into the {@code hardship.stage} histogram.
+ * <p>
+ * The timers are tagged with the stage and the outcome only, so there are a fixed number of series whatever the
+ * traffic. They publish histogram buckets, with extra buckets at the service level objectives, and the Prometheus
+ * registry attaches the trace ID of a sampled request to the bucket it was recorded in as an exemplar. When the
+ * request has {@link RequestTimings} open, each stage is also added to them.
+ */
+@Component
+public class StageMetrics {
+
+    static final String STAGE_METRIC = "hardship.stage";
+
+    private static final Duration[] SERVICE_LEVEL_OBJECTIVES = {
+        Duration.ofMillis(5),
+        Duration.ofMillis(10),
+        Duration.ofMillis(25),
+        Duration.ofMillis(50),
+        Duration.ofMillis(100),
+        Duration.ofMillis(250),
+        Duration.ofMillis(500),
+        Duration.ofSeconds(1),
+        Duration.ofMillis(2500),
+        Duration.ofSeconds(5),
+        Duration.ofSeconds(10)
+    };
+
+    private final Map<Stage, Timer> succeeded = new EnumMap<>(Stage.class);
+    private final Map<Stage, Timer> failed = new EnumMap<>(Stage.class);
+
+    public StageMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            succeeded.put(stage, timer(meterRegistry, stage, "success"));
+            failed.put(stage, timer(meterRegistry, stage, "error"));
+        }
+    }
+
+    public <T> T record(Stage stage, Supplier<T> work) {
+        long started = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = work.get();
+            success = true;
+            return result;
+        } finally {
+            long duration = System.nanoTime() - started;
+            (success ? succeeded : failed).get(stage).record(duration, TimeUnit.NANOSECONDS);
+            RequestTimings.current().ifPresent(timings -> timings.add(stage, duration));
+        }
+    }
+
+    public void record(Stage stage, Runnable work) {
+        record(stage, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, Stage stage, String outcome) {
+        return Timer.builder(STAGE_METRIC)
+                .description("Time spent in each stage of a hardship request")
+                .tag("stage", stage.getTag())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+}
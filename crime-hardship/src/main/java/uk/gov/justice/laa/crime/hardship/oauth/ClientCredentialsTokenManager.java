@@ -0,0 +1,208 @@
+package uk.gov.justice.laa.crime.hardship.oauth;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.hardship.concurrent.SingleFlight;
+import uk.gov.justice.laa.crime.hardship.config.ServicesConfiguration;
+import uk.gov.justice.laa.crime.hardship.config.TokenRefreshConfiguration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the client credentials token for each downstream registration and keeps it fresh off the request path.
+ * <p>
+ * Tokens are fetched once the context has started and replaced in the background shortly before they expire,
+ * so requests always find a valid token in memory. A request only fetches a token itself when none is held,
+ * e.g. because the token endpoint was unavailable, and concurrent requests then share a single fetch.
+ */
+@Slf4j
+@Component
+public class ClientCredentialsTokenManager {
+
+    static final String PRINCIPAL = "crime-hardship";
+    private static final String FETCH_METRIC = "hardship.oauth.token.fetch";
+
+    private final OAuth2AuthorizedClientManager authorizedClientManager;
+    private final OAuth2AuthorizedClientService authorizedClientService;
+    private final TokenRefreshConfiguration configuration;
+    private final List<String> registrationIds;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<String, OAuth2AccessToken> tokens = new ConcurrentHashMap<>();
+    private final SingleFlight<String, OAuth2AccessToken> pendingFetches = new SingleFlight<>();
+    private ScheduledExecutorService refresher;
+
+    @Autowired
+    public ClientCredentialsTokenManager(
+            OAuth2AuthorizedClientManager authorizedClientManager,
+            OAuth2AuthorizedClientService authorizedClientService,
+            TokenRefreshConfiguration configuration,
+            ServicesConfiguration servicesConfiguration,
+            MeterRegistry meterRegistry) {
+        this(
+                authorizedClientManager,
+                authorizedClientService,
+                configuration,
+                List.of(
+                        servicesConfiguration.getMaatApi().getRegistrationId(),
+                        servicesConfiguration.getCmaApi().getRegistrationId()),
+                meterRegistry,
+                Clock.systemUTC());
+    }
+
+    ClientCredentialsTokenManager(
+            OAuth2AuthorizedClientManager authorizedClientManager,
+            OAuth2AuthorizedClientService authorizedClientService,
+            TokenRefreshConfiguration configuration,
+            List<String> registrationIds,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.authorizedClientManager = authorizedClientManager;
+        this.authorizedClientService = authorizedClientService;
+        this.configuration = configuration;
+        this.registrationIds = registrationIds.stream().distinct().toList();
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.registrationIds.forEach(registrationId -> Gauge.builder(
+                        "hardship.oauth.token.expiry", tokens, held -> secondsToExpiry(held.get(registrationId)))
+                .description("Seconds until the held client credentials token expires")
+                .baseUnit("seconds")
+                .tag("registration", registrationId)
+                .register(meterRegistry));
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        if (!configuration.isEnabled()) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("oauth-token-refresher").daemon().factory());
+        registrationIds.forEach(registrationId -> refresher.execute(() -> refresh(registrationId)));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the held token for the registration, fetching one if none is held or it is about to expire.
+     */
+    public OAuth2AccessToken getToken(String registrationId) {
+        return currentToken(registrationId).orElseGet(() -> pendingFetches.execute(registrationId, () -> {
+            Optional<OAuth2AccessToken> fetchedMeanwhile = currentToken(registrationId);
+            return fetchedMeanwhile.isPresent() ? fetchedMeanwhile.get() : fetch(registrationId);
+        }));
+    }
+
+    /**
+     * Returns the held token for the registration if it is valid for at least the configured minimum validity.
+     */
+    public Optional<OAuth2AccessToken> currentToken(String registrationId) {
+        OAuth2AccessToken token = tokens.get(registrationId);
+        if (token == null
+                || (token.getExpiresAt() != null
+                        && !token.getExpiresAt().isAfter(clock.instant().plus(configuration.getMinValidity())))) {
+            return Optional.empty();
+        }
+        return Optional.of(token);
+    }
+
+    /**
+     * Drops a token the downstream service has rejected, so that the next request fetches a new one.
+     */
+    public void invalidate(String registrationId, OAuth2AccessToken token) {
+        if (tokens.remove(registrationId, token)) {
+            log.warn("Discarded rejected access token for {}", registrationId);
+        }
+    }
+
+    void refresh(String registrationId) {
+        Duration delay;
+        try {
+            OAuth2AccessToken token = pendingFetches.execute(registrationId, () -> fetch(registrationId));
+            delay = refreshDelay(token, clock.instant());
+        } catch (RuntimeException e) {
+            log.warn("Unable to fetch access token for {}", registrationId, e);
+            delay = configuration.getRetryInterval();
+        }
+        if (refresher != null && !refresher.isShutdown()) {
+            refresher.schedule(() -> refresh(registrationId), delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Time until a token should be replaced: the refresh-ahead window before it expires, or half way through
+     * its remaining lifetime for tokens that live shorter than twice that window.
+     */
+    Duration refreshDelay(OAuth2AccessToken token, Instant now) {
+        if (token.getExpiresAt() == null) {
+            return configuration.getRetryInterval();
+        }
+        Duration lifetime = Duration.between(now, token.getExpiresAt());
+        if (lifetime.isNegative()) {
+            return Duration.ZERO;
+        }
+        Duration halfLifetime = lifetime.dividedBy(2);
+        Duration refreshAhead = configuration.getRefreshAhead();
+        return lifetime.minus(refreshAhead.compareTo(halfLifetime) < 0 ? refreshAhead : halfLifetime);
+    }
+
+    private OAuth2AccessToken fetch(String registrationId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
+        try {
+            // Drop the stored client so that the provider fetches a new token even though the old one is valid.
+            authorizedClientService.removeAuthorizedClient(registrationId, PRINCIPAL);
+            OAuth2AuthorizedClient authorizedClient = authorizedClientManager.authorize(
+                    OAuth2AuthorizeRequest.withClientRegistrationId(registrationId)
+                            .principal(PRINCIPAL)
+                            .build());
+            if (authorizedClient == null) {
+                throw new IllegalStateException("No access token was issued for " + registrationId);
+            }
+            OAuth2AccessToken token = authorizedClient.getAccessToken();
+            tokens.put(registrationId, token);
+            result = "success";
+            return token;
+        } finally {
+            sample.stop(Timer.builder(FETCH_METRIC)
+                    .description("Time taken to fetch a client credentials token")
+                    .tag("registration", registrationId)
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    private double secondsToExpiry(OAuth2AccessToken token) {
+        if (token == null || token.getExpiresAt() == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(clock.instant(), token.getExpiresAt()).toMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,157 @@
+package uk.gov.justice.laa.crime.hardship.service;
+
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipRequest;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipResponse;
+import uk.gov.justice.laa.crime.dto.ErrorDTO;
+import uk.gov.justice.laa.crime.exception.ValidationException;
+import uk.gov.justice.laa.crime.hardship.concurrent.FanOut;
+import uk.gov.justice.laa.crime.hardship.deadline.RequestDeadline;
+import uk.gov.justice.laa.crime.hardship.dto.CalculateHardshipBatchResult;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipResult;
+import uk.gov.justice.laa.crime.hardship.tracing.TraceIdHandler;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchHardshipCalculationService {
+
+    static final int MAX_BATCH_SIZE = 200;
+
+    private final Validator validator;
+    private final TraceIdHandler traceIdHandler;
+    private final CrimeMeansAssessmentService crimeMeansAssessmentService;
+    private final HardshipCalculationService hardshipCalculationService;
+
+    /**
+     * Calculates every request in the batch and returns the results in request order. Items are grouped by
+     * review date so that each distinct threshold is looked up once, and an item that cannot be calculated
+     * is reported with its own error rather than failing the batch.
+     */
+    public List<CalculateHardshipBatchResult> calculateHardship(List<ApiCalculateHardshipRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("A batch may contain at most " + MAX_BATCH_SIZE + " requests");
+        }
+        String traceId = traceIdHandler.getTraceId();
+        CalculateHardshipBatchResult[] results = new CalculateHardshipBatchResult[requests.size()];
+        Map<LocalDate, List<Integer>> itemsByReviewDate = new LinkedHashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            String violations = validate(requests.get(i));
+            if (violations != null) {
+                results[i] = failure(HttpStatus.BAD_REQUEST, violations, traceId);
+            } else {
+                LocalDate reviewDate = requests.get(i).getHardship().getReviewDate().toLocalDate();
+                itemsByReviewDate.computeIfAbsent(reviewDate, date -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<LocalDate, Supplier<ThresholdLookup>> thresholds = new LinkedHashMap<>();
+        try (FanOut fanOut = FanOut.open()) {
+            itemsByReviewDate.keySet().forEach(reviewDate -> thresholds.put(
+                    reviewDate, fanOut.fork(() -> lookUpThreshold(reviewDate, traceId))));
+            fanOut.join();
+        }
+        RequestDeadline.throwIfExpired();
+
+        itemsByReviewDate.forEach((reviewDate, items) -> {
+            ThresholdLookup threshold = thresholds.get(reviewDate).get();
+            if (threshold.error() != null) {
+                items.forEach(i -> results[i] = CalculateHardshipBatchResult.builder()
+                        .error(threshold.error())
+                        .build());
+            }
+        });
+
+        IntStream.range(0, results.length)
+                .parallel()
+                .filter(i -> results[i] == null)
+                .forEach(i -> {
+                    ApiCalculateHardshipRequest request = requests.get(i);
+                    BigDecimal fullThreshold = thresholds
+                            .get(request.getHardship().getReviewDate().toLocalDate())
+                            .get()
+                            .threshold();
+                    results[i] = calculate(request, fullThreshold, traceId);
+                });
+
+        return Arrays.asList(results);
+    }
+
+    private String validate(ApiCalculateHardshipRequest request) {
+        if (request == null) {
+            return "Request must not be null";
+        }
+        var violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private ThresholdLookup lookUpThreshold(LocalDate reviewDate, String traceId) {
+        try {
+            return new ThresholdLookup(crimeMeansAssessmentService.getFullAssessmentThreshold(reviewDate), null);
+        } catch (WebClientResponseException exception) {
+            log.warn("Unable to look up the full assessment threshold for {}", reviewDate, exception);
+            return new ThresholdLookup(null, error(exception.getStatusCode(), exception.getMessage(), traceId));
+        } catch (RuntimeException exception) {
+            log.warn("Unable to look up the full assessment threshold for {}", reviewDate, exception);
+            return new ThresholdLookup(
+                    null, error(HttpStatus.INTERNAL_SERVER_ERROR, exception.getMessage(), traceId));
+        }
+    }
+
+    private CalculateHardshipBatchResult calculate(
+            ApiCalculateHardshipRequest request, BigDecimal fullThreshold, String traceId) {
+        try {
+            HardshipResult hardshipResult =
+                    hardshipCalculationService.calculateHardship(request.getHardship(), fullThreshold);
+            return CalculateHardshipBatchResult.builder()
+                    .result(new ApiCalculateHardshipResponse()
+                            .withReviewResult(hardshipResult.getResult())
+                            .withPostHardshipDisposableIncome(hardshipResult.getPostHardshipDisposableIncome()))
+                    .build();
+        } catch (RuntimeException exception) {
+            log.warn("Unable to calculate hardship for a batch item", exception);
+            return failure(HttpStatus.INTERNAL_SERVER_ERROR, exception.getMessage(), traceId);
+        }
+    }
+
+    private static CalculateHardshipBatchResult failure(HttpStatusCode status, String message, String traceId) {
+        return CalculateHardshipBatchResult.builder()
+                .error(error(status, message, traceId))
+                .build();
+    }
+
+    private static ErrorDTO error(HttpStatusCode status, String message, String traceId) {
+        return ErrorDTO.builder()
+                .traceId(traceId)
+                .code(status.toString())
+                .message(message)
+                .build();
+    }
+
+    private record ThresholdLookup(BigDecimal threshold, ErrorDTO error) {}
+}
@@ -0,0 +1,139 @@
+package uk.gov.justice.laa.crime.hardship.service;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailRequest;
+import uk.gov.justice.laa.crime.dto.ErrorDTO;
+import uk.gov.justice.laa.crime.enums.HardshipReviewDetailType;
+import uk.gov.justice.laa.crime.exception.ValidationException;
+import uk.gov.justice.laa.crime.hardship.concurrent.FanOut;
+import uk.gov.justice.laa.crime.hardship.config.ServicesConfiguration;
+import uk.gov.justice.laa.crime.hardship.deadline.RequestDeadline;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipDetailSummaries;
+import uk.gov.justice.laa.crime.hardship.tracing.TraceIdHandler;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@Slf4j
+@Service
+public class BulkHardshipCalculationService {
+
+    static final int MAX_BULK_SIZE = 10_000;
+
+    private final HardshipCalculationService hardshipCalculationService;
+    private final TraceIdHandler traceIdHandler;
+    private final int concurrency;
+
+    public BulkHardshipCalculationService(
+            HardshipCalculationService hardshipCalculationService,
+            TraceIdHandler traceIdHandler,
+            ServicesConfiguration servicesConfiguration) {
+        this.hardshipCalculationService = hardshipCalculationService;
+        this.traceIdHandler = traceIdHandler;
+        this.concurrency = servicesConfiguration.getMaatApi().getBulkConcurrency();
+    }
+
+    /**
+     * Calculates the hardship summary for every distinct rep id and detail type pair. The MAAT API calls run
+     * concurrently on virtual threads, with at most {@code services.maat-api.bulk-concurrency} in flight, and
+     * a pair that fails is reported in the errors rather than failing the whole request.
+     */
+    public HardshipDetailSummaries calculateHardshipForDetails(List<ApiCalculateHardshipByDetailRequest> requests) {
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw new ValidationException("A bulk request may contain at most " + MAX_BULK_SIZE + " items");
+        }
+        Set<DetailKey> keys = new LinkedHashSet<>();
+        for (ApiCalculateHardshipByDetailRequest request : requests) {
+            if (request == null || request.getRepId() == null || request.getDetailType() == null) {
+                throw new ValidationException("Each item must have a repId and a detailType");
+            }
+            keys.add(new DetailKey(request.getRepId(), request.getDetailType()));
+        }
+
+        String traceId = traceIdHandler.getTraceId();
+        Map<DetailKey, Supplier<Summary>> pending = new LinkedHashMap<>();
+        Semaphore permits = new Semaphore(concurrency);
+        try (FanOut fanOut = FanOut.open()) {
+            for (DetailKey key : keys) {
+                RequestDeadline.throwIfExpired();
+                acquire(permits);
+                pending.put(key, fanOut.fork(() -> {
+                    try {
+                        return summarise(key, traceId);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            fanOut.join();
+        }
+
+        HardshipDetailSummaries response = new HardshipDetailSummaries();
+        pending.forEach((key, summary) -> {
+            Summary result = summary.get();
+            if (result.error() != null) {
+                response.getErrors()
+                        .computeIfAbsent(key.repId(), repId -> new TreeMap<>())
+                        .put(key.detailType(), result.error());
+            } else {
+                response.getSummaries()
+                        .computeIfAbsent(key.repId(), repId -> new TreeMap<>())
+                        .put(key.detailType(), result.total());
+            }
+        });
+        return response;
+    }
+
+    private Summary summarise(DetailKey key, String traceId) {
+        HardshipReviewDetailType detailType;
+        try {
+            detailType = HardshipReviewDetailType.valueOf(key.detailType());
+        } catch (IllegalArgumentException exception) {
+            return new Summary(null, error(HttpStatus.BAD_REQUEST, "Unknown detailType: " + key.detailType(), traceId));
+        }
+        try {
+            BigDecimal total = hardshipCalculationService
+                    .calculateHardshipForDetail(key.repId(), detailType)
+                    .getHardshipSummary();
+            return new Summary(total, null);
+        } catch (WebClientResponseException exception) {
+            return new Summary(null, error(exception.getStatusCode(), exception.getMessage(), traceId));
+        } catch (RuntimeException exception) {
+            log.warn("Unable to calculate hardship for rep id {}", key.repId(), exception);
+            return new Summary(null, error(HttpStatus.INTERNAL_SERVER_ERROR, exception.getMessage(), traceId));
+        }
+    }
+
+    private static void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to call the MAAT API", e);
+        }
+    }
+
+    private static ErrorDTO error(HttpStatusCode status, String message, String traceId) {
+        return ErrorDTO.builder()
+                .traceId(traceId)
+                .code(status.toString())
+                .message(message)
+                .build();
+    }
+
+    private record DetailKey(Integer repId, String detailType) {}
+
+    private record Summary(BigDecimal total, ErrorDTO error) {}
+}
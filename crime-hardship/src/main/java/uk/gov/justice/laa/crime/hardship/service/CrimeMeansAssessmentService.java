@@ -1,25 +1,159 @@
 package uk.gov.justice.laa.crime.hardship.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.hardship.cache.FullAssessmentThresholdStore;
+import uk.gov.justice.laa.crime.hardship.cache.ThresholdInterval;
 import uk.gov.justice.laa.crime.hardship.client.MeansAssessmentApiClient;
+import uk.gov.justice.laa.crime.hardship.concurrent.SingleFlight;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CrimeMeansAssessmentService {
-    private final MeansAssessmentApiClient cmaApiClient;
     private static final String RESPONSE_STRING = "Response from CMA API: {}";
+    private static final DateTimeFormatter ASSESSMENT_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final String CACHE_REQUESTS_METRIC = "hardship.threshold.cache.requests";
+
+    private final MeansAssessmentApiClient cmaApiClient;
+    private final FullAssessmentThresholdStore thresholdStore;
+    private final CachingConfiguration.Threshold cacheConfiguration;
+    private final SingleFlight<LocalDate, BigDecimal> pendingLoads = new SingleFlight<>();
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter staleHits;
+    private final Timer loadTimer;
+
+    public CrimeMeansAssessmentService(
+            MeansAssessmentApiClient cmaApiClient,
+            FullAssessmentThresholdStore thresholdStore,
+            CachingConfiguration cachingConfiguration,
+            MeterRegistry meterRegistry) {
+        this.cmaApiClient = cmaApiClient;
+        this.thresholdStore = thresholdStore;
+        this.cacheConfiguration = cachingConfiguration.getThreshold();
+        this.cacheHits = Counter.builder(CACHE_REQUESTS_METRIC)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder(CACHE_REQUESTS_METRIC)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.staleHits = Counter.builder(CACHE_REQUESTS_METRIC)
+                .tag("result", "stale")
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder("hardship.threshold.load")
+                .description("Time taken to load a full assessment threshold from CMA")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        FunctionCounter.builder("hardship.threshold.load.coalesced", pendingLoads, SingleFlight::sharedCalls)
+                .description("Threshold lookups that shared an in-flight CMA call")
+                .register(meterRegistry);
+        Gauge.builder("hardship.threshold.cache.intervals", thresholdStore, FullAssessmentThresholdStore::size)
+                .register(meterRegistry);
+    }
 
     public BigDecimal getFullAssessmentThreshold(LocalDateTime assessmentDate) {
-        BigDecimal response = cmaApiClient.find(assessmentDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        return getFullAssessmentThreshold(assessmentDate.toLocalDate());
+    }
+
+    public BigDecimal getFullAssessmentThreshold(LocalDate assessmentDate) {
+        if (!cacheConfiguration.isEnabled()) {
+            return fetch(assessmentDate);
+        }
+
+        Optional<BigDecimal> cached = findCachedThreshold(assessmentDate);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        try {
+            return refreshFullAssessmentThreshold(assessmentDate);
+        } catch (WebClientRequestException | WebClientResponseException exception) {
+            return findLastKnownThreshold(assessmentDate, exception).orElseThrow(() -> exception);
+        }
+    }
+
+    public BigDecimal refreshFullAssessmentThreshold(LocalDate assessmentDate) {
+        return pendingLoads.execute(assessmentDate, () -> load(assessmentDate));
+    }
+
+    /**
+     * Returns the cached threshold for the date if it is still fresh, recording a cache hit or miss.
+     */
+    Optional<BigDecimal> findCachedThreshold(LocalDate assessmentDate) {
+        if (!cacheConfiguration.isEnabled()) {
+            return Optional.empty();
+        }
+        Optional<ThresholdInterval> cached = thresholdStore.find(assessmentDate);
+        if (cached.isPresent() && !cached.get().isStale(Instant.now(), cacheConfiguration.getTimeToLive())) {
+            cacheHits.increment();
+            return Optional.of(cached.get().threshold());
+        }
+        cacheMisses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the last known threshold for the date when CMA is unavailable, so that a stale value is
+     * served rather than failing the request.
+     */
+    Optional<BigDecimal> findLastKnownThreshold(LocalDate assessmentDate, Throwable exception) {
+        if (!cacheConfiguration.isEnabled() || !isUnavailable(exception)) {
+            return Optional.empty();
+        }
+        Optional<ThresholdInterval> lastKnown =
+                thresholdStore.find(assessmentDate).or(() -> thresholdStore.findLatestOnOrBefore(assessmentDate));
+        lastKnown.ifPresent(interval -> {
+            staleHits.increment();
+            log.warn(
+                    "CMA unavailable, serving last known full assessment threshold {} for {}",
+                    interval.threshold(),
+                    assessmentDate,
+                    exception);
+        });
+        return lastKnown.map(ThresholdInterval::threshold);
+    }
+
+    void rememberThreshold(LocalDate assessmentDate, BigDecimal threshold) {
+        if (cacheConfiguration.isEnabled() && threshold != null) {
+            thresholdStore.put(assessmentDate, threshold, Instant.now());
+        }
+    }
+
+    private BigDecimal load(LocalDate assessmentDate) {
+        BigDecimal threshold = loadTimer.record(() -> fetch(assessmentDate));
+        rememberThreshold(assessmentDate, threshold);
+        return threshold;
+    }
+
+    private BigDecimal fetch(LocalDate assessmentDate) {
+        BigDecimal response = cmaApiClient.find(formatAssessmentDate(assessmentDate));
         log.info(RESPONSE_STRING, response);
         return response;
     }
+
+    static String formatAssessmentDate(LocalDate assessmentDate) {
+        return assessmentDate.format(ASSESSMENT_DATE_FORMAT);
+    }
+
+    private static boolean isUnavailable(Throwable exception) {
+        return exception instanceof WebClientRequestException
+                || (exception instanceof WebClientResponseException responseException
+                        && responseException.getStatusCode().is5xxServerError());
+    }
 }
@@ -8,19 +8,17 @@ import lombok.extern.slf4j.Slf4j;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailResponse;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiHardshipDetail;
 import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
-import uk.gov.justice.laa.crime.common.model.hardship.SolicitorCosts;
 import uk.gov.justice.laa.crime.enums.HardshipReviewDetailType;
 import uk.gov.justice.laa.crime.enums.HardshipReviewResult;
+import uk.gov.justice.laa.crime.hardship.cache.CachedHardshipDetails;
+import uk.gov.justice.laa.crime.hardship.cache.HardshipDetailCache;
+import uk.gov.justice.laa.crime.hardship.calculation.HardshipCalculationEngine;
 import uk.gov.justice.laa.crime.hardship.dto.HardshipResult;
 import uk.gov.justice.laa.crime.hardship.mapper.HardshipDetailMapper;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 
@@ -31,54 +29,34 @@ public class HardshipCalculationService {
 
     private final HardshipDetailMapper detailMapper;
     private final MaatCourtDataService maatCourtDataService;
-
-    private static BigDecimal calculateDetails(HardshipReview hardship) {
-        BigDecimal total = Stream.of(hardship.getDeniedIncome(), hardship.getExtraExpenditure())
-                .flatMap(Collection::stream)
-                .filter(item -> Boolean.TRUE.equals(item.getAccepted()))
-                .map(item -> item.getAmount()
-                        .multiply(BigDecimal.valueOf(item.getFrequency().getWeighting())))
-                .reduce(BigDecimal::add)
-                .orElse(BigDecimal.ZERO);
-
-        SolicitorCosts solicitorCosts = hardship.getSolicitorCosts();
-        if (solicitorCosts != null) {
-            BigDecimal estimatedTotal;
-            if (solicitorCosts.getEstimatedTotal() != null) {
-                estimatedTotal = solicitorCosts.getEstimatedTotal();
-            } else {
-                estimatedTotal = solicitorCosts
-                        .getRate()
-                        .multiply(solicitorCosts.getHours())
-                        .add(solicitorCosts.getVat())
-                        .add(Optional.ofNullable(solicitorCosts.getDisbursements())
-                                .orElse(BigDecimal.ZERO));
-                solicitorCosts.setEstimatedTotal(estimatedTotal);
-            }
-            total = total.add(estimatedTotal);
-        }
-        return total;
-    }
+    private final HardshipDetailCache hardshipDetailCache;
+    private final HardshipCalculationEngine calculationEngine;
 
     public ApiCalculateHardshipByDetailResponse calculateHardshipForDetail(
             Integer repId, HardshipReviewDetailType detailType) {
-        List<ApiHardshipDetail> response = maatCourtDataService.getHardshipByDetailType(repId, detailType.getType());
+        CachedHardshipDetails cached = hardshipDetailCache.get(repId, detailType.getType(), () -> {
+            List<ApiHardshipDetail> response =
+                    maatCourtDataService.getHardshipByDetailType(repId, detailType.getType());
+            return new CachedHardshipDetails(
+                    response, calculateHardshipForDetail(response).getHardshipSummary());
+        });
+        return new ApiCalculateHardshipByDetailResponse().withHardshipSummary(cached.summary());
+    }
 
+    public ApiCalculateHardshipByDetailResponse calculateHardshipForDetail(List<ApiHardshipDetail> response) {
         BigDecimal total = BigDecimal.ZERO;
         if (response != null) {
             HardshipReview hardship = new HardshipReview();
             detailMapper.toDto(response, hardship);
-            total = calculateDetails(hardship);
+            total = calculationEngine.calculateTotal(hardship);
         }
         return new ApiCalculateHardshipByDetailResponse().withHardshipSummary(total);
     }
 
     public HardshipResult calculateHardship(final HardshipReview hardship, final BigDecimal fullThreshold) {
 
-        BigDecimal total = calculateDetails(hardship);
-
         final BigDecimal disposableIncomeAfterHardship =
-                hardship.getTotalAnnualDisposableIncome().subtract(total).setScale(2, RoundingMode.HALF_UP);
+                calculationEngine.calculateDisposableIncomeAfterHardship(hardship);
 
         HardshipReviewResult result = FAIL;
         if (disposableIncomeAfterHardship.compareTo(fullThreshold) <= 0) {
@@ -0,0 +1,240 @@
+package uk.gov.justice.laa.crime.hardship.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipResponse;
+import uk.gov.justice.laa.crime.dto.ErrorDTO;
+import uk.gov.justice.laa.crime.hardship.deadline.RequestDeadline;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipRecalculationRequest;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipRecalculationResult;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipResult;
+import uk.gov.justice.laa.crime.hardship.tracing.TraceIdHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Recalculates a stream of hardship reviews read as NDJSON, writing one NDJSON result per input line.
+ * <p>
+ * Lines are read, calculated and written one at a time on the calling thread, so memory use does not grow
+ * with the size of the input and a client that stops reading the results stops the input being consumed.
+ */
+@Slf4j
+@Service
+public class HardshipRecalculationService {
+
+    private static final String ITEMS_METRIC = "hardship.recalculation.items";
+    private static final int FLUSH_INTERVAL = 64;
+    private static final int MAX_REMEMBERED_THRESHOLDS = 256;
+    private static final Duration FAILED_LOOKUP_MEMORY = Duration.ofSeconds(30);
+    private static final byte NEWLINE = '\n';
+
+    private final ObjectReader requestReader;
+    private final ObjectWriter resultWriter;
+    private final Validator validator;
+    private final TraceIdHandler traceIdHandler;
+    private final CrimeMeansAssessmentService crimeMeansAssessmentService;
+    private final HardshipCalculationService hardshipCalculationService;
+    private final Counter calculatedItems;
+    private final Counter failedItems;
+    private final LongTaskTimer activeStreams;
+
+    public HardshipRecalculationService(
+            ObjectMapper objectMapper,
+            Validator validator,
+            TraceIdHandler traceIdHandler,
+            CrimeMeansAssessmentService crimeMeansAssessmentService,
+            HardshipCalculationService hardshipCalculationService,
+            MeterRegistry meterRegistry) {
+        this.requestReader = objectMapper.readerFor(HardshipRecalculationRequest.class);
+        this.resultWriter = objectMapper.writerFor(HardshipRecalculationResult.class);
+        this.validator = validator;
+        this.traceIdHandler = traceIdHandler;
+        this.crimeMeansAssessmentService = crimeMeansAssessmentService;
+        this.hardshipCalculationService = hardshipCalculationService;
+        this.calculatedItems = Counter.builder(ITEMS_METRIC)
+                .description("Hardship reviews recalculated from a stream")
+                .tag("outcome", "calculated")
+                .register(meterRegistry);
+        this.failedItems = Counter.builder(ITEMS_METRIC)
+                .description("Hardship reviews recalculated from a stream")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        this.activeStreams = LongTaskTimer.builder("hardship.recalculation.streams")
+                .description("Recalculation streams in progress")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reads requests from the input until it is exhausted, writing a result for each. A line that cannot be
+     * parsed ends the stream with an error result, since the lines after it cannot be located reliably.
+     *
+     * @return the number of lines processed
+     */
+    public long recalculate(InputStream input, OutputStream output) throws IOException {
+        String traceId = traceIdHandler.getTraceId();
+        StreamThresholds thresholds = new StreamThresholds();
+
+        LongTaskTimer.Sample stream = activeStreams.start();
+        long line = 0;
+        int unflushed = 0;
+        try (MappingIterator<HardshipRecalculationRequest> requests = requestReader.readValues(input)) {
+            while (true) {
+                RequestDeadline.throwIfExpired();
+                HardshipRecalculationResult result;
+                try {
+                    if (!requests.hasNextValue()) {
+                        break;
+                    }
+                    HardshipRecalculationRequest request = requests.nextValue();
+                    result = recalculate(++line, request, thresholds, traceId);
+                } catch (JsonProcessingException exception) {
+                    result = failure(++line, null, HttpStatus.BAD_REQUEST, exception.getOriginalMessage(), traceId);
+                    write(result, output);
+                    break;
+                }
+                write(result, output);
+                if (++unflushed >= FLUSH_INTERVAL || input.available() == 0) {
+                    output.flush();
+                    unflushed = 0;
+                }
+            }
+            output.flush();
+        } finally {
+            long elapsedMillis = (long) stream.duration(TimeUnit.MILLISECONDS);
+            stream.stop();
+            log.info("Recalculated {} hardship reviews in {} ms", line, elapsedMillis);
+        }
+        return line;
+    }
+
+    private HardshipRecalculationResult recalculate(
+            long line, HardshipRecalculationRequest request, StreamThresholds thresholds, String traceId) {
+        String violations = validate(request);
+        if (violations != null) {
+            String reference = request == null ? null : request.getReference();
+            return failure(line, reference, HttpStatus.BAD_REQUEST, violations, traceId);
+        }
+        LocalDate thresholdDate = request.getThresholdDate() != null
+                ? request.getThresholdDate()
+                : request.getHardship().getReviewDate().toLocalDate();
+        try {
+            BigDecimal fullThreshold = thresholds.get(thresholdDate);
+            HardshipResult hardshipResult =
+                    hardshipCalculationService.calculateHardship(request.getHardship(), fullThreshold);
+            calculatedItems.increment();
+            return HardshipRecalculationResult.builder()
+                    .line(line)
+                    .reference(request.getReference())
+                    .result(new ApiCalculateHardshipResponse()
+                            .withReviewResult(hardshipResult.getResult())
+                            .withPostHardshipDisposableIncome(hardshipResult.getPostHardshipDisposableIncome()))
+                    .build();
+        } catch (WebClientResponseException exception) {
+            return failure(line, request.getReference(), exception.getStatusCode(), exception.getMessage(), traceId);
+        } catch (RuntimeException exception) {
+            log.warn("Unable to recalculate hardship on line {}", line, exception);
+            return failure(
+                    line, request.getReference(), HttpStatus.INTERNAL_SERVER_ERROR, exception.getMessage(), traceId);
+        }
+    }
+
+    private String validate(HardshipRecalculationRequest request) {
+        if (request == null) {
+            return "Request must not be null";
+        }
+        var violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private HardshipRecalculationResult failure(
+            long line, String reference, HttpStatusCode status, String message, String traceId) {
+        failedItems.increment();
+        return HardshipRecalculationResult.builder()
+                .line(line)
+                .reference(reference)
+                .error(ErrorDTO.builder()
+                        .traceId(traceId)
+                        .code(status.toString())
+                        .message(message)
+                        .build())
+                .build();
+    }
+
+    private void write(HardshipRecalculationResult result, OutputStream output) throws IOException {
+        output.write(resultWriter.writeValueAsBytes(result));
+        output.write(NEWLINE);
+    }
+
+    private static <V> Map<LocalDate, V> lruMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, V> eldest) {
+                return size() > MAX_REMEMBERED_THRESHOLDS;
+            }
+        };
+    }
+
+    /**
+     * The full assessment thresholds looked up while processing one stream. A failed lookup is remembered for
+     * {@link #FAILED_LOOKUP_MEMORY}, so that while CMA is unavailable the following lines for the same date fail
+     * straight away rather than each waiting through the full retry sequence.
+     */
+    private final class StreamThresholds {
+
+        private final Map<LocalDate, BigDecimal> thresholds = lruMap();
+        private final Map<LocalDate, FailedLookup> failures = lruMap();
+
+        BigDecimal get(LocalDate date) {
+            BigDecimal threshold = thresholds.get(date);
+            if (threshold != null) {
+                return threshold;
+            }
+            FailedLookup failure = failures.get(date);
+            if (failure != null) {
+                if (System.nanoTime() - failure.failedAt() < FAILED_LOOKUP_MEMORY.toNanos()) {
+                    throw failure.exception();
+                }
+                failures.remove(date);
+            }
+            try {
+                threshold = crimeMeansAssessmentService.getFullAssessmentThreshold(date);
+            } catch (RuntimeException exception) {
+                failures.put(date, new FailedLookup(exception, System.nanoTime()));
+                throw exception;
+            }
+            thresholds.put(date, threshold);
+            return threshold;
+        }
+    }
+
+    private record FailedLookup(RuntimeException exception, long failedAt) {}
+}
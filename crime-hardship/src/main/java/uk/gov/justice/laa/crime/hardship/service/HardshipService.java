@@ -8,9 +8,14 @@ import uk.gov.justice.laa.crime.common.model.hardship.maat_api.ApiPersistHardshi
 import uk.gov.justice.laa.crime.common.model.hardship.maat_api.ApiPersistHardshipResponse;
 import uk.gov.justice.laa.crime.enums.HardshipReviewStatus;
 import uk.gov.justice.laa.crime.enums.RequestType;
+import uk.gov.justice.laa.crime.hardship.cache.HardshipDetailCache;
+import uk.gov.justice.laa.crime.hardship.cache.HardshipResponseCache;
+import uk.gov.justice.laa.crime.hardship.cache.SerializedHardship;
 import uk.gov.justice.laa.crime.hardship.dto.HardshipResult;
 import uk.gov.justice.laa.crime.hardship.dto.HardshipReviewDTO;
 import uk.gov.justice.laa.crime.hardship.mapper.PersistHardshipMapper;
+import uk.gov.justice.laa.crime.hardship.metrics.Stage;
+import uk.gov.justice.laa.crime.hardship.metrics.StageMetrics;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
@@ -27,6 +32,9 @@ public class HardshipService {
     private final MaatCourtDataService maatCourtDataService;
     private final HardshipCalculationService hardshipCalculationService;
     private final CrimeMeansAssessmentService crimeMeansAssessmentService;
+    private final HardshipDetailCache hardshipDetailCache;
+    private final HardshipResponseCache hardshipResponseCache;
+    private final StageMetrics stageMetrics;
 
     public HardshipReviewDTO create(HardshipReviewDTO hardshipReviewDTO) {
         return persist(hardshipReviewDTO, RequestType.CREATE);
@@ -40,21 +48,69 @@ public class HardshipService {
         return maatCourtDataService.getHardship(hardshipId);
     }
 
+    /**
+     * Returns the hardship review serialized for the response, or {@code null} if it does not exist.
+     */
+    public SerializedHardship findSerialized(Integer hardshipId) {
+        byte[] source = maatCourtDataService.getHardshipBody(hardshipId);
+        if (source == null) {
+            return null;
+        }
+        return stageMetrics.record(Stage.SERIALIZATION, () -> hardshipResponseCache.serialize(hardshipId, source));
+    }
+
     public void rollback(Integer hardshipReviewId) {
+        try {
+            maatCourtDataService.patchHardship(hardshipReviewId, rollbackFields());
+        } finally {
+            hardshipDetailCache.invalidateHardshipReview(hardshipReviewId);
+        }
+    }
+
+    public static Map<String, Object> rollbackFields() {
         Map<String, Object> updateFields = new HashMap<>();
         updateFields.put("status", HardshipReviewStatus.IN_PROGRESS);
         updateFields.put("reviewResult", null);
-        maatCourtDataService.patchHardship(hardshipReviewId, updateFields);
+        return updateFields;
     }
 
-    private HardshipReviewDTO persist(HardshipReviewDTO hardshipReviewDTO, RequestType requestType) {
-        HardshipReview hardship = hardshipReviewDTO.getHardship();
-        BigDecimal fullThreshold = crimeMeansAssessmentService.getFullAssessmentThreshold(hardship.getReviewDate());
-        HardshipResult result = hardshipCalculationService.calculateHardship(hardship, fullThreshold);
+    /**
+     * Calculates the hardship result and builds the Court Data API request that persists it.
+     */
+    public ApiPersistHardshipRequest prepare(HardshipReviewDTO hardshipReviewDTO, BigDecimal fullThreshold) {
+        HardshipResult result = stageMetrics.record(
+                Stage.CALCULATION,
+                () -> hardshipCalculationService.calculateHardship(hardshipReviewDTO.getHardship(), fullThreshold));
         hardshipReviewDTO.setHardshipResult(result);
-        ApiPersistHardshipRequest request = mapper.fromDto(hardshipReviewDTO);
-        ApiPersistHardshipResponse response = maatCourtDataService.persistHardship(request, requestType);
-        mapper.toDto(response, hardshipReviewDTO);
+        return stageMetrics.record(Stage.MAPPING, () -> mapper.fromDto(hardshipReviewDTO));
+    }
+
+    public HardshipReviewDTO complete(HardshipReviewDTO hardshipReviewDTO, ApiPersistHardshipResponse response) {
+        stageMetrics.record(Stage.MAPPING, () -> mapper.toDto(response, hardshipReviewDTO));
+        hardshipDetailCache.rememberHardshipReview(response.getId(), repId(hardshipReviewDTO));
         return hardshipReviewDTO;
     }
+
+    private HardshipReviewDTO persist(HardshipReviewDTO hardshipReviewDTO, RequestType requestType) {
+        HardshipReview hardship = hardshipReviewDTO.getHardship();
+        BigDecimal fullThreshold = hardshipReviewDTO.getFullThreshold() != null
+                ? hardshipReviewDTO.getFullThreshold()
+                : stageMetrics.record(
+                        Stage.FULL_THRESHOLD,
+                        () -> crimeMeansAssessmentService.getFullAssessmentThreshold(hardship.getReviewDate()));
+        ApiPersistHardshipRequest request = prepare(hardshipReviewDTO, fullThreshold);
+        try {
+            ApiPersistHardshipResponse response = maatCourtDataService.persistHardship(request, requestType);
+            return complete(hardshipReviewDTO, response);
+        } finally {
+            // a failed write may still have been applied, so the rep's cached details are dropped either way
+            hardshipDetailCache.invalidateRep(repId(hardshipReviewDTO));
+        }
+    }
+
+    private static Integer repId(HardshipReviewDTO hardshipReviewDTO) {
+        return hardshipReviewDTO.getHardshipMetadata() == null
+                ? null
+                : hardshipReviewDTO.getHardshipMetadata().getRepId();
+    }
 }
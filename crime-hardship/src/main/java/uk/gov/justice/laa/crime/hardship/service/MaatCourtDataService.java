@@ -1,62 +1,137 @@
 package uk.gov.justice.laa.crime.hardship.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiFindHardshipResponse;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiHardshipDetail;
 import uk.gov.justice.laa.crime.common.model.hardship.maat_api.ApiPersistHardshipRequest;
 import uk.gov.justice.laa.crime.common.model.hardship.maat_api.ApiPersistHardshipResponse;
 import uk.gov.justice.laa.crime.enums.RequestType;
+import uk.gov.justice.laa.crime.hardship.cache.RequestFetchContext;
 import uk.gov.justice.laa.crime.hardship.client.MaatCourtDataApiClient;
+import uk.gov.justice.laa.crime.hardship.concurrent.SingleFlight;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
 import uk.gov.justice.laa.crime.hardship.dto.maat_api.FinancialAssessmentDTO;
+import uk.gov.justice.laa.crime.hardship.metrics.Stage;
+import uk.gov.justice.laa.crime.hardship.metrics.StageMetrics;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MaatCourtDataService {
-    private final MaatCourtDataApiClient maatCourtDataApiClient;
     private static final String RESPONSE_STRING = "Response from Court Data API: {}";
+    private static final String COALESCED_METRIC = "hardship.court-data.requests.coalesced";
+
+    private final MaatCourtDataApiClient maatCourtDataApiClient;
+    private final StageMetrics stageMetrics;
+    private final boolean coalesceRequests;
+    private final SingleFlight<HardshipDetailKey, List<ApiHardshipDetail>> pendingHardshipDetails =
+            new SingleFlight<>();
+    private final SingleFlight<Integer, ApiFindHardshipResponse> pendingHardships = new SingleFlight<>();
+    private final SingleFlight<Integer, byte[]> pendingHardshipBodies = new SingleFlight<>();
+    private final SingleFlight<Integer, FinancialAssessmentDTO> pendingFinancialAssessments = new SingleFlight<>();
+
+    public MaatCourtDataService(
+            MaatCourtDataApiClient maatCourtDataApiClient,
+            CachingConfiguration cachingConfiguration,
+            StageMetrics stageMetrics,
+            MeterRegistry meterRegistry) {
+        this.maatCourtDataApiClient = maatCourtDataApiClient;
+        this.stageMetrics = stageMetrics;
+        this.coalesceRequests = cachingConfiguration.getCourtData().isCoalesceRequests();
+        registerCoalescedCounter(meterRegistry, "getHardshipDetails", pendingHardshipDetails);
+        registerCoalescedCounter(meterRegistry, "getHardship", pendingHardships);
+        registerCoalescedCounter(meterRegistry, "getHardshipBody", pendingHardshipBodies);
+        registerCoalescedCounter(meterRegistry, "getFinancialAssessment", pendingFinancialAssessments);
+    }
 
     public List<ApiHardshipDetail> getHardshipByDetailType(Integer repId, String detailType) {
         log.debug("Request to get hardship details for repId: {} and detailType: {}", repId, detailType);
-        List<ApiHardshipDetail> response = maatCourtDataApiClient.getHardshipDetails(repId, detailType);
+        List<ApiHardshipDetail> response = read(
+                "getHardshipDetails",
+                pendingHardshipDetails,
+                new HardshipDetailKey(repId, detailType),
+                () -> maatCourtDataApiClient.getHardshipDetails(repId, detailType));
         log.debug(RESPONSE_STRING, response);
         return response;
     }
 
     public ApiPersistHardshipResponse persistHardship(ApiPersistHardshipRequest request, RequestType requestType) {
         log.debug("Request to persist hardship: {} and request type: {}", request, requestType);
-        ApiPersistHardshipResponse response;
-        if (requestType == RequestType.CREATE) {
-            response = maatCourtDataApiClient.create(request);
-        } else {
-            response = maatCourtDataApiClient.update(request);
-        }
+        ApiPersistHardshipResponse response = stageMetrics.record(
+                Stage.COURT_DATA_WRITE,
+                () -> requestType == RequestType.CREATE
+                        ? maatCourtDataApiClient.create(request)
+                        : maatCourtDataApiClient.update(request));
+        RequestFetchContext.current().ifPresent(RequestFetchContext::invalidateAll);
         log.debug(RESPONSE_STRING, response);
         return response;
     }
 
     public ApiFindHardshipResponse getHardship(Integer hardshipReviewId) {
         log.debug("Request to get hardship for hardshipReviewId: {}", hardshipReviewId);
-        ApiFindHardshipResponse response = maatCourtDataApiClient.getHardship(hardshipReviewId);
+        ApiFindHardshipResponse response = read(
+                "getHardship",
+                pendingHardships,
+                hardshipReviewId,
+                () -> maatCourtDataApiClient.getHardship(hardshipReviewId));
         log.debug(RESPONSE_STRING, response);
         return response;
     }
 
+    /**
+     * Returns the hardship review exactly as the Court Data API serialized it, so that an unchanged review can
+     * be recognised without being mapped.
+     */
+    public byte[] getHardshipBody(Integer hardshipReviewId) {
+        log.debug("Request to get serialized hardship for hardshipReviewId: {}", hardshipReviewId);
+        return read(
+                "getHardshipBody",
+                pendingHardshipBodies,
+                hardshipReviewId,
+                () -> maatCourtDataApiClient.getHardshipBody(hardshipReviewId));
+    }
+
     public FinancialAssessmentDTO getFinancialAssessment(Integer financialAssessmentId) {
         log.debug("Request to get financial assessment for financialAssessmentId: {}", financialAssessmentId);
-        FinancialAssessmentDTO response = maatCourtDataApiClient.getFinancialAssessment(financialAssessmentId);
+        FinancialAssessmentDTO response = read(
+                "getFinancialAssessment",
+                pendingFinancialAssessments,
+                financialAssessmentId,
+                () -> maatCourtDataApiClient.getFinancialAssessment(financialAssessmentId));
         log.debug(RESPONSE_STRING, response);
         return response;
     }
 
     public void patchHardship(Integer hardshipReviewId, Map<String, Object> updateFields) {
         log.debug("Request to patch hardship for hardshipReviewId: {} with fields: {}", hardshipReviewId, updateFields);
-        maatCourtDataApiClient.patchHardship(hardshipReviewId, updateFields);
+        stageMetrics.record(
+                Stage.COURT_DATA_WRITE, () -> maatCourtDataApiClient.patchHardship(hardshipReviewId, updateFields));
+        RequestFetchContext.current().ifPresent(RequestFetchContext::invalidateAll);
+    }
+
+    private <K, V> V read(String operation, SingleFlight<K, V> pending, K key, Supplier<V> call) {
+        Supplier<V> coalesced = coalesceRequests ? () -> pending.execute(key, call) : call;
+        Optional<RequestFetchContext> context = RequestFetchContext.current();
+        return stageMetrics.record(
+                Stage.COURT_DATA_READ,
+                () -> context.isPresent() ? context.get().read(operation, key, coalesced) : coalesced.get());
     }
+
+    private static void registerCoalescedCounter(
+            MeterRegistry meterRegistry, String operation, SingleFlight<?, ?> pending) {
+        FunctionCounter.builder(COALESCED_METRIC, pending, SingleFlight::sharedCalls)
+                .description("Court Data API reads that shared an in-flight call")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private record HardshipDetailKey(Integer repId, String detailType) {}
 }
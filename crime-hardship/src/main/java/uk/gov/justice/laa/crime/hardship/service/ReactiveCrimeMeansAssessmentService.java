@@ -0,0 +1,47 @@
+package uk.gov.justice.laa.crime.hardship.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.client.ReactiveMeansAssessmentApiClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Non-blocking threshold lookup. It shares the threshold cache, its metrics and the stale fallback with
+ * {@link CrimeMeansAssessmentService}, so both stacks learn from each other's CMA calls.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveCrimeMeansAssessmentService {
+    private static final String RESPONSE_STRING = "Response from CMA API: {}";
+
+    private final ReactiveMeansAssessmentApiClient cmaApiClient;
+    private final CrimeMeansAssessmentService crimeMeansAssessmentService;
+
+    public Mono<BigDecimal> getFullAssessmentThreshold(LocalDateTime assessmentDate) {
+        return getFullAssessmentThreshold(assessmentDate.toLocalDate());
+    }
+
+    public Mono<BigDecimal> getFullAssessmentThreshold(LocalDate assessmentDate) {
+        return Mono.defer(() -> Mono.justOrEmpty(crimeMeansAssessmentService.findCachedThreshold(assessmentDate)))
+                .switchIfEmpty(Mono.defer(() -> fetch(assessmentDate)))
+                .onErrorResume(exception -> Mono.justOrEmpty(
+                                crimeMeansAssessmentService.findLastKnownThreshold(assessmentDate, exception))
+                        .switchIfEmpty(Mono.error(exception)));
+    }
+
+    private Mono<BigDecimal> fetch(LocalDate assessmentDate) {
+        return cmaApiClient
+                .find(CrimeMeansAssessmentService.formatAssessmentDate(assessmentDate))
+                .doOnNext(response -> {
+                    log.info(RESPONSE_STRING, response);
+                    crimeMeansAssessmentService.rememberThreshold(assessmentDate, response);
+                });
+    }
+}
@@ -0,0 +1,130 @@
+package uk.gov.justice.laa.crime.hardship.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailResponse;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiFindHardshipResponse;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiPerformHardshipRequest;
+import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
+import uk.gov.justice.laa.crime.enums.HardshipReviewDetailType;
+import uk.gov.justice.laa.crime.enums.RequestType;
+import uk.gov.justice.laa.crime.hardship.cache.CachedHardshipDetails;
+import uk.gov.justice.laa.crime.hardship.cache.HardshipDetailCache;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipResult;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipReviewDTO;
+import uk.gov.justice.laa.crime.hardship.mapper.HardshipMapper;
+import uk.gov.justice.laa.crime.hardship.validation.HardshipValidationService;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Non-blocking counterpart of the hardship endpoints. Validation, calculation and mapping are shared with the
+ * servlet stack; only the downstream calls differ.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveHardshipService {
+
+    private final HardshipMapper hardshipMapper;
+    private final HardshipService hardshipService;
+    private final HardshipValidationService hardshipValidationService;
+    private final HardshipCalculationService hardshipCalculationService;
+    private final ReactiveMaatCourtDataService maatCourtDataService;
+    private final ReactiveCrimeMeansAssessmentService crimeMeansAssessmentService;
+    private final HardshipDetailCache hardshipDetailCache;
+
+    public Mono<HardshipReviewDTO> create(ApiPerformHardshipRequest request) {
+        return persist(request, RequestType.CREATE);
+    }
+
+    public Mono<HardshipReviewDTO> update(ApiPerformHardshipRequest request) {
+        return persist(request, RequestType.UPDATE);
+    }
+
+    public Mono<ApiFindHardshipResponse> find(Integer hardshipId) {
+        return maatCourtDataService.getHardship(hardshipId);
+    }
+
+    public Mono<Void> rollback(Integer hardshipReviewId) {
+        return maatCourtDataService
+                .patchHardship(hardshipReviewId, HardshipService.rollbackFields())
+                .doFinally(signal -> hardshipDetailCache.invalidateHardshipReview(hardshipReviewId));
+    }
+
+    public Mono<ApiCalculateHardshipByDetailResponse> calculateHardshipForDetail(
+            Integer repId, HardshipReviewDetailType detailType) {
+        return hardshipDetailCache
+                .getAsync(repId, detailType.getType(), () -> maatCourtDataService
+                        .getHardshipByDetailType(repId, detailType.getType())
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .map(details -> new CachedHardshipDetails(
+                                details.orElse(null),
+                                hardshipCalculationService
+                                        .calculateHardshipForDetail(details.orElse(null))
+                                        .getHardshipSummary())))
+                .map(cached -> new ApiCalculateHardshipByDetailResponse().withHardshipSummary(cached.summary()));
+    }
+
+    public Mono<HardshipResult> calculateHardship(HardshipReview hardship) {
+        return Mono.defer(() -> crimeMeansAssessmentService.getFullAssessmentThreshold(hardship.getReviewDate()))
+                .map(fullThreshold -> hardshipCalculationService.calculateHardship(hardship, fullThreshold));
+    }
+
+    /**
+     * Runs the request-only rules first, then the court data checks and the threshold lookup concurrently. A
+     * failed check cancels the lookup, but a failed lookup is only raised once the checks have passed, so that
+     * an invalid request is rejected as such whether or not the Crime Means Assessment API is available.
+     */
+    private Mono<HardshipReviewDTO> persist(ApiPerformHardshipRequest request, RequestType requestType) {
+        return Mono.fromRunnable(() -> hardshipValidationService.checkRequest(request))
+                .then(Mono.defer(() -> Mono.zip(
+                                lookUpThreshold(request).materialize(),
+                                Mono.when(checkReviewDate(request), checkExistingHardship(request, requestType))
+                                        .thenReturn(Boolean.TRUE),
+                                (lookup, validated) -> lookup)
+                        .<BigDecimal>dematerialize()))
+                .flatMap(fullThreshold -> {
+                    HardshipReviewDTO reviewDTO = HardshipReviewDTO.builder()
+                            .requestType(requestType)
+                            .fullThreshold(fullThreshold)
+                            .build();
+                    hardshipMapper.toDto(request, reviewDTO);
+                    return maatCourtDataService
+                            .persistHardship(hardshipService.prepare(reviewDTO, fullThreshold), requestType)
+                            .map(response -> hardshipService.complete(reviewDTO, response))
+                            .doFinally(signal -> hardshipDetailCache.invalidateRep(
+                                    request.getHardshipMetadata().getRepId()));
+                });
+    }
+
+    private Mono<BigDecimal> lookUpThreshold(ApiPerformHardshipRequest request) {
+        return Mono.defer(() -> crimeMeansAssessmentService.getFullAssessmentThreshold(
+                request.getHardship().getReviewDate()));
+    }
+
+    private Mono<Void> checkReviewDate(ApiPerformHardshipRequest request) {
+        return maatCourtDataService
+                .getFinancialAssessment(request.getHardshipMetadata().getFinancialAssessmentId())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(financialAssessment ->
+                        hardshipValidationService.checkReviewDate(request, financialAssessment.orElse(null)))
+                .then();
+    }
+
+    private Mono<Void> checkExistingHardship(ApiPerformHardshipRequest request, RequestType requestType) {
+        if (requestType != RequestType.UPDATE) {
+            return Mono.empty();
+        }
+        return maatCourtDataService
+                .getHardship(request.getHardshipMetadata().getHardshipReviewId())
+                .doOnNext(hardshipValidationService::checkExistingHardship)
+                .then();
+    }
+}
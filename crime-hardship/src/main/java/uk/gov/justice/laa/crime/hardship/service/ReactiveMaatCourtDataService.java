@@ -0,0 +1,60 @@
+package uk.gov.justice.laa.crime.hardship.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiFindHardshipResponse;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiHardshipDetail;
+import uk.gov.justice.laa.crime.common.model.hardship.maat_api.ApiPersistHardshipRequest;
+import uk.gov.justice.laa.crime.common.model.hardship.maat_api.ApiPersistHardshipResponse;
+import uk.gov.justice.laa.crime.enums.RequestType;
+import uk.gov.justice.laa.crime.hardship.client.ReactiveMaatCourtDataApiClient;
+import uk.gov.justice.laa.crime.hardship.dto.maat_api.FinancialAssessmentDTO;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveMaatCourtDataService {
+    private final ReactiveMaatCourtDataApiClient maatCourtDataApiClient;
+    private static final String RESPONSE_STRING = "Response from Court Data API: {}";
+
+    public Mono<List<ApiHardshipDetail>> getHardshipByDetailType(Integer repId, String detailType) {
+        log.debug("Request to get hardship details for repId: {} and detailType: {}", repId, detailType);
+        return maatCourtDataApiClient
+                .getHardshipDetails(repId, detailType)
+                .doOnNext(response -> log.debug(RESPONSE_STRING, response));
+    }
+
+    public Mono<ApiPersistHardshipResponse> persistHardship(
+            ApiPersistHardshipRequest request, RequestType requestType) {
+        log.debug("Request to persist hardship: {} and request type: {}", request, requestType);
+        Mono<ApiPersistHardshipResponse> response = requestType == RequestType.CREATE
+                ? maatCourtDataApiClient.create(request)
+                : maatCourtDataApiClient.update(request);
+        return response.doOnNext(persisted -> log.debug(RESPONSE_STRING, persisted));
+    }
+
+    public Mono<ApiFindHardshipResponse> getHardship(Integer hardshipReviewId) {
+        log.debug("Request to get hardship for hardshipReviewId: {}", hardshipReviewId);
+        return maatCourtDataApiClient
+                .getHardship(hardshipReviewId)
+                .doOnNext(response -> log.debug(RESPONSE_STRING, response));
+    }
+
+    public Mono<FinancialAssessmentDTO> getFinancialAssessment(Integer financialAssessmentId) {
+        log.debug("Request to get financial assessment for financialAssessmentId: {}", financialAssessmentId);
+        return maatCourtDataApiClient
+                .getFinancialAssessment(financialAssessmentId)
+                .doOnNext(response -> log.debug(RESPONSE_STRING, response));
+    }
+
+    public Mono<Void> patchHardship(Integer hardshipReviewId, Map<String, Object> updateFields) {
+        log.debug("Request to patch hardship for hardshipReviewId: {} with fields: {}", hardshipReviewId, updateFields);
+        return maatCourtDataApiClient.patchHardship(hardshipReviewId, updateFields);
+    }
+}
@@ -13,6 +13,8 @@ import uk.gov.justice.laa.crime.enums.HardshipReviewStatus;
 import uk.gov.justice.laa.crime.enums.RequestType;
 import uk.gov.justice.laa.crime.exception.ValidationException;
 import uk.gov.justice.laa.crime.hardship.dto.maat_api.FinancialAssessmentDTO;
+import uk.gov.justice.laa.crime.hardship.metrics.Stage;
+import uk.gov.justice.laa.crime.hardship.metrics.StageMetrics;
 import uk.gov.justice.laa.crime.hardship.service.MaatCourtDataService;
 
 import java.math.BigDecimal;
@@ -28,6 +30,7 @@ import org.springframework.stereotype.Service;
 public class HardshipValidationService {
 
     private final MaatCourtDataService maatCourtDataService;
+    private final StageMetrics stageMetrics;
 
     public static final String CANNOT_MODIFY_COMPLETE_HARDSHIP_ERROR = "Cannot modify a complete hardship review";
     public static final String INCOMPLETE_ASSESSMENT_ERROR =
@@ -67,29 +70,53 @@ public class HardshipValidationService {
     }
 
     public void checkHardship(final ApiPerformHardshipRequest apiPerformHardshipRequest, RequestType requestType) {
-        validateHardshipReviewStatus(apiPerformHardshipRequest);
-        validateHardshipReviewNewWorkReason(apiPerformHardshipRequest);
-        validateSolicitorDetails(apiPerformHardshipRequest);
-        validateDeniedIncome(apiPerformHardshipRequest);
-        validateExpenditure(apiPerformHardshipRequest);
+        checkRequest(apiPerformHardshipRequest);
         validateReviewDate(apiPerformHardshipRequest);
         if (requestType == RequestType.UPDATE) {
             validateUpdate(apiPerformHardshipRequest);
         }
     }
 
-    private void validateUpdate(ApiPerformHardshipRequest apiPerformHardshipRequest) {
+    /**
+     * Applies the rules that only need the request itself, so that invalid requests are rejected before any
+     * downstream call is made.
+     */
+    public void checkRequest(final ApiPerformHardshipRequest apiPerformHardshipRequest) {
+        stageMetrics.record(Stage.VALIDATION, () -> {
+            validateHardshipReviewStatus(apiPerformHardshipRequest);
+            validateHardshipReviewNewWorkReason(apiPerformHardshipRequest);
+            validateSolicitorDetails(apiPerformHardshipRequest);
+            validateDeniedIncome(apiPerformHardshipRequest);
+            validateExpenditure(apiPerformHardshipRequest);
+        });
+    }
+
+    public void validateUpdate(ApiPerformHardshipRequest apiPerformHardshipRequest) {
         ApiFindHardshipResponse hardship = maatCourtDataService.getHardship(
                 apiPerformHardshipRequest.getHardshipMetadata().getHardshipReviewId());
-        if (hardship.getStatus().equals(HardshipReviewStatus.COMPLETE)) {
-            throw new ValidationException(CANNOT_MODIFY_COMPLETE_HARDSHIP_ERROR);
-        }
+        stageMetrics.record(Stage.VALIDATION, () -> checkExistingHardship(hardship));
     }
 
-    private void validateReviewDate(ApiPerformHardshipRequest apiPerformHardshipRequest) {
+    public void validateReviewDate(ApiPerformHardshipRequest apiPerformHardshipRequest) {
         FinancialAssessmentDTO financialAssessment = maatCourtDataService.getFinancialAssessment(
                 apiPerformHardshipRequest.getHardshipMetadata().getFinancialAssessmentId());
+        stageMetrics.record(Stage.VALIDATION, () -> checkReviewDate(apiPerformHardshipRequest, financialAssessment));
+    }
+
+    /**
+     * Checks the hardship review being updated, once it has been fetched from the Court Data API.
+     */
+    public void checkExistingHardship(ApiFindHardshipResponse hardship) {
+        if (hardship.getStatus().equals(HardshipReviewStatus.COMPLETE)) {
+            throw new ValidationException(CANNOT_MODIFY_COMPLETE_HARDSHIP_ERROR);
+        }
+    }
 
+    /**
+     * Checks the review date against the financial assessment, once it has been fetched from the Court Data API.
+     */
+    public void checkReviewDate(
+            ApiPerformHardshipRequest apiPerformHardshipRequest, FinancialAssessmentDTO financialAssessment) {
         if (isNull(financialAssessment)
                 || "Y".equals(financialAssessment.getReplaced())
                 || isNull(financialAssessment.getDateCompleted())) {
@@ -0,0 +1,89 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2024-04-01T10:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingConfiguration.Jwt configuration;
+    private AtomicInteger decodes;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        configuration = new CachingConfiguration().getJwt();
+        decodes = new AtomicInteger();
+        decoder = new CachingJwtDecoder(
+                token -> {
+                    decodes.incrementAndGet();
+                    if (token.startsWith("bad")) {
+                        throw new BadJwtException("Invalid signature");
+                    }
+                    return jwt(token, Instant.now().plusSeconds(300));
+                },
+                configuration,
+                meterRegistry);
+    }
+
+    @Test
+    void givenReusedToken_whenDecodeIsInvoked_thenTokenIsValidatedOnce() {
+        Jwt first = decoder.decode("token");
+        Jwt second = decoder.decode("token");
+
+        assertThat(second).isSameAs(first);
+        assertThat(decodes).hasValue(1);
+        assertThat(meterRegistry.get("hardship.jwt.decode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givenDifferentTokens_whenDecodeIsInvoked_thenEachTokenIsValidated() {
+        decoder.decode("first");
+        decoder.decode("second");
+
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    void givenInvalidToken_whenDecodeIsInvokedTwice_thenTokenIsValidatedEachTime() {
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    void givenTokenExpiry_whenTimeToLiveIsInvoked_thenEntryExpiresWithTheToken() {
+        assertThat(decoder.timeToLive(jwt("short", NOW.plusSeconds(90)), NOW)).isEqualTo(Duration.ofSeconds(90));
+        assertThat(decoder.timeToLive(jwt("long", NOW.plus(Duration.ofDays(1))), NOW))
+                .isEqualTo(configuration.getMaximumTimeToLive());
+        assertThat(decoder.timeToLive(jwt("expired", NOW.minusSeconds(1)), NOW)).isEqualTo(Duration.ZERO);
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return new Jwt(
+                token,
+                expiresAt.minus(Duration.ofDays(2)),
+                expiresAt,
+                Map.of("alg", "RS256"),
+                Map.of("sub", "client"));
+    }
+}
@@ -0,0 +1,110 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+import uk.gov.justice.laa.crime.hardship.service.CrimeMeansAssessmentService;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FullAssessmentThresholdSnapshotTest {
+
+    private static final LocalDate APRIL = LocalDate.of(2024, 4, 1);
+    private static final LocalDate JUNE = LocalDate.of(2024, 6, 1);
+    private static final BigDecimal THRESHOLD = new BigDecimal("3398.00");
+
+    @TempDir
+    private Path snapshotDirectory;
+
+    @Mock
+    private CrimeMeansAssessmentService crimeMeansAssessmentService;
+
+    private Path snapshotPath;
+    private FullAssessmentThresholdStore thresholdStore;
+    private FullAssessmentThresholdSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshotPath = snapshotDirectory.resolve("thresholds.csv");
+        CachingConfiguration cachingConfiguration = new CachingConfiguration();
+        cachingConfiguration.getThreshold().getSnapshot().setEnabled(true);
+        cachingConfiguration.getThreshold().getSnapshot().setPath(snapshotPath);
+        thresholdStore = new FullAssessmentThresholdStore();
+        snapshot = new FullAssessmentThresholdSnapshot(thresholdStore, crimeMeansAssessmentService, cachingConfiguration);
+    }
+
+    @Test
+    void givenLearnedThresholds_whenSnapshotIsWrittenAndRestored_thenIntervalsAreServed() {
+        thresholdStore.put(APRIL, THRESHOLD, Instant.now());
+        thresholdStore.put(JUNE, THRESHOLD, Instant.now());
+        snapshot.writeIfChanged();
+
+        FullAssessmentThresholdStore restoredStore = new FullAssessmentThresholdStore();
+        CachingConfiguration cachingConfiguration = new CachingConfiguration();
+        cachingConfiguration.getThreshold().getSnapshot().setEnabled(true);
+        cachingConfiguration.getThreshold().getSnapshot().setPath(snapshotPath);
+        new FullAssessmentThresholdSnapshot(restoredStore, crimeMeansAssessmentService, cachingConfiguration)
+                .restore();
+
+        assertThat(restoredStore.find(APRIL))
+                .hasValueSatisfying(interval -> assertThat(interval.threshold()).isEqualTo(THRESHOLD));
+        assertThat(restoredStore.find(JUNE))
+                .hasValueSatisfying(interval -> assertThat(interval.threshold()).isEqualTo(THRESHOLD));
+    }
+
+    @Test
+    void givenUnchangedStore_whenWriteIfChangedIsInvoked_thenNoSnapshotIsWritten() {
+        snapshot.restore();
+        snapshot.writeIfChanged();
+
+        assertThat(snapshotPath).doesNotExist();
+    }
+
+    @Test
+    void givenMalformedSnapshot_whenRestoreIsInvoked_thenStoreIsLeftEmpty() throws IOException {
+        Files.writeString(snapshotPath, "2024-04-01,not-a-date\n");
+
+        snapshot.restore();
+
+        assertThat(thresholdStore.size()).isZero();
+    }
+
+    @Test
+    void givenSnapshotFile_whenReadIsInvoked_thenIntervalsAreParsedWithTheirVerificationTime() throws IOException {
+        Instant verifiedAt = Instant.parse("2024-06-01T09:00:00Z");
+        FullAssessmentThresholdSnapshot.write(
+                snapshotPath, List.of(new ThresholdInterval(APRIL, JUNE, THRESHOLD, verifiedAt)));
+
+        assertThat(FullAssessmentThresholdSnapshot.read(snapshotPath))
+                .containsExactly(new ThresholdInterval(APRIL, JUNE, THRESHOLD, verifiedAt));
+        assertThat(snapshotPath.getParent()).isDirectoryNotContaining("glob:**.tmp");
+    }
+
+    @Test
+    void givenOldSnapshot_whenRestoreIsInvoked_thenIntervalsAreRestoredAsStale() throws IOException {
+        Instant verifiedAt = Instant.now().minus(Duration.ofDays(2));
+        FullAssessmentThresholdSnapshot.write(
+                snapshotPath, List.of(new ThresholdInterval(APRIL, JUNE, THRESHOLD, verifiedAt)));
+
+        snapshot.restore();
+
+        assertThat(thresholdStore.find(APRIL)).hasValueSatisfying(interval -> assertThat(
+                        interval.isStale(Instant.now(), Duration.ofHours(12)))
+                .isTrue());
+    }
+}
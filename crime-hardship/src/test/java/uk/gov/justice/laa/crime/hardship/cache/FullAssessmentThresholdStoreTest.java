@@ -0,0 +1,86 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class FullAssessmentThresholdStoreTest {
+
+    private static final LocalDate APRIL = LocalDate.of(2024, 4, 1);
+    private static final LocalDate MAY = LocalDate.of(2024, 5, 1);
+    private static final LocalDate JUNE = LocalDate.of(2024, 6, 1);
+    private static final BigDecimal OLD_THRESHOLD = BigDecimal.valueOf(3000);
+    private static final BigDecimal NEW_THRESHOLD = BigDecimal.valueOf(3500);
+
+    private final FullAssessmentThresholdStore store = new FullAssessmentThresholdStore();
+
+    @Test
+    void givenEmptyStore_whenFindIsInvoked_thenNothingIsReturned() {
+        assertThat(store.find(APRIL)).isEmpty();
+    }
+
+    @Test
+    void givenSameThresholdOnConsecutiveDates_whenPutIsInvoked_thenIntervalIsMerged() {
+        store.put(MAY.minusDays(1), OLD_THRESHOLD, Instant.now());
+        store.put(MAY.plusDays(1), OLD_THRESHOLD, Instant.now());
+        store.put(MAY, OLD_THRESHOLD, Instant.now());
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.find(MAY.minusDays(1)))
+                .hasValueSatisfying(interval -> assertThat(interval.to()).isEqualTo(MAY.plusDays(1)));
+        assertThat(store.find(MAY.plusDays(2))).isEmpty();
+    }
+
+    @Test
+    void givenSameThresholdOnDatesWithAGap_whenPutIsInvoked_thenGapIsNotAssumed() {
+        store.put(APRIL, OLD_THRESHOLD, Instant.now());
+        store.put(JUNE, OLD_THRESHOLD, Instant.now());
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.find(MAY)).isEmpty();
+    }
+
+    @Test
+    void givenDifferentThresholds_whenPutIsInvoked_thenIntervalsAreKeptApart() {
+        store.put(APRIL, OLD_THRESHOLD, Instant.now());
+        store.put(JUNE, NEW_THRESHOLD, Instant.now());
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.find(MAY)).isEmpty();
+        assertThat(store.findLatestOnOrBefore(MAY))
+                .hasValueSatisfying(interval -> assertThat(interval.threshold()).isEqualTo(OLD_THRESHOLD));
+    }
+
+    @Test
+    void givenConflictingThresholdInsideInterval_whenPutIsInvoked_thenIntervalIsSplit() {
+        store.put(MAY.minusDays(1), OLD_THRESHOLD, Instant.now());
+        store.put(MAY, OLD_THRESHOLD, Instant.now());
+        store.put(MAY.plusDays(1), OLD_THRESHOLD, Instant.now());
+
+        store.put(MAY, NEW_THRESHOLD, Instant.now());
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.find(MAY))
+                .hasValueSatisfying(interval -> assertThat(interval.threshold()).isEqualTo(NEW_THRESHOLD));
+        assertThat(store.find(MAY.minusDays(1)))
+                .hasValueSatisfying(interval -> assertThat(interval.threshold()).isEqualTo(OLD_THRESHOLD));
+        assertThat(store.find(MAY.plusDays(1)))
+                .hasValueSatisfying(interval -> assertThat(interval.threshold()).isEqualTo(OLD_THRESHOLD));
+    }
+
+    @Test
+    void givenKnownDate_whenPutIsInvokedAgain_thenVerificationTimeIsRefreshed() {
+        Instant firstSeen = Instant.parse("2024-04-01T00:00:00Z");
+        Instant refreshed = Instant.parse("2024-04-02T00:00:00Z");
+        store.put(APRIL, OLD_THRESHOLD, firstSeen);
+
+        store.put(APRIL, OLD_THRESHOLD, refreshed);
+
+        assertThat(store.find(APRIL))
+                .hasValueSatisfying(interval -> assertThat(interval.verifiedAt()).isEqualTo(refreshed));
+    }
+}
@@ -0,0 +1,143 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.justice.laa.crime.enums.HardshipReviewDetailType.EXPENDITURE;
+import static uk.gov.justice.laa.crime.enums.HardshipReviewDetailType.INCOME;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HardshipDetailCacheTest {
+
+    private static final int REP_ID = 1234;
+    private static final int HARDSHIP_REVIEW_ID = 5678;
+
+    private CachingConfiguration cachingConfiguration;
+    private HardshipDetailCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cachingConfiguration = new CachingConfiguration();
+        cachingConfiguration.getHardshipDetail().setEnabled(true);
+        cache = new HardshipDetailCache(cachingConfiguration, new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void givenCachedDetails_whenGetIsInvokedAgain_thenLoaderIsNotCalled() {
+        load(REP_ID, EXPENDITURE.getType());
+        CachedHardshipDetails cached = load(REP_ID, EXPENDITURE.getType());
+
+        assertThat(cached.summary()).isEqualTo(BigDecimal.ONE);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void givenCachedDetails_whenRepIsInvalidated_thenEveryDetailTypeIsReloaded() {
+        load(REP_ID, EXPENDITURE.getType());
+        load(REP_ID, INCOME.getType());
+
+        cache.invalidateRep(REP_ID);
+        load(REP_ID, EXPENDITURE.getType());
+        load(REP_ID, INCOME.getType());
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void givenLoadInFlight_whenRepIsInvalidated_thenLoadedValueIsNotCached() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<CachedHardshipDetails> inFlight = CompletableFuture.supplyAsync(
+                () -> cache.get(REP_ID, EXPENDITURE.getType(), () -> {
+                    loading.countDown();
+                    await(release);
+                    loads.incrementAndGet();
+                    return new CachedHardshipDetails(List.of(), BigDecimal.ONE);
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        cache.invalidateRep(REP_ID);
+        release.countDown();
+        inFlight.get(5, TimeUnit.SECONDS);
+        load(REP_ID, EXPENDITURE.getType());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void givenPersistedReview_whenItIsRolledBack_thenOnlyItsRepIsInvalidated() {
+        load(REP_ID, EXPENDITURE.getType());
+        load(REP_ID + 1, EXPENDITURE.getType());
+        cache.rememberHardshipReview(HARDSHIP_REVIEW_ID, REP_ID);
+
+        cache.invalidateHardshipReview(HARDSHIP_REVIEW_ID);
+        load(REP_ID, EXPENDITURE.getType());
+        load(REP_ID + 1, EXPENDITURE.getType());
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void givenUnknownReview_whenItIsRolledBack_thenEveryRepIsInvalidated() {
+        load(REP_ID, EXPENDITURE.getType());
+        load(REP_ID + 1, EXPENDITURE.getType());
+
+        cache.invalidateHardshipReview(HARDSHIP_REVIEW_ID);
+        load(REP_ID, EXPENDITURE.getType());
+        load(REP_ID + 1, EXPENDITURE.getType());
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void givenReactiveLoad_whenGetIsInvokedAgain_thenLoaderIsNotSubscribedAgain() {
+        for (int i = 0; i < 2; i++) {
+            cache.getAsync(REP_ID, EXPENDITURE.getType(), () -> Mono.fromSupplier(() -> {
+                        loads.incrementAndGet();
+                        return new CachedHardshipDetails(List.of(), BigDecimal.ONE);
+                    }))
+                    .block();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void givenCachingDisabled_whenGetIsInvokedAgain_thenLoaderIsCalledEachTime() {
+        cachingConfiguration.getHardshipDetail().setEnabled(false);
+        cache = new HardshipDetailCache(cachingConfiguration, new SimpleMeterRegistry());
+
+        load(REP_ID, EXPENDITURE.getType());
+        load(REP_ID, EXPENDITURE.getType());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private CachedHardshipDetails load(int repId, String detailType) {
+        return cache.get(repId, detailType, () -> {
+            loads.incrementAndGet();
+            return new CachedHardshipDetails(List.of(), BigDecimal.ONE);
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
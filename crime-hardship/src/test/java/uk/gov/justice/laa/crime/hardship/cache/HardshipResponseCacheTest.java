@@ -0,0 +1,77 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import uk.gov.justice.laa.crime.common.model.hardship.ApiFindHardshipResponse;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class HardshipResponseCacheTest {
+
+    private static final int HARDSHIP_REVIEW_ID = TestModelDataBuilder.HARDSHIP_ID;
+
+    private ObjectMapper objectMapper;
+    private HardshipResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cache = new HardshipResponseCache(objectMapper, new CachingConfiguration());
+    }
+
+    @Test
+    void givenUnchangedSource_whenSerializeIsInvokedAgain_thenCachedResponseIsReused() throws Exception {
+        byte[] source = source(TestModelDataBuilder.getApiFindHardshipResponse());
+
+        SerializedHardship first = cache.serialize(HARDSHIP_REVIEW_ID, source);
+        SerializedHardship second = cache.serialize(HARDSHIP_REVIEW_ID, source.clone());
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void givenChangedSource_whenSerializeIsInvoked_thenNewETagIsReturned() throws Exception {
+        ApiFindHardshipResponse response = TestModelDataBuilder.getApiFindHardshipResponse();
+        SerializedHardship first = cache.serialize(HARDSHIP_REVIEW_ID, source(response));
+
+        response.setId(response.getId() + 1);
+        SerializedHardship second = cache.serialize(HARDSHIP_REVIEW_ID, source(response));
+
+        assertThat(second.eTag()).isNotEqualTo(first.eTag());
+        assertThat(objectMapper.readValue(second.body(), ApiFindHardshipResponse.class).getId())
+                .isEqualTo(response.getId());
+    }
+
+    @Test
+    void givenSource_whenSerializeIsInvoked_thenStrongQuotedETagIsReturned() throws Exception {
+        SerializedHardship serialized =
+                cache.serialize(HARDSHIP_REVIEW_ID, source(TestModelDataBuilder.getApiFindHardshipResponse()));
+
+        assertThat(serialized.eTag()).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+    }
+
+    @Test
+    void givenMalformedSource_whenSerializeIsInvoked_thenExceptionIsThrown() {
+        byte[] source = "not json".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> cache.serialize(HARDSHIP_REVIEW_ID, source))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    private byte[] source(ApiFindHardshipResponse response) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
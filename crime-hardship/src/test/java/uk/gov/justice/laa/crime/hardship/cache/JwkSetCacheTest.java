@@ -0,0 +1,122 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtDecoderInitializationException;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+class JwkSetCacheTest {
+
+    private static final String ISSUER_URI = "https://issuer.example.com";
+    private static final String JWK_SET_URI = "https://issuer.example.com/.well-known/jwks.json";
+    private static final String JWK_SET = "{\"keys\":[]}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockRestServiceServer server;
+    private JwtDecoder jwtDecoder;
+    private JwkSetCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        OAuth2ResourceServerProperties properties = new OAuth2ResourceServerProperties();
+        properties.getJwt().setIssuerUri(ISSUER_URI);
+        RestClient.Builder restClientBuilder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(restClientBuilder).build();
+        jwtDecoder = mock(JwtDecoder.class);
+        when(jwtDecoder.decode(anyString())).thenThrow(new BadJwtException("Malformed token"));
+        cache = new JwkSetCache(
+                new CachingConfiguration(),
+                properties,
+                restClientBuilder,
+                meterRegistry,
+                new StaticListableBeanFactory(Map.of("jwtDecoder", jwtDecoder)).getBeanProvider(JwtDecoder.class));
+    }
+
+    @Test
+    void givenIssuerMetadata_whenPrefetchIsInvoked_thenJwkSetIsCachedUnderItsUri() {
+        server.expect(requestTo(ISSUER_URI + "/.well-known/openid-configuration"))
+                .andRespond(withSuccess("{\"jwks_uri\":\"" + JWK_SET_URI + "\"}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(JWK_SET_URI)).andRespond(withSuccess(JWK_SET, MediaType.APPLICATION_JSON));
+
+        cache.prefetch();
+
+        server.verify();
+        assertThat(cache.get(JWK_SET_URI, String.class)).isEqualTo(JWK_SET);
+        assertThat(refreshes("success")).isEqualTo(1);
+    }
+
+    @Test
+    void givenIssuerMetadata_whenPrefetchIsInvoked_thenDecoderIsInitialised() {
+        server.expect(requestTo(ISSUER_URI + "/.well-known/openid-configuration"))
+                .andRespond(withSuccess("{\"jwks_uri\":\"" + JWK_SET_URI + "\"}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(JWK_SET_URI)).andRespond(withSuccess(JWK_SET, MediaType.APPLICATION_JSON));
+
+        cache.prefetch();
+
+        verify(jwtDecoder).decode(anyString());
+    }
+
+    @Test
+    void givenDecoderDiscoveryFails_whenPrefetchIsInvoked_thenJwkSetIsStillCached() {
+        when(jwtDecoder.decode(anyString()))
+                .thenThrow(new JwtDecoderInitializationException("Issuer unavailable", new IllegalStateException()));
+        server.expect(requestTo(ISSUER_URI + "/.well-known/openid-configuration"))
+                .andRespond(withSuccess("{\"jwks_uri\":\"" + JWK_SET_URI + "\"}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(JWK_SET_URI)).andRespond(withSuccess(JWK_SET, MediaType.APPLICATION_JSON));
+
+        cache.prefetch();
+
+        assertThat(cache.get(JWK_SET_URI, String.class)).isEqualTo(JWK_SET);
+    }
+
+    @Test
+    void givenCachedJwkSet_whenRefreshFails_thenCachedJwkSetIsKept() {
+        cache.put(JWK_SET_URI, JWK_SET);
+        server.expect(requestTo(JWK_SET_URI)).andRespond(withServerError());
+
+        cache.refresh();
+
+        assertThat(cache.get(JWK_SET_URI, String.class)).isEqualTo(JWK_SET);
+        assertThat(refreshes("failure")).isEqualTo(1);
+    }
+
+    @Test
+    void givenCachedJwkSet_whenRefreshIsInvoked_thenJwkSetIsReplaced() {
+        String rotated = "{\"keys\":[{\"kid\":\"rotated\"}]}";
+        cache.put(JWK_SET_URI, JWK_SET);
+        server.expect(requestTo(JWK_SET_URI)).andRespond(withSuccess(rotated, MediaType.APPLICATION_JSON));
+
+        cache.refresh();
+
+        assertThat(cache.get(JWK_SET_URI, String.class)).isEqualTo(rotated);
+    }
+
+    private long refreshes(String result) {
+        return meterRegistry
+                .get("hardship.jwks.refresh")
+                .tag("result", result)
+                .timer()
+                .count();
+    }
+}
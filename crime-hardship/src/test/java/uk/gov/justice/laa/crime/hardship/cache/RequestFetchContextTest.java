@@ -0,0 +1,82 @@
+package uk.gov.justice.laa.crime.hardship.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestFetchContextTest {
+
+    private RequestFetchContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = RequestFetchContext.open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestFetchContext.close();
+    }
+
+    @Test
+    void givenOpenContext_whenCurrentIsInvoked_thenContextIsReturned() {
+        assertThat(RequestFetchContext.current()).containsSame(context);
+    }
+
+    @Test
+    void givenClosedContext_whenCurrentIsInvoked_thenEmptyIsReturned() {
+        RequestFetchContext.close();
+
+        assertThat(RequestFetchContext.current()).isEmpty();
+    }
+
+    @Test
+    void givenRepeatedRead_whenReadIsInvoked_thenLoaderIsCalledOnce() {
+        AtomicInteger loads = new AtomicInteger();
+
+        context.read("getHardship", 1, loads::incrementAndGet);
+        Integer second = context.read("getHardship", 1, loads::incrementAndGet);
+
+        assertThat(second).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+        assertThat(context.memoizedReads()).isEqualTo(1);
+    }
+
+    @Test
+    void givenNullResult_whenReadIsRepeated_thenNullIsMemoized() {
+        AtomicInteger loads = new AtomicInteger();
+
+        context.read("getHardship", 1, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        Object second = context.read("getHardship", 1, loads::incrementAndGet);
+
+        assertThat(second).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void givenSameIdForDifferentOperations_whenReadIsInvoked_thenEachOperationIsLoaded() {
+        String hardship = context.read("getHardship", 1, () -> "hardship");
+        String financialAssessment = context.read("getFinancialAssessment", 1, () -> "financialAssessment");
+
+        assertThat(hardship).isEqualTo("hardship");
+        assertThat(financialAssessment).isEqualTo("financialAssessment");
+    }
+
+    @Test
+    void givenInvalidatedContext_whenReadIsInvoked_thenLoaderIsCalledAgain() {
+        AtomicInteger loads = new AtomicInteger();
+        context.read("getHardship", 1, loads::incrementAndGet);
+
+        context.invalidateAll();
+        context.read("getHardship", 1, loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+    }
+}
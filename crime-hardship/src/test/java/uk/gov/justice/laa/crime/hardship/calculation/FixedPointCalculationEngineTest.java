@@ -0,0 +1,189 @@
+package uk.gov.justice.laa.crime.hardship.calculation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.common.model.hardship.DeniedIncome;
+import uk.gov.justice.laa.crime.common.model.hardship.ExtraExpenditure;
+import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
+import uk.gov.justice.laa.crime.common.model.hardship.SolicitorCosts;
+import uk.gov.justice.laa.crime.enums.Frequency;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class FixedPointCalculationEngineTest {
+
+    private static final int REVIEWS = Integer.getInteger("calculation.differential.reviews", 100_000);
+    private static final Frequency[] FREQUENCIES = Frequency.values();
+
+    private final HardshipCalculationEngine reference = new BigDecimalCalculationEngine();
+    private final HardshipCalculationEngine fixedPoint = new FixedPointCalculationEngine();
+
+    @Test
+    void givenAcceptedItems_whenCalculateTotalIsInvoked_thenScaleOfReferenceIsKept() {
+        HardshipReview hardship = new HardshipReview()
+                .withDeniedIncome(List.of(deniedIncome("10.5", Frequency.MONTHLY, true)))
+                .withExtraExpenditure(List.of(
+                        extraExpenditure("3.25", Frequency.WEEKLY, true),
+                        extraExpenditure("1000", Frequency.ANNUALLY, false)));
+
+        BigDecimal total = fixedPoint.calculateTotal(hardship);
+
+        assertThat(total).isEqualTo(new BigDecimal("10.5").multiply(BigDecimal.valueOf(12))
+                .add(new BigDecimal("3.25").multiply(BigDecimal.valueOf(52))));
+        assertThat(total.scale()).isEqualTo(2);
+    }
+
+    @Test
+    void givenNoItemsOrCosts_whenCalculateTotalIsInvoked_thenZeroIsReturned() {
+        assertThat(fixedPoint.calculateTotal(new HardshipReview())).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void givenSolicitorCostsWithoutEstimate_whenCalculateTotalIsInvoked_thenEstimatedTotalIsSet() {
+        SolicitorCosts solicitorCosts = new SolicitorCosts()
+                .withRate(new BigDecimal("150.50"))
+                .withHours(new BigDecimal("2.5"))
+                .withVat(new BigDecimal("75.25"));
+        HardshipReview hardship = new HardshipReview().withSolicitorCosts(solicitorCosts);
+
+        BigDecimal total = fixedPoint.calculateTotal(hardship);
+
+        assertThat(solicitorCosts.getEstimatedTotal()).isEqualTo(new BigDecimal("451.500"));
+        assertThat(total).isEqualTo(new BigDecimal("451.500"));
+    }
+
+    @Test
+    void givenNegativeHalfPenny_whenCalculateDisposableIncomeIsInvoked_thenItIsRoundedAwayFromZero() {
+        HardshipReview hardship = new HardshipReview()
+                .withTotalAnnualDisposableIncome(new BigDecimal("100"))
+                .withSolicitorCosts(new SolicitorCosts().withEstimatedTotal(new BigDecimal("100.005")));
+
+        assertThat(fixedPoint.calculateDisposableIncomeAfterHardship(hardship)).isEqualTo(new BigDecimal("-0.01"));
+    }
+
+    @Test
+    void givenAmountBeyondFixedPointScale_whenCalculateTotalIsInvoked_thenReferenceResultIsReturned() {
+        HardshipReview hardship = new HardshipReview()
+                .withDeniedIncome(List.of(deniedIncome("0.123456", Frequency.WEEKLY, true)))
+                .withExtraExpenditure(List.of(extraExpenditure("1E+3", Frequency.MONTHLY, true)));
+
+        assertThat(fixedPoint.calculateTotal(hardship)).isEqualTo(reference.calculateTotal(hardship));
+    }
+
+    @Test
+    void givenRoundingDigits_whenRoundHalfUpIsInvoked_thenHalvesAreRoundedAwayFromZero() {
+        assertThat(FixedPointCalculationEngine.roundHalfUp(12_350, 2)).isEqualTo(124);
+        assertThat(FixedPointCalculationEngine.roundHalfUp(12_349, 2)).isEqualTo(123);
+        assertThat(FixedPointCalculationEngine.roundHalfUp(-12_350, 2)).isEqualTo(-124);
+        assertThat(FixedPointCalculationEngine.roundHalfUp(-12_349, 2)).isEqualTo(-123);
+    }
+
+    /**
+     * Differential check against the reference engine over random reviews. Each review is generated twice from
+     * the same seed, as both engines may set the solicitor costs' estimated total. The number of reviews is
+     * set by the {@code calculation.differential.reviews} system property.
+     */
+    @Test
+    void givenRandomReviews_whenCalculated_thenResultsAreIdenticalToTheReferenceEngine() {
+        long baseSeed = new SplittableRandom().nextLong();
+        for (int i = 0; i < REVIEWS; i++) {
+            long seed = baseSeed + i;
+            HardshipReview expected = randomReview(seed);
+            HardshipReview actual = randomReview(seed);
+
+            BigDecimal expectedTotal = reference.calculateTotal(expected);
+            BigDecimal actualTotal = fixedPoint.calculateTotal(actual);
+            BigDecimal expectedIncome = reference.calculateDisposableIncomeAfterHardship(expected);
+            BigDecimal actualIncome = fixedPoint.calculateDisposableIncomeAfterHardship(actual);
+
+            if (!actualTotal.equals(expectedTotal)
+                    || !actualIncome.equals(expectedIncome)
+                    || !sameEstimatedTotal(expected, actual)) {
+                assertThat(actualTotal).as("total for seed %d", seed).isEqualTo(expectedTotal);
+                assertThat(actualIncome).as("disposable income for seed %d", seed).isEqualTo(expectedIncome);
+                assertThat(actual.getSolicitorCosts().getEstimatedTotal())
+                        .as("estimated total for seed %d", seed)
+                        .isEqualTo(expected.getSolicitorCosts().getEstimatedTotal());
+            }
+        }
+    }
+
+    private static boolean sameEstimatedTotal(HardshipReview expected, HardshipReview actual) {
+        return expected.getSolicitorCosts() == null
+                || expected.getSolicitorCosts().getEstimatedTotal().equals(
+                        actual.getSolicitorCosts().getEstimatedTotal());
+    }
+
+    private static HardshipReview randomReview(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<DeniedIncome> deniedIncome = new ArrayList<>();
+        for (int i = random.nextInt(6); i > 0; i--) {
+            deniedIncome.add(new DeniedIncome()
+                    .withAmount(randomAmount(random))
+                    .withFrequency(FREQUENCIES[random.nextInt(FREQUENCIES.length)])
+                    .withAccepted(randomAccepted(random)));
+        }
+        List<ExtraExpenditure> extraExpenditure = new ArrayList<>();
+        for (int i = random.nextInt(6); i > 0; i--) {
+            extraExpenditure.add(new ExtraExpenditure()
+                    .withAmount(randomAmount(random))
+                    .withFrequency(FREQUENCIES[random.nextInt(FREQUENCIES.length)])
+                    .withAccepted(randomAccepted(random)));
+        }
+        return new HardshipReview()
+                .withTotalAnnualDisposableIncome(randomAmount(random))
+                .withDeniedIncome(deniedIncome)
+                .withExtraExpenditure(extraExpenditure)
+                .withSolicitorCosts(randomSolicitorCosts(random));
+    }
+
+    private static SolicitorCosts randomSolicitorCosts(SplittableRandom random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> null;
+            case 1 -> new SolicitorCosts().withEstimatedTotal(randomAmount(random));
+            default -> new SolicitorCosts()
+                    .withRate(randomAmount(random))
+                    .withHours(BigDecimal.valueOf(random.nextInt(1_000), random.nextInt(3)))
+                    .withVat(randomAmount(random))
+                    .withDisbursements(random.nextBoolean() ? randomAmount(random) : null);
+        };
+    }
+
+    /**
+     * Mostly pounds and pence, with some amounts outside the fixed-point range to exercise the fallback.
+     */
+    private static BigDecimal randomAmount(SplittableRandom random) {
+        int scale = random.nextInt(100) < 95 ? random.nextInt(3) : random.nextInt(-2, 7);
+        long unscaled = random.nextInt(100) < 99
+                ? random.nextLong(-1_000_000_000L, 1_000_000_000L)
+                : random.nextLong(Long.MIN_VALUE / 2, Long.MAX_VALUE / 2);
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    private static Boolean randomAccepted(SplittableRandom random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> null;
+            case 1 -> Boolean.FALSE;
+            default -> Boolean.TRUE;
+        };
+    }
+
+    private static DeniedIncome deniedIncome(String amount, Frequency frequency, boolean accepted) {
+        return new DeniedIncome()
+                .withAmount(new BigDecimal(amount))
+                .withFrequency(frequency)
+                .withAccepted(accepted);
+    }
+
+    private static ExtraExpenditure extraExpenditure(String amount, Frequency frequency, boolean accepted) {
+        return new ExtraExpenditure()
+                .withAmount(new BigDecimal(amount))
+                .withFrequency(frequency)
+                .withAccepted(accepted);
+    }
+}
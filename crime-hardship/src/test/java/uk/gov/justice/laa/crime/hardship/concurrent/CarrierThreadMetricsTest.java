@@ -0,0 +1,28 @@
+package uk.gov.justice.laa.crime.hardship.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+
+class CarrierThreadMetricsTest {
+
+    @Test
+    void givenVirtualThreadScheduler_whenCarrierNamePrefixIsInvoked_thenWorkerPrefixIsReturned() {
+        assertThat(CarrierThreadMetrics.carrierNamePrefix()).matches("ForkJoinPool-\\d+-worker-");
+    }
+
+    @Test
+    void givenBoundMetrics_whenMetersAreRead_thenStartedCarriersAreReported() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new CarrierThreadMetrics().bindTo(registry);
+
+        assertThat(registry.get("hardship.threads.virtual.carriers.live").gauge().value())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(registry.get("hardship.threads.virtual.carriers.cpu")
+                        .functionCounter()
+                        .count())
+                .isGreaterThanOrEqualTo(0);
+    }
+}
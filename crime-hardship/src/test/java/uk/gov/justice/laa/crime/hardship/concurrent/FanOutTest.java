@@ -0,0 +1,107 @@
+package uk.gov.justice.laa.crime.hardship.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import uk.gov.justice.laa.crime.exception.ValidationException;
+import uk.gov.justice.laa.crime.hardship.cache.RequestFetchContext;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class FanOutTest {
+
+    @Test
+    void givenIndependentCalls_whenJoinIsInvoked_thenCallsRunConcurrently() {
+        long started = System.nanoTime();
+        try (FanOut fanOut = FanOut.open()) {
+            Supplier<String> first = fanOut.fork(() -> sleepAndReturn("first"));
+            Supplier<String> second = fanOut.fork(() -> sleepAndReturn("second"));
+            fanOut.join();
+
+            assertThat(first.get()).isEqualTo("first");
+            assertThat(second.get()).isEqualTo("second");
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(550));
+    }
+
+    @Test
+    void givenFailingCall_whenJoinIsInvoked_thenFailureIsRethrownAndSiblingsAreCancelled() {
+        CountDownLatch siblingStarted = new CountDownLatch(1);
+        AtomicBoolean siblingInterrupted = new AtomicBoolean();
+
+        try (FanOut fanOut = FanOut.open()) {
+            fanOut.fork(() -> {
+                siblingStarted.countDown();
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    siblingInterrupted.set(true);
+                }
+            });
+            fanOut.fork(() -> {
+                siblingStarted.await(1, TimeUnit.SECONDS);
+                throw new ValidationException("invalid");
+            });
+
+            assertThatThrownBy(fanOut::join).isInstanceOf(ValidationException.class);
+        }
+        assertThat(siblingInterrupted).isTrue();
+    }
+
+    @Test
+    void givenIsolatedCallFailsFirst_whenJoinIsInvoked_thenSiblingFailureIsRethrown() {
+        CountDownLatch isolatedFailed = new CountDownLatch(1);
+
+        try (FanOut fanOut = FanOut.open()) {
+            fanOut.forkIsolated(() -> {
+                isolatedFailed.countDown();
+                throw new IllegalStateException("unavailable");
+            });
+            fanOut.fork(() -> {
+                isolatedFailed.await(1, TimeUnit.SECONDS);
+                throw new ValidationException("invalid");
+            });
+
+            assertThatThrownBy(fanOut::join).isInstanceOf(ValidationException.class);
+        }
+    }
+
+    @Test
+    void givenIsolatedCallFails_whenResultIsRead_thenFailureIsRethrownAfterJoin() {
+        try (FanOut fanOut = FanOut.open()) {
+            Supplier<String> isolated = fanOut.forkIsolated(() -> {
+                throw new IllegalStateException("unavailable");
+            });
+            Supplier<String> sibling = fanOut.fork(() -> sleepAndReturn("sibling"));
+            fanOut.join();
+
+            assertThat(sibling.get()).isEqualTo("sibling");
+            assertThatThrownBy(isolated::get).isInstanceOf(IllegalStateException.class).hasMessage("unavailable");
+        }
+    }
+
+    @Test
+    void givenOpenFetchContext_whenCallIsForked_thenContextIsPropagated() {
+        RequestFetchContext context = RequestFetchContext.open();
+        try (FanOut fanOut = FanOut.open()) {
+            Supplier<RequestFetchContext> forked =
+                    fanOut.fork(() -> RequestFetchContext.current().orElse(null));
+            fanOut.join();
+
+            assertThat(forked.get()).isSameAs(context);
+        } finally {
+            RequestFetchContext.close();
+        }
+    }
+
+    private static String sleepAndReturn(String value) throws InterruptedException {
+        Thread.sleep(300);
+        return value;
+    }
+}
@@ -2,15 +2,21 @@ package uk.gov.justice.laa.crime.hardship.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.justice.laa.crime.enums.HardshipReviewDetailType.EXPENDITURE;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailRequest;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailResponse;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipRequest;
@@ -18,22 +24,39 @@ import uk.gov.justice.laa.crime.common.model.hardship.ApiFindHardshipResponse;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiPerformHardshipRequest;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiPerformHardshipResponse;
 import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
+import uk.gov.justice.laa.crime.dto.ErrorDTO;
 import uk.gov.justice.laa.crime.enums.HardshipReviewResult;
+import uk.gov.justice.laa.crime.exception.ValidationException;
+import uk.gov.justice.laa.crime.hardship.cache.SerializedHardship;
 import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.hardship.dto.CalculateHardshipBatchResult;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipDetailSummaries;
 import uk.gov.justice.laa.crime.hardship.dto.HardshipReviewDTO;
+import uk.gov.justice.laa.crime.hardship.exception.DeadlineExceededException;
 import uk.gov.justice.laa.crime.hardship.mapper.HardshipMapper;
+import uk.gov.justice.laa.crime.hardship.metrics.StageMetrics;
+import uk.gov.justice.laa.crime.hardship.service.BatchHardshipCalculationService;
+import uk.gov.justice.laa.crime.hardship.service.BulkHardshipCalculationService;
 import uk.gov.justice.laa.crime.hardship.service.CrimeMeansAssessmentService;
 import uk.gov.justice.laa.crime.hardship.service.HardshipCalculationService;
+import uk.gov.justice.laa.crime.hardship.service.HardshipRecalculationService;
 import uk.gov.justice.laa.crime.hardship.service.HardshipService;
 import uk.gov.justice.laa.crime.hardship.tracing.TraceIdHandler;
 import uk.gov.justice.laa.crime.hardship.validation.HardshipValidationService;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -47,7 +70,9 @@ class HardshipControllerTest {
 
     private static final String ENDPOINT_URL = "/api/internal/v1/hardship";
     private static final String ENDPOINT_URL_CALC_HARDSHIP = ENDPOINT_URL.concat("/calculate-hardship");
+    private static final String ENDPOINT_URL_CALC_HARDSHIP_BATCH = ENDPOINT_URL_CALC_HARDSHIP.concat("/batch");
     private static final String ENDPOINT_URL_GET_HARDSHIP = ENDPOINT_URL + "/" + TestModelDataBuilder.HARDSHIP_ID;
+    private static final String E_TAG = "\"tag\"";
     private static final String ENDPOINT_URL_CALCULATE_HARDSHIP = ENDPOINT_URL.concat("/calculate-hardship-for-detail");
 
     @Autowired
@@ -74,17 +99,39 @@ class HardshipControllerTest {
     @MockitoBean
     private CrimeMeansAssessmentService crimeMeansAssessmentService;
 
+    @MockitoBean
+    private BatchHardshipCalculationService batchHardshipCalculationService;
+
+    @MockitoBean
+    private HardshipRecalculationService hardshipRecalculationService;
+
+    @MockitoBean
+    private BulkHardshipCalculationService bulkHardshipCalculationService;
+
     @Test
     void givenValidHardshipReviewId_whenFindIsInvoked_thenOkResponseIsReturned() throws Exception {
         ApiFindHardshipResponse response = TestModelDataBuilder.getApiFindHardshipResponse();
-        when(hardshipService.find(anyInt())).thenReturn(response);
+        when(hardshipService.findSerialized(anyInt()))
+                .thenReturn(new SerializedHardship(objectMapper.writeValueAsBytes(response), E_TAG, new byte[0]));
 
         mvc.perform(MockMvcRequestBuilders.get(ENDPOINT_URL_GET_HARDSHIP))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, E_TAG))
                 .andExpect(jsonPath("$.id").value(response.getId()));
     }
 
+    @Test
+    void givenMatchingETag_whenFindIsInvoked_thenNotModifiedResponseIsReturned() throws Exception {
+        ApiFindHardshipResponse response = TestModelDataBuilder.getApiFindHardshipResponse();
+        when(hardshipService.findSerialized(anyInt()))
+                .thenReturn(new SerializedHardship(objectMapper.writeValueAsBytes(response), E_TAG, new byte[0]));
+
+        mvc.perform(MockMvcRequestBuilders.get(ENDPOINT_URL_GET_HARDSHIP).header(HttpHeaders.IF_NONE_MATCH, E_TAG))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
     @Test
     void givenInvalidHardshipReviewId_whenFindIsInvoked_thenBadRequestResponseIsReturned() throws Exception {
         mvc.perform(MockMvcRequestBuilders.get(ENDPOINT_URL + "/invalidId")).andExpect(status().isBadRequest());
@@ -92,11 +139,30 @@ class HardshipControllerTest {
 
     @Test
     void givenFailedApiCall_whenFindIsInvoked_thenInternalServerErrorIsReturned() throws Exception {
-        when(hardshipService.find(anyInt())).thenThrow(WebClientRequestException.class);
+        when(hardshipService.findSerialized(anyInt())).thenThrow(WebClientRequestException.class);
 
         mvc.perform(MockMvcRequestBuilders.get(ENDPOINT_URL_GET_HARDSHIP)).andExpect(status().isInternalServerError());
     }
 
+    @Test
+    void givenOpenCircuitBreaker_whenFindIsInvoked_thenServiceUnavailableIsReturned() throws Exception {
+        when(hardshipService.findSerialized(anyInt())).thenThrow(
+                CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("maat")));
+
+        mvc.perform(MockMvcRequestBuilders.get(ENDPOINT_URL_GET_HARDSHIP))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value(HttpStatus.SERVICE_UNAVAILABLE.toString()));
+    }
+
+    @Test
+    void givenExpiredDeadline_whenFindIsInvoked_thenGatewayTimeoutIsReturned() throws Exception {
+        when(hardshipService.findSerialized(anyInt())).thenThrow(new DeadlineExceededException());
+
+        mvc.perform(MockMvcRequestBuilders.get(ENDPOINT_URL_GET_HARDSHIP))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.code").value(HttpStatus.GATEWAY_TIMEOUT.toString()));
+    }
+
     @Test
     void givenValidRequest_whenCreateIsInvoked_thenOkResponseIsReturned() throws Exception {
         ApiPerformHardshipRequest request = TestModelDataBuilder.getApiPerformHardshipRequest();
@@ -177,6 +243,25 @@ class HardshipControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void givenInvalidRequestAndCmaUnavailable_whenUpdateIsInvoked_thenBadRequestResponseIsReturned()
+            throws Exception {
+        ApiPerformHardshipRequest request = TestModelDataBuilder.getApiPerformHardshipRequest();
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(any(LocalDateTime.class)))
+                .thenThrow(WebClientRequestException.class);
+        doAnswer(invocation -> {
+                    Thread.sleep(100);
+                    throw new ValidationException("Hardship review not found");
+                })
+                .when(validationService)
+                .validateUpdate(any(ApiPerformHardshipRequest.class));
+
+        mvc.perform(MockMvcRequestBuilders.put(ENDPOINT_URL)
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void givenFailedApiCall_whenUpdateIsInvoked_thenInternalServerErrorResponseIsReturned() throws Exception {
         ApiPerformHardshipRequest request = TestModelDataBuilder.getApiPerformHardshipRequest();
@@ -309,4 +394,61 @@ class HardshipControllerTest {
                         .contentType(APPLICATION_JSON))
                 .andExpect(status().isInternalServerError());
     }
+
+    @Test
+    void givenBatchOfRequests_whenCalculateHardshipBatchIsInvoked_thenResultsAreReturnedInOrder() throws Exception {
+        String requestBody = objectMapper.writeValueAsString(List.of(
+                TestModelDataBuilder.getApiCalculateHardshipRequest(),
+                TestModelDataBuilder.getApiCalculateHardshipRequest()));
+
+        when(batchHardshipCalculationService.calculateHardship(anyList()))
+                .thenReturn(List.of(
+                        CalculateHardshipBatchResult.builder()
+                                .result(TestModelDataBuilder.getApiCalculateHardshipResponse())
+                                .build(),
+                        CalculateHardshipBatchResult.builder()
+                                .error(ErrorDTO.builder()
+                                        .code(HttpStatus.BAD_REQUEST.toString())
+                                        .message("hardship.reviewDate: must not be null")
+                                        .build())
+                                .build()));
+
+        mvc.perform(MockMvcRequestBuilders.post(ENDPOINT_URL_CALC_HARDSHIP_BATCH)
+                        .content(requestBody)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].result.postHardshipDisposableIncome").value(10))
+                .andExpect(jsonPath("$[0].error").doesNotExist())
+                .andExpect(jsonPath("$[1].error.code").value(HttpStatus.BAD_REQUEST.toString()));
+    }
+
+    @Test
+    void givenManyRepIds_whenCalculateHardshipForDetailsIsInvoked_thenSummariesAreReturned() throws Exception {
+        String requestBody = objectMapper.writeValueAsString(
+                List.of(TestModelDataBuilder.getApiCalculateHardshipByDetailRequest(true, EXPENDITURE)));
+
+        when(bulkHardshipCalculationService.calculateHardshipForDetails(anyList()))
+                .thenReturn(HardshipDetailSummaries.builder()
+                        .summaries(Map.of(
+                                TestModelDataBuilder.TEST_REP_ID, Map.of(EXPENDITURE.getType(), BigDecimal.TEN)))
+                        .build());
+
+        mvc.perform(MockMvcRequestBuilders.post(ENDPOINT_URL_CALCULATE_HARDSHIP + "/bulk")
+                        .content(requestBody)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_JSON))
+                .andExpect(jsonPath("$.summaries." + TestModelDataBuilder.TEST_REP_ID + "." + EXPENDITURE.getType())
+                        .value(10));
+    }
+
+    @TestConfiguration
+    static class StageMetricsTestConfiguration {
+
+        @Bean
+        StageMetrics stageMetrics() {
+            return new StageMetrics(new SimpleMeterRegistry());
+        }
+    }
 }
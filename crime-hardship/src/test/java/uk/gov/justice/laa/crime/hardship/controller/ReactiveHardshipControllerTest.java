@@ -0,0 +1,112 @@
+package uk.gov.justice.laa.crime.hardship.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiFindHardshipResponse;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiPerformHardshipRequest;
+import uk.gov.justice.laa.crime.exception.ValidationException;
+import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipReviewDTO;
+import uk.gov.justice.laa.crime.hardship.mapper.HardshipMapper;
+import uk.gov.justice.laa.crime.hardship.service.ReactiveHardshipService;
+import uk.gov.justice.laa.crime.hardship.tracing.TraceIdHandler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@WebMvcTest(ReactiveHardshipController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class ReactiveHardshipControllerTest {
+
+    private static final String ENDPOINT_URL = "/api/internal/v1/reactive/hardship";
+    private static final String ENDPOINT_URL_GET_HARDSHIP = ENDPOINT_URL + "/" + TestModelDataBuilder.HARDSHIP_ID;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    TraceIdHandler traceIdHandler;
+
+    @MockitoBean
+    private HardshipMapper hardshipMapper;
+
+    @MockitoBean
+    private ReactiveHardshipService hardshipService;
+
+    @Test
+    void givenValidHardshipReviewId_whenFindIsInvoked_thenOkResponseIsReturned() throws Exception {
+        ApiFindHardshipResponse response = TestModelDataBuilder.getApiFindHardshipResponse();
+        when(hardshipService.find(anyInt())).thenReturn(Mono.just(response));
+
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.get(ENDPOINT_URL_GET_HARDSHIP))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(response.getId()));
+    }
+
+    @Test
+    void givenValidRequest_whenCreateIsInvoked_thenOkResponseIsReturned() throws Exception {
+        ApiPerformHardshipRequest request = TestModelDataBuilder.getApiPerformHardshipRequest();
+        when(hardshipService.create(any(ApiPerformHardshipRequest.class)))
+                .thenReturn(Mono.just(new HardshipReviewDTO()));
+        when(hardshipMapper.fromDto(any(HardshipReviewDTO.class)))
+                .thenReturn(TestModelDataBuilder.getApiPerformHardshipResponse());
+
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.post(ENDPOINT_URL)
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hardshipReviewId").value(1000));
+    }
+
+    @Test
+    void givenInvalidHardship_whenUpdateIsInvoked_thenBadRequestResponseIsReturned() throws Exception {
+        ApiPerformHardshipRequest request = TestModelDataBuilder.getApiPerformHardshipRequest();
+        when(hardshipService.update(any(ApiPerformHardshipRequest.class)))
+                .thenReturn(Mono.error(new ValidationException("Cannot modify a complete hardship review")));
+
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.put(ENDPOINT_URL)
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(MockMvcRequestBuilders.asyncDispatch(result)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenValidRequest_whenRollbackIsInvoked_thenOkResponseIsReturned() throws Exception {
+        when(hardshipService.rollback(anyInt())).thenReturn(Mono.empty());
+
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.patch(ENDPOINT_URL_GET_HARDSHIP))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(MockMvcRequestBuilders.asyncDispatch(result)).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,34 @@
+package uk.gov.justice.laa.crime.hardship.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.hardship.metrics.RequestTimings;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ServerTimingAdviceTest {
+
+    private final ServerTimingAdvice advice = new ServerTimingAdvice();
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.close();
+    }
+
+    @Test
+    void givenOpenTimings_whenBeforeBodyWriteIsInvoked_thenBodyIsReturnedAndSerializationIsStarted() {
+        RequestTimings timings = RequestTimings.open();
+
+        Object body = advice.beforeBodyWrite("body", null, null, null, null, null);
+        timings.finishSerialization();
+
+        assertThat(body).isEqualTo("body");
+        assertThat(timings.header()).startsWith("serialization;dur=");
+    }
+
+    @Test
+    void givenNoTimings_whenBeforeBodyWriteIsInvoked_thenBodyIsReturned() {
+        assertThat(advice.beforeBodyWrite("body", null, null, null, null, null)).isEqualTo("body");
+    }
+}
@@ -0,0 +1,117 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.config.AccessLogConfiguration;
+
+import java.net.URI;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+class AccessLogFilterTest {
+
+    private static final ClientRequest CLIENT_REQUEST = ClientRequest.create(
+                    HttpMethod.GET, URI.create("https://maat.example.com/api/internal/v1/hardship/1234"))
+            .header(HttpHeaders.AUTHORIZATION, "Bearer secret")
+            .header("X-Request-Timeout", "1000")
+            .build();
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger("uk.gov.justice.laa.crime.hardship.access");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private AccessLogConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new AccessLogConfiguration();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void givenSuccessfulExchange_whenFilterIsApplied_thenOneEventIsLogged() {
+        filter(Mono.just(ClientResponse.create(HttpStatus.OK).build())).block();
+
+        assertThat(messages()).singleElement().satisfies(message -> assertThat(message)
+                .contains("client=maat")
+                .contains("method=GET")
+                .contains("host=maat.example.com")
+                .contains("path=/api/internal/v1/hardship/1234")
+                .contains("status=200")
+                .contains("attempt=1")
+                .doesNotContain("headers="));
+    }
+
+    @Test
+    void givenRetriedAttempt_whenFilterIsApplied_thenAttemptIsReadFromTheContext() {
+        filter(Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()))
+                .contextWrite(context -> context.put(AccessLogFilter.ATTEMPT_CONTEXT_KEY, 3))
+                .block();
+
+        assertThat(messages()).singleElement().satisfies(message -> assertThat(message)
+                .contains("status=503")
+                .contains("attempt=3"));
+    }
+
+    @Test
+    void givenFailedExchange_whenFilterIsApplied_thenErrorIsLogged() {
+        WebClientRequestException connectionRefused = new WebClientRequestException(
+                new IllegalStateException("Connection refused"),
+                HttpMethod.GET,
+                CLIENT_REQUEST.url(),
+                new HttpHeaders());
+
+        assertThatThrownBy(() -> filter(Mono.error(connectionRefused)).block())
+                .isInstanceOf(WebClientRequestException.class);
+        assertThat(messages()).singleElement().satisfies(message -> assertThat(message)
+                .contains("status=WebClientRequestException"));
+    }
+
+    @Test
+    void givenHeaderSampling_whenFilterIsApplied_thenHeadersAreLoggedWithoutAuthorization() {
+        configuration.setHeaderSampleRate(1.0);
+
+        filter(Mono.just(ClientResponse.create(HttpStatus.OK).build())).block();
+
+        assertThat(messages()).singleElement().satisfies(message -> assertThat(message)
+                .contains("headers=")
+                .contains("X-Request-Timeout")
+                .doesNotContain("secret"));
+    }
+
+    @Test
+    void givenAccessLogDisabled_whenFilterIsApplied_thenNothingIsLogged() {
+        configuration.setEnabled(false);
+
+        filter(Mono.just(ClientResponse.create(HttpStatus.OK).build())).block();
+
+        assertThat(messages()).isEmpty();
+    }
+
+    private Mono<ClientResponse> filter(Mono<ClientResponse> response) {
+        return new AccessLogFilter(configuration, "maat").filter(CLIENT_REQUEST, request -> response);
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+}
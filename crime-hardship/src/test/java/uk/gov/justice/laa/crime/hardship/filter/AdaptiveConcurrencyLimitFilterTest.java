@@ -0,0 +1,146 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.search.RequiredSearch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import uk.gov.justice.laa.crime.hardship.config.ServicesConfiguration;
+import uk.gov.justice.laa.crime.hardship.exception.ConcurrencyLimitExceededException;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+class AdaptiveConcurrencyLimitFilterTest {
+
+    private static final String CLIENT_NAME = "maatCourtDataWebClient";
+    private static final ClientRequest REQUEST =
+            ClientRequest.create(HttpMethod.GET, URI.create("https://example.com")).build();
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(10).toNanos();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServicesConfiguration.ConcurrencyLimit configuration;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        configuration = new ServicesConfiguration.ConcurrencyLimit();
+        configuration.setEnabled(true);
+        configuration.setInitialLimit(1);
+        configuration.setMinLimit(1);
+    }
+
+    @Test
+    void givenLimitReached_whenFilterIsInvoked_thenCallIsRejectedAndCounted() {
+        AdaptiveConcurrencyLimitFilter filter = newFilter();
+        Sinks.One<ClientResponse> inFlight = Sinks.one();
+        filter.filter(REQUEST, request -> inFlight.asMono()).subscribe();
+
+        assertThatThrownBy(() -> filter.filter(REQUEST, request -> Mono.just(ok())).block())
+                .isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(meter("hardship.downstream.concurrency.rejections").counter().count())
+                .isEqualTo(1);
+        assertThat(meter("hardship.downstream.concurrency.in.flight").gauge().value())
+                .isEqualTo(1);
+
+        inFlight.tryEmitValue(ok());
+        assertThat(filter.filter(REQUEST, request -> Mono.just(ok())).block()).isNotNull();
+        assertThat(meter("hardship.downstream.concurrency.in.flight").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void givenCancelledCall_whenFilterIsInvokedAgain_thenPermitHasBeenReleased() {
+        AdaptiveConcurrencyLimitFilter filter = newFilter();
+        filter.filter(REQUEST, request -> Mono.never()).subscribe().dispose();
+
+        assertThat(filter.filter(REQUEST, request -> Mono.just(ok())).block()).isNotNull();
+    }
+
+    @Test
+    void givenOverloadedResponse_whenFilterIsInvoked_thenLimitIsReduced() {
+        configuration.setInitialLimit(20);
+        AdaptiveConcurrencyLimitFilter filter = newFilter();
+
+        WebClientResponseException unavailable = WebClientResponseException.create(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", new HttpHeaders(), new byte[0], null);
+
+        assertThatThrownBy(() -> filter.filter(REQUEST, request -> Mono.error(unavailable)).block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+
+        assertThat(meter("hardship.downstream.concurrency.limit").gauge().value()).isEqualTo(18);
+    }
+
+    @Test
+    void givenDisabledLimit_whenFilterIsInvoked_thenCallsAreNotLimited() {
+        configuration.setEnabled(false);
+        AdaptiveConcurrencyLimitFilter filter = newFilter();
+        filter.filter(REQUEST, request -> Mono.never()).subscribe();
+
+        assertThat(filter.filter(REQUEST, request -> Mono.just(ok())).block()).isNotNull();
+    }
+
+    @Test
+    void givenBusySuccessfulCalls_whenReleased_thenLimitGrowsAdditively() {
+        AimdLimit limit = new AimdLimit(2, 1, 10, 0.5, SLOW);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+            assertThat(limit.tryAcquire()).isTrue();
+            limit.release(FAST, AimdLimit.Outcome.SUCCESS);
+            limit.release(FAST, AimdLimit.Outcome.SUCCESS);
+        }
+
+        assertThat(limit.limit()).isEqualTo(3);
+    }
+
+    @Test
+    void givenSlowOrDroppedCalls_whenReleased_thenLimitBacksOffToMinimum() {
+        AimdLimit limit = new AimdLimit(8, 2, 10, 0.5, FAST);
+
+        limit.tryAcquire();
+        limit.release(SLOW, AimdLimit.Outcome.SUCCESS);
+        assertThat(limit.limit()).isEqualTo(4);
+
+        limit.tryAcquire();
+        limit.release(FAST, AimdLimit.Outcome.DROPPED);
+        limit.tryAcquire();
+        limit.release(FAST, AimdLimit.Outcome.DROPPED);
+        assertThat(limit.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void givenIgnoredOutcome_whenReleased_thenLimitIsUnchanged() {
+        AimdLimit limit = new AimdLimit(4, 1, 10, 0.5, FAST);
+
+        limit.tryAcquire();
+        limit.release(SLOW, AimdLimit.Outcome.IGNORED);
+
+        assertThat(limit.limit()).isEqualTo(4);
+        assertThat(limit.inFlight()).isZero();
+    }
+
+    private AdaptiveConcurrencyLimitFilter newFilter() {
+        return new AdaptiveConcurrencyLimitFilter(configuration, meterRegistry, CLIENT_NAME);
+    }
+
+    private RequiredSearch meter(String name) {
+        return meterRegistry.get(name).tag("name", CLIENT_NAME);
+    }
+
+    private static ClientResponse ok() {
+        return ClientResponse.create(HttpStatus.OK).build();
+    }
+}
@@ -0,0 +1,153 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.config.ServicesConfiguration;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+class HedgingFilterTest {
+
+    private static final String CLIENT_NAME = "maatCourtDataWebClient";
+    private static final URI URL = URI.create("https://example.com/hardship/1234");
+    private static final ClientRequest GET = ClientRequest.create(HttpMethod.GET, URL).build();
+    private static final Duration SLOW = Duration.ofSeconds(5);
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServicesConfiguration.Hedging hedging;
+    private AtomicInteger exchanges;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hedging = new ServicesConfiguration.Hedging();
+        hedging.setEnabled(true);
+        hedging.setMinDelay(Duration.ofMillis(20));
+        hedging.setMinSamples(5);
+        hedging.setMaxRatio(1);
+        exchanges = new AtomicInteger();
+    }
+
+    @Test
+    void givenSlowFirstResponse_whenHedgingFilterIsInvoked_thenHedgedResponseWins() {
+        HedgingFilter filter = warmedUpFilter();
+
+        ClientResponse response = filter.filter(GET, slowThenFast(HttpStatus.ACCEPTED)).block(TIMEOUT);
+
+        assertThat(response).isNotNull();
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(exchanges).hasValue(2);
+        assertThat(hedges("sent")).isEqualTo(1);
+        assertThat(hedges("won")).isEqualTo(1);
+    }
+
+    @Test
+    void givenHedgedResponseWins_whenHedgeDelayIsRequested_thenLatencyIsMeasuredFromTheOriginalRequest() {
+        HedgingFilter filter = warmedUpFilter();
+        filter.filter(GET, slowThenFast(HttpStatus.OK)).block(TIMEOUT);
+
+        hedging.setPercentile(1.0);
+        hedging.setMinDelay(Duration.ZERO);
+
+        assertThat(filter.hedgeDelay()).hasValueSatisfying(delay -> assertThat(delay)
+                .isGreaterThanOrEqualTo(Duration.ofMillis(20)));
+    }
+
+    @Test
+    void givenExhaustedBudget_whenHedgingFilterIsInvoked_thenNoHedgeIsSent() {
+        hedging.setMaxRatio(0.01);
+        HedgingFilter filter = warmedUpFilter();
+
+        ClientResponse response = filter.filter(GET, delayedFirst(Duration.ofMillis(200))).block(TIMEOUT);
+
+        assertThat(response).isNotNull();
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exchanges).hasValue(1);
+        assertThat(hedges("throttled")).isEqualTo(1);
+    }
+
+    @Test
+    void givenFailedHedge_whenHedgingFilterIsInvoked_thenFirstResponseIsReturned() {
+        HedgingFilter filter = warmedUpFilter();
+        ExchangeFunction next = request -> exchanges.incrementAndGet() == 1
+                ? Mono.just(ok(HttpStatus.OK)).delayElement(Duration.ofMillis(200))
+                : Mono.error(new IllegalStateException("hedge failed"));
+
+        ClientResponse response = filter.filter(GET, next).block(TIMEOUT);
+
+        assertThat(response).isNotNull();
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(hedges("sent")).isEqualTo(1);
+    }
+
+    @Test
+    void givenNonIdempotentRequest_whenHedgingFilterIsInvoked_thenRequestIsNotHedged() {
+        HedgingFilter filter = warmedUpFilter();
+        ClientRequest post = ClientRequest.create(HttpMethod.POST, URL).build();
+
+        ClientResponse response = filter.filter(post, delayedFirst(Duration.ofMillis(200))).block(TIMEOUT);
+
+        assertThat(response).isNotNull();
+        assertThat(exchanges).hasValue(1);
+        assertThat(hedges("sent")).isZero();
+    }
+
+    @Test
+    void givenTooFewSamples_whenHedgeDelayIsRequested_thenNoDelayIsReturned() {
+        HedgingFilter filter = new HedgingFilter(hedging, meterRegistry, CLIENT_NAME);
+
+        assertThat(filter.hedgeDelay()).isEmpty();
+    }
+
+    @Test
+    void givenFastSamples_whenHedgeDelayIsRequested_thenMinimumDelayIsReturned() {
+        assertThat(warmedUpFilter().hedgeDelay()).contains(hedging.getMinDelay());
+    }
+
+    private HedgingFilter warmedUpFilter() {
+        HedgingFilter filter = new HedgingFilter(hedging, meterRegistry, CLIENT_NAME);
+        for (int i = 0; i < hedging.getMinSamples(); i++) {
+            filter.filter(GET, request -> Mono.just(ok(HttpStatus.OK))).block(TIMEOUT);
+        }
+        return filter;
+    }
+
+    private ExchangeFunction slowThenFast(HttpStatus hedgeStatus) {
+        return request -> exchanges.incrementAndGet() == 1
+                ? Mono.just(ok(HttpStatus.OK)).delayElement(SLOW)
+                : Mono.just(ok(hedgeStatus));
+    }
+
+    private ExchangeFunction delayedFirst(Duration delay) {
+        return request -> {
+            exchanges.incrementAndGet();
+            return Mono.just(ok(HttpStatus.OK)).delayElement(delay);
+        };
+    }
+
+    private double hedges(String result) {
+        return meterRegistry
+                .get("hardship.downstream.hedges")
+                .tag("name", CLIENT_NAME)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static ClientResponse ok(HttpStatus status) {
+        return ClientResponse.create(status).build();
+    }
+}
@@ -0,0 +1,112 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.oauth.ClientCredentialsTokenManager;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@ExtendWith(MockitoExtension.class)
+class OAuth2BearerTokenFilterTest {
+
+    private static final String REGISTRATION_ID = "cma";
+    private static final ClientRequest CLIENT_REQUEST =
+            ClientRequest.create(HttpMethod.GET, URI.create("https://example.com")).build();
+    private static final OAuth2AccessToken TOKEN = new OAuth2AccessToken(
+            OAuth2AccessToken.TokenType.BEARER, "token", Instant.now(), Instant.now().plusSeconds(3600));
+
+    @Mock
+    private ClientCredentialsTokenManager tokenManager;
+
+    @Test
+    void givenHeldToken_whenFilterIsApplied_thenBearerTokenIsSentWithoutFetching() {
+        when(tokenManager.currentToken(REGISTRATION_ID)).thenReturn(Optional.of(TOKEN));
+        AtomicReference<ClientRequest> capturedRequest = new AtomicReference<>();
+
+        new OAuth2BearerTokenFilter(tokenManager, REGISTRATION_ID)
+                .filter(CLIENT_REQUEST, request -> {
+                    capturedRequest.set(request);
+                    return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+                })
+                .block();
+
+        assertThat(capturedRequest.get().headers().getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer token");
+        verify(tokenManager, never()).getToken(REGISTRATION_ID);
+    }
+
+    @Test
+    void givenNoHeldToken_whenFilterIsApplied_thenTokenIsFetched() {
+        when(tokenManager.currentToken(REGISTRATION_ID)).thenReturn(Optional.empty());
+        when(tokenManager.getToken(REGISTRATION_ID)).thenReturn(TOKEN);
+        AtomicReference<ClientRequest> capturedRequest = new AtomicReference<>();
+
+        new OAuth2BearerTokenFilter(tokenManager, REGISTRATION_ID)
+                .filter(CLIENT_REQUEST, request -> {
+                    capturedRequest.set(request);
+                    return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+                })
+                .block();
+
+        assertThat(capturedRequest.get().headers().getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer token");
+    }
+
+    @Test
+    void givenUnauthorizedResponse_whenFilterIsApplied_thenTokenIsInvalidated() {
+        when(tokenManager.currentToken(REGISTRATION_ID)).thenReturn(Optional.of(TOKEN));
+
+        ClientResponse response = new OAuth2BearerTokenFilter(tokenManager, REGISTRATION_ID)
+                .filter(CLIENT_REQUEST, request -> Mono.just(ClientResponse.create(HttpStatus.UNAUTHORIZED).build()))
+                .block();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verify(tokenManager).invalidate(REGISTRATION_ID, TOKEN);
+    }
+
+    @Test
+    void givenUnauthorizedResponseAndErrorResponseHandler_whenFiltersAreApplied_thenTokenIsInvalidated() {
+        when(tokenManager.currentToken(REGISTRATION_ID)).thenReturn(Optional.of(TOKEN));
+        // in the order WebClientsConfiguration adds them, so the error handler sees the response first
+        ExchangeFilterFunction filters = new OAuth2BearerTokenFilter(tokenManager, REGISTRATION_ID)
+                .andThen(WebClientFilters.errorResponseHandler());
+
+        Mono<ClientResponse> response = filters.filter(
+                CLIENT_REQUEST, request -> Mono.just(ClientResponse.create(HttpStatus.UNAUTHORIZED).build()));
+
+        assertThatThrownBy(response::block).isInstanceOf(WebClientResponseException.Unauthorized.class);
+        verify(tokenManager).invalidate(REGISTRATION_ID, TOKEN);
+    }
+
+    @Test
+    void givenServerErrorAndErrorResponseHandler_whenFiltersAreApplied_thenTokenIsKept() {
+        when(tokenManager.currentToken(REGISTRATION_ID)).thenReturn(Optional.of(TOKEN));
+        ExchangeFilterFunction filters = new OAuth2BearerTokenFilter(tokenManager, REGISTRATION_ID)
+                .andThen(WebClientFilters.errorResponseHandler());
+
+        Mono<ClientResponse> response = filters.filter(
+                CLIENT_REQUEST, request -> Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build()));
+
+        assertThatThrownBy(response::block).isInstanceOf(WebClientResponseException.InternalServerError.class);
+        verify(tokenManager, never()).invalidate(REGISTRATION_ID, TOKEN);
+    }
+}
@@ -0,0 +1,74 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.hardship.config.DeadlineConfiguration;
+import uk.gov.justice.laa.crime.hardship.deadline.RequestDeadline;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestDeadlineFilterTest {
+
+    private static final String BATCH_PATH = "/api/internal/v1/hardship/calculate-hardship/batch";
+
+    private DeadlineConfiguration configuration;
+    private RequestDeadlineFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new DeadlineConfiguration();
+        configuration.getEndpoints().put("/api/internal/v1/hardship/*/batch", Duration.ofMinutes(2));
+        filter = new RequestDeadlineFilter(configuration);
+    }
+
+    @Test
+    void givenNoHeader_whenTimeoutIsInvoked_thenDefaultTimeoutIsReturned() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/internal/v1/hardship/1234");
+
+        assertThat(filter.timeout(request)).isEqualTo(configuration.getDefaultTimeout());
+    }
+
+    @Test
+    void givenConfiguredEndpoint_whenTimeoutIsInvoked_thenEndpointTimeoutIsReturned() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", BATCH_PATH);
+
+        assertThat(filter.timeout(request)).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    @Test
+    void givenShorterCallerTimeout_whenTimeoutIsInvoked_thenCallerTimeoutIsReturned() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", BATCH_PATH);
+        request.addHeader(RequestDeadline.TIMEOUT_HEADER, "1500");
+
+        assertThat(filter.timeout(request)).isEqualTo(Duration.ofMillis(1500));
+    }
+
+    @Test
+    void givenLongerOrInvalidCallerTimeout_whenTimeoutIsInvoked_thenEndpointTimeoutIsReturned() {
+        MockHttpServletRequest longer = new MockHttpServletRequest("POST", BATCH_PATH);
+        longer.addHeader(RequestDeadline.TIMEOUT_HEADER, "600000");
+        MockHttpServletRequest invalid = new MockHttpServletRequest("POST", BATCH_PATH);
+        invalid.addHeader(RequestDeadline.TIMEOUT_HEADER, "soon");
+
+        assertThat(filter.timeout(longer)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(filter.timeout(invalid)).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    @Test
+    void givenRequest_whenFilterIsInvoked_thenDeadlineIsOpenOnlyForTheRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/internal/v1/hardship/1234");
+        AtomicReference<RequestDeadline> seen = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.set(RequestDeadline.current()
+                .orElseThrow()));
+
+        assertThat(seen.get().remaining()).isPositive().isLessThanOrEqualTo(configuration.getDefaultTimeout());
+        assertThat(RequestDeadline.current()).isEmpty();
+    }
+}
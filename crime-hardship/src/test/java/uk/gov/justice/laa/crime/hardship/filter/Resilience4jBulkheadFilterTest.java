@@ -0,0 +1,63 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+class Resilience4jBulkheadFilterTest {
+
+    private static final String CLIENT_NAME = "meansAssessmentWebClient";
+    private static final ClientRequest REQUEST =
+            ClientRequest.create(HttpMethod.GET, URI.create("https://example.com")).build();
+
+    private SimpleMeterRegistry meterRegistry;
+    private Resilience4jBulkheadFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        filter = new Resilience4jBulkheadFilter(bulkheadRegistry, meterRegistry, CLIENT_NAME);
+    }
+
+    @Test
+    void givenCallInFlight_whenBulkheadIsFull_thenCallIsRejectedAndCounted() {
+        Sinks.One<ClientResponse> inFlight = Sinks.one();
+        filter.filter(REQUEST, request -> inFlight.asMono()).subscribe();
+
+        assertThatThrownBy(() -> filter.filter(REQUEST, request -> Mono.just(ok())).block())
+                .isInstanceOf(BulkheadFullException.class);
+        assertThat(meterRegistry
+                        .get("hardship.downstream.bulkhead.rejections")
+                        .tag("name", CLIENT_NAME)
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+
+        inFlight.tryEmitValue(ok());
+        assertThat(filter.filter(REQUEST, request -> Mono.just(ok())).block()).isNotNull();
+    }
+
+    private static ClientResponse ok() {
+        return ClientResponse.create(HttpStatus.OK).build();
+    }
+}
@@ -0,0 +1,99 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+class Resilience4jCircuitBreakerFilterTest {
+
+    private static final String CLIENT_NAME = "maatCourtDataWebClient";
+    private static final ClientRequest REQUEST =
+            ClientRequest.create(HttpMethod.GET, URI.create("https://example.com")).build();
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private AtomicInteger exchanges;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .recordExceptions(WebClientResponseException.ServiceUnavailable.class)
+                .build());
+        exchanges = new AtomicInteger();
+    }
+
+    @Test
+    void givenRepeatedFailures_whenCircuitBreakerFilterIsInvoked_thenCallsAreRejectedWithoutExchange() {
+        Resilience4jCircuitBreakerFilter filter =
+                new Resilience4jCircuitBreakerFilter(circuitBreakerRegistry, CLIENT_NAME);
+        ExchangeFunction failing = failingWith(HttpStatus.SERVICE_UNAVAILABLE);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> filter.filter(REQUEST, failing).block())
+                    .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        }
+
+        assertThatThrownBy(() -> filter.filter(REQUEST, failing).block())
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(exchanges).hasValue(2);
+        assertThat(circuitBreakerRegistry.circuitBreaker(CLIENT_NAME).getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void givenIgnoredFailures_whenCircuitBreakerFilterIsInvoked_thenCircuitStaysClosed() {
+        Resilience4jCircuitBreakerFilter filter =
+                new Resilience4jCircuitBreakerFilter(circuitBreakerRegistry, CLIENT_NAME);
+        ExchangeFunction failing = failingWith(HttpStatus.BAD_REQUEST);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> filter.filter(REQUEST, failing).block())
+                    .isInstanceOf(WebClientResponseException.BadRequest.class);
+        }
+
+        assertThat(exchanges).hasValue(3);
+        assertThat(circuitBreakerRegistry.circuitBreaker(CLIENT_NAME).getState())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenSuccessfulResponse_whenCircuitBreakerFilterIsInvoked_thenResponseIsReturned() {
+        Resilience4jCircuitBreakerFilter filter =
+                new Resilience4jCircuitBreakerFilter(circuitBreakerRegistry, CLIENT_NAME);
+
+        ClientResponse response = filter.filter(REQUEST, request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .build()))
+                .block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private ExchangeFunction failingWith(HttpStatus status) {
+        return request -> Mono.defer(() -> {
+            exchanges.incrementAndGet();
+            return Mono.error(WebClientResponseException.create(
+                    status.value(), status.getReasonPhrase(), new HttpHeaders(), new byte[0], null));
+        });
+    }
+}
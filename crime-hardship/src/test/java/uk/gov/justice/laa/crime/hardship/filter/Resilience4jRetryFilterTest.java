@@ -2,13 +2,20 @@ package uk.gov.justice.laa.crime.hardship.filter;
 
 import static org.mockito.Mockito.when;
 
+import io.github.resilience4j.core.functions.Either;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.config.ServicesConfiguration;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.LinkedList;
 
@@ -42,6 +49,8 @@ class Resilience4jRetryFilterTest {
 
     private static final int NUM_RETRIES = 3;
     private static RetryRegistry retryRegistry;
+    private ServicesConfiguration.RetryBudget retryBudget;
+    private SimpleMeterRegistry meterRegistry;
     public static final String DEFAULT_CONFIG_NAME = "default";
     private static final URI DEFAULT_URL = URI.create("https://example.com");
 
@@ -57,6 +66,8 @@ class Resilience4jRetryFilterTest {
                 .failAfterMaxAttempts(true)
                 .build();
         retryRegistry = RetryRegistry.of(retryConfig);
+        retryBudget = new ServicesConfiguration.RetryBudget();
+        meterRegistry = new SimpleMeterRegistry();
     }
 
     @Test
@@ -72,7 +83,7 @@ class Resilience4jRetryFilterTest {
         when(exchangeFunction.exchange(request)).thenReturn(errorMono);
 
         Mono<ClientResponse> response =
-                new Resilience4jRetryFilter(retryRegistry, DEFAULT_CONFIG_NAME).filter(request, exchangeFunction);
+                newFilter(DEFAULT_CONFIG_NAME).filter(request, exchangeFunction);
 
         softly.assertThatThrownBy(response::block)
                 .isInstanceOf(WebClientResponseException.BadGateway.class)
@@ -91,7 +102,7 @@ class Resilience4jRetryFilterTest {
         when(exchangeFunction.exchange(request)).thenReturn(responseMono);
 
         Mono<ClientResponse> clientResponse =
-                new Resilience4jRetryFilter(retryRegistry, DEFAULT_CONFIG_NAME).filter(request, exchangeFunction);
+                newFilter(DEFAULT_CONFIG_NAME).filter(request, exchangeFunction);
 
         ClientResponse response = clientResponse.block();
 
@@ -112,7 +123,7 @@ class Resilience4jRetryFilterTest {
         when(exchangeFunction.exchange(request)).thenReturn(responseMono);
 
         Mono<ClientResponse> clientResponse =
-                new Resilience4jRetryFilter(retryRegistry, DEFAULT_CONFIG_NAME).filter(request, exchangeFunction);
+                newFilter(DEFAULT_CONFIG_NAME).filter(request, exchangeFunction);
 
         ClientResponse response = clientResponse.block();
 
@@ -135,7 +146,7 @@ class Resilience4jRetryFilterTest {
                 .thenReturn(Mono.error(getWebClientResponseException(HttpStatus.UNAUTHORIZED)));
 
         Mono<ClientResponse> response =
-                new Resilience4jRetryFilter(retryRegistry, DEFAULT_CONFIG_NAME).filter(request, exchangeFunction);
+                newFilter(DEFAULT_CONFIG_NAME).filter(request, exchangeFunction);
 
         softly.assertThatThrownBy(response::block)
                 .isInstanceOf(WebClientResponseException.class)
@@ -166,7 +177,7 @@ class Resilience4jRetryFilterTest {
         when(exchangeFunction.exchange(request)).thenReturn(errorMono);
 
         Mono<ClientResponse> response =
-                new Resilience4jRetryFilter(retryRegistry, "override").filter(request, exchangeFunction);
+                newFilter("override").filter(request, exchangeFunction);
 
         softly.assertThatThrownBy(response::block)
                 .isInstanceOf(WebClientResponseException.Conflict.class)
@@ -190,13 +201,144 @@ class Resilience4jRetryFilterTest {
         when(exchangeFunction.exchange(request)).thenReturn(errorMono);
 
         Mono<ClientResponse> response =
-                new Resilience4jRetryFilter(retryRegistry, "override").filter(request, exchangeFunction);
+                newFilter("override").filter(request, exchangeFunction);
 
         softly.assertThatThrownBy(response::block)
                 .isInstanceOf(WebClientResponseException.Conflict.class)
                 .hasMessageContaining("409 Conflict");
 
+        verifyCorrectNumberOfCalls(2, "override");
+    }
+
+    @Test
+    void givenTwoClientsUsingDefaultConfiguration_whenRetryFiltersAreCreated_thenEachClientHasItsOwnRetry() {
+        ClientRequest request =
+                ClientRequest.create(HttpMethod.GET, DEFAULT_URL).build();
+        when(exchangeFunction.exchange(request))
+                .thenReturn(Mono.error(getWebClientResponseException(HttpStatus.UNAUTHORIZED)));
+        Resilience4jRetryFilter first = newFilter("firstClient");
+        newFilter("secondClient");
+
+        softly.assertThatThrownBy(() -> first.filter(request, exchangeFunction).block())
+                .isInstanceOf(WebClientResponseException.class);
+
+        verifyCorrectNumberOfCalls(1, "firstClient");
+        verifyCorrectNumberOfCalls(0, "secondClient");
+        softly.assertThat(retryRegistry.retry("firstClient"))
+                .isNotSameAs(retryRegistry.retry("secondClient"));
+    }
+
+    @Test
+    void givenExhaustedRetryBudget_whenRetryFilterIsInvoked_thenFailureIsNotRetried() {
+        retryBudget.setRatio(0);
+        retryBudget.setBurst(1);
+        ClientRequest request =
+                ClientRequest.create(HttpMethod.GET, DEFAULT_URL).build();
+        LinkedList<RuntimeException> errors = new LinkedList<>(Arrays.asList(
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY),
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY),
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY)));
+
+        when(exchangeFunction.exchange(request)).thenReturn(getClientResponseMono(errors));
+
+        Mono<ClientResponse> response = newFilter(DEFAULT_CONFIG_NAME).filter(request, exchangeFunction);
+
+        softly.assertThatThrownBy(response::block).isInstanceOf(WebClientResponseException.BadGateway.class);
         verifyCorrectNumberOfCalls(2, DEFAULT_CONFIG_NAME);
+        softly.assertThat(rejectedRetries("budget_exhausted")).isEqualTo(1);
+        softly.assertThat(meterRegistry.get("hardship.downstream.attempts").summary().totalAmount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void givenRetriesExhaustedWithinBudget_whenRetryFilterIsInvoked_thenFinalAttemptSpendsNoToken() {
+        retryBudget.setRatio(0);
+        retryBudget.setBurst(NUM_RETRIES - 1);
+        ClientRequest request =
+                ClientRequest.create(HttpMethod.GET, DEFAULT_URL).build();
+        LinkedList<RuntimeException> errors = new LinkedList<>(Arrays.asList(
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY),
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY),
+                getWebClientResponseException(HttpStatus.BAD_GATEWAY)));
+
+        when(exchangeFunction.exchange(request)).thenReturn(getClientResponseMono(errors));
+
+        Mono<ClientResponse> response = newFilter(DEFAULT_CONFIG_NAME).filter(request, exchangeFunction);
+
+        softly.assertThatThrownBy(response::block).isInstanceOf(WebClientResponseException.BadGateway.class);
+        verifyCorrectNumberOfCalls(NUM_RETRIES, DEFAULT_CONFIG_NAME);
+        softly.assertThat(rejectedRetries("budget_exhausted")).isZero();
+    }
+
+    @Test
+    void givenRetryAfterAboveMaximum_whenRetryFilterIsInvoked_thenFailureIsNotRetried() {
+        ClientRequest request =
+                ClientRequest.create(HttpMethod.GET, DEFAULT_URL).build();
+        when(exchangeFunction.exchange(request))
+                .thenReturn(Mono.error(getRetryAfterException(HttpStatus.TOO_MANY_REQUESTS, "120")));
+
+        Mono<ClientResponse> response = newFilter(DEFAULT_CONFIG_NAME).filter(request, exchangeFunction);
+
+        softly.assertThatThrownBy(response::block).isInstanceOf(WebClientResponseException.TooManyRequests.class);
+        softly.assertThat(rejectedRetries("retry_after_too_long")).isEqualTo(1);
+        softly.assertThat(meterRegistry.get("hardship.downstream.attempts").summary().totalAmount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givenRetryAfterHeader_whenIntervalIsCalculated_thenRetryAfterIsUsed() {
+        RetryPolicy policy = newPolicy();
+
+        long interval = policy.apply(1, Either.left(getRetryAfterException(HttpStatus.SERVICE_UNAVAILABLE, "3")));
+
+        softly.assertThat(interval).isEqualTo(Duration.ofSeconds(3).toMillis());
+    }
+
+    @Test
+    void givenRetryAfterDate_whenRetryAfterIsRead_thenDelayUntilDateIsReturned() {
+        String inOneMinute = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC)
+                .plusMinutes(1));
+
+        softly.assertThat(RetryPolicy.retryAfter(getRetryAfterException(HttpStatus.SERVICE_UNAVAILABLE, inOneMinute)))
+                .hasValueSatisfying(delay -> softly.assertThat(delay).isBetween(
+                        Duration.ofSeconds(50), Duration.ofSeconds(60)));
+        softly.assertThat(RetryPolicy.retryAfter(getRetryAfterException(HttpStatus.BAD_GATEWAY, "3")))
+                .isEmpty();
+    }
+
+    @Test
+    void givenNoRetryAfterHeader_whenIntervalIsCalculated_thenJitterIsWithinBackoff() {
+        Duration backoff = Duration.ofMillis(200);
+        RetryPolicy policy = new RetryPolicy(
+                RetryConfig.custom().waitDuration(backoff).build(), retryBudget, meterRegistry, DEFAULT_CONFIG_NAME);
+
+        for (int i = 0; i < 100; i++) {
+            long interval = policy.apply(1, Either.left(getWebClientResponseException(HttpStatus.BAD_GATEWAY)));
+            softly.assertThat(interval).isBetween(0L, backoff.toMillis());
+        }
+    }
+
+    private Resilience4jRetryFilter newFilter(String clientName) {
+        return new Resilience4jRetryFilter(retryRegistry, retryBudget, meterRegistry, clientName);
+    }
+
+    private RetryPolicy newPolicy() {
+        return new RetryPolicy(retryRegistry.getDefaultConfig(), retryBudget, meterRegistry, DEFAULT_CONFIG_NAME);
+    }
+
+    private double rejectedRetries(String reason) {
+        return meterRegistry
+                .get("hardship.downstream.retries.rejected")
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    private static WebClientResponseException getRetryAfterException(HttpStatus status, String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return WebClientResponseException.create(
+                status.value(), status.getReasonPhrase(), headers, new byte[0], null);
     }
 
     private static WebClientResponseException getWebClientResponseException(HttpStatus status) {
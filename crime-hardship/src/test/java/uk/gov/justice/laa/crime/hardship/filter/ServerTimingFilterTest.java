@@ -0,0 +1,72 @@
+package uk.gov.justice.laa.crime.hardship.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import uk.gov.justice.laa.crime.hardship.config.ServerTimingConfiguration;
+import uk.gov.justice.laa.crime.hardship.metrics.RequestTimings;
+import uk.gov.justice.laa.crime.hardship.metrics.Stage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ServerTimingFilterTest {
+
+    private static final String HARDSHIP_PATH = "/api/internal/v1/hardship/1234";
+    private static final String BODY = "{\"id\":1234}";
+
+    private ServerTimingConfiguration configuration;
+    private ServerTimingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new ServerTimingConfiguration();
+        configuration.setEnabled(true);
+        filter = new ServerTimingFilter(configuration);
+    }
+
+    @Test
+    void givenHardshipRequest_whenFiltered_thenServerTimingHeaderListsStagesAndBodyIsWritten() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", HARDSHIP_PATH), response, (request, servletResponse) -> {
+            RequestTimings timings = RequestTimings.current().orElseThrow();
+            timings.add(Stage.COURT_DATA_READ, TimeUnit.MILLISECONDS.toNanos(12));
+            timings.startSerialization();
+            servletResponse.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            servletResponse.flushBuffer();
+        });
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER))
+                .startsWith("court_data_read;dur=12.00, serialization;dur=")
+                .contains("total;dur=");
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(RequestTimings.current()).isEmpty();
+    }
+
+    @Test
+    void givenServerTimingDisabled_whenShouldNotFilterIsInvoked_thenTrueIsReturned() {
+        configuration.setEnabled(false);
+
+        assertThat(filter.shouldNotFilter(new MockHttpServletRequest("GET", HARDSHIP_PATH))).isTrue();
+    }
+
+    @Test
+    void givenRequestOutsideHardshipApi_whenShouldNotFilterIsInvoked_thenTrueIsReturned() {
+        assertThat(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/actuator/health"))).isTrue();
+        assertThat(filter.shouldNotFilter(new MockHttpServletRequest("GET", HARDSHIP_PATH))).isFalse();
+    }
+
+    @Test
+    void givenStreamedNdjsonRequest_whenShouldNotFilterIsInvoked_thenTrueIsReturned() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/internal/v1/hardship/recalculate");
+        request.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+        assertThat(filter.shouldNotFilter(request)).isTrue();
+    }
+}
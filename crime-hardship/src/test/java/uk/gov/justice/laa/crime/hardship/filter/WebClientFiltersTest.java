@@ -4,8 +4,11 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.deadline.RequestDeadline;
+import uk.gov.justice.laa.crime.hardship.exception.DeadlineExceededException;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
@@ -23,44 +26,6 @@ class WebClientFiltersTest {
                     HttpMethod.GET, URI.create("https://example.com"))
             .build();
 
-    @Test
-    void givenRequestWithHeaders_whenLogRequestHeadersFilterApplied_thenResponseIsPassedThrough() {
-        // given
-        ClientResponse dummyResponse = ClientResponse.create(HttpStatus.OK).build();
-
-        // Use an AtomicReference to capture the request passed along the filter chain.
-        AtomicReference<ClientRequest> capturedRequest = new AtomicReference<>();
-
-        // when
-        Mono<ClientResponse> result = WebClientFilters.logRequestHeaders().filter(CLIENT_REQUEST, req -> {
-            capturedRequest.set(req);
-            return Mono.just(dummyResponse);
-        });
-        ClientResponse response = result.block();
-
-        // then
-        assertThat(capturedRequest.get()).isEqualTo(CLIENT_REQUEST);
-        // Also verify that the response is passed through unchanged.
-        assertThat(response).isNotNull();
-        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
-    }
-
-    @Test
-    void givenClientResponse_whenLogResponseFilterApplied_thenResponseIsUnchanged() {
-        // given
-        ClientResponse response = ClientResponse.create(HttpStatus.OK)
-                .header("X-Test", "headerValue")
-                .build();
-
-        // when
-        Mono<ClientResponse> result = WebClientFilters.logResponse().filter(CLIENT_REQUEST, req -> Mono.just(response));
-        ClientResponse filteredResponse = result.block();
-
-        // then
-        assertThat(filteredResponse).isNotNull();
-        assertThat(filteredResponse.statusCode()).isEqualTo(HttpStatus.OK);
-    }
-
     @Test
     void givenSuccessResponse_whenErrorResponseHandlerApplied_thenResponseIsPassedThrough() {
         // given
@@ -122,4 +87,55 @@ class WebClientFiltersTest {
         assertThat(response).isNotNull();
         assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
+
+    @Test
+    void givenExpiredDeadline_whenEnforceDeadlineFilterApplied_thenCallIsNotMade() {
+        AtomicReference<ClientRequest> capturedRequest = new AtomicReference<>();
+        RequestDeadline.open(Duration.ZERO);
+        try {
+            Mono<ClientResponse> result = WebClientFilters.enforceDeadline().filter(CLIENT_REQUEST, req -> {
+                capturedRequest.set(req);
+                return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+            });
+
+            assertThatThrownBy(result::block).isInstanceOf(DeadlineExceededException.class);
+            assertThat(capturedRequest.get()).isNull();
+        } finally {
+            RequestDeadline.close();
+        }
+    }
+
+    @Test
+    void givenSlowResponse_whenEnforceDeadlineFilterApplied_thenCallIsCancelledAtTheDeadline() {
+        RequestDeadline.open(Duration.ofMillis(100));
+        try {
+            Mono<ClientResponse> result =
+                    WebClientFilters.enforceDeadline().filter(CLIENT_REQUEST, req -> Mono.never());
+
+            assertThatThrownBy(() -> result.block(Duration.ofSeconds(5)))
+                    .isInstanceOf(DeadlineExceededException.class);
+        } finally {
+            RequestDeadline.close();
+        }
+    }
+
+    @Test
+    void givenOpenDeadline_whenForwardDeadlineFilterApplied_thenRemainingTimeIsSent() {
+        AtomicReference<ClientRequest> capturedRequest = new AtomicReference<>();
+        RequestDeadline.open(Duration.ofSeconds(10));
+        try {
+            WebClientFilters.forwardDeadline()
+                    .filter(CLIENT_REQUEST, req -> {
+                        capturedRequest.set(req);
+                        return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+                    })
+                    .block();
+        } finally {
+            RequestDeadline.close();
+        }
+
+        long remainingMillis =
+                Long.parseLong(capturedRequest.get().headers().getFirst(RequestDeadline.TIMEOUT_HEADER));
+        assertThat(remainingMillis).isPositive().isLessThanOrEqualTo(10_000);
+    }
 }
@@ -11,6 +11,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.put;
 import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.DEFINED_PORT;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -40,6 +41,8 @@ import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.hardship.tracing.TraceIdHandler;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
@@ -252,6 +255,55 @@ class HardshipIntegrationTest {
         verify(exactly(1), putRequestedFor(urlEqualTo("/hardship")));
     }
 
+    @Test
+    void givenSlowDownstreamApis_whenUpdateHardshipIsInvoked_thenReadsAreMadeConcurrently() throws Exception {
+        int downstreamDelay = 750;
+        ApiPerformHardshipRequest request = TestModelDataBuilder.getApiPerformHardshipRequest();
+        // a review date of its own, so that the threshold is not already cached by another test
+        request.getHardship().setReviewDate(LocalDateTime.of(2023, 1, 16, 0, 0));
+
+        String requestBody = objectMapper.writeValueAsString(request);
+
+        wiremock.stubFor(get(urlEqualTo(ENDPOINT_URL_FULL_ASSESSMENT_THRESHOLD + "2023-01-16"))
+                .willReturn(WireMock.ok()
+                        .withHeader("Content-Type", String.valueOf(APPLICATION_JSON))
+                        .withBody(objectMapper.writeValueAsString(BigDecimal.TEN))
+                        .withFixedDelay(downstreamDelay)));
+
+        wiremock.stubFor(put(urlEqualTo("/hardship"))
+                .willReturn(WireMock.ok()
+                        .withHeader("Content-Type", String.valueOf(APPLICATION_JSON))
+                        .withBody(objectMapper.writeValueAsString(
+                                TestModelDataBuilder.getApiPersistHardshipResponse()))));
+
+        wiremock.stubFor(get(urlEqualTo("/financial-assessments/"
+                        + request.getHardshipMetadata().getFinancialAssessmentId()))
+                .willReturn(WireMock.ok()
+                        .withHeader("Content-Type", String.valueOf(APPLICATION_JSON))
+                        .withBody(objectMapper.writeValueAsString(TestModelDataBuilder.getFinancialAssessmentDTO()))
+                        .withFixedDelay(downstreamDelay)));
+
+        wiremock.stubFor(get(urlEqualTo("/hardship/" + request.getHardshipMetadata().getHardshipReviewId()))
+                .willReturn(WireMock.ok()
+                        .withHeader("Content-Type", String.valueOf(APPLICATION_JSON))
+                        .withBody(objectMapper.writeValueAsString(
+                                new ApiFindHardshipResponse().withStatus(HardshipReviewStatus.IN_PROGRESS)))
+                        .withFixedDelay(downstreamDelay)));
+
+        long started = System.nanoTime();
+        mvc.perform(MockMvcRequestBuilders.put(ENDPOINT_URL)
+                        .content(requestBody)
+                        .contentType(APPLICATION_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hardshipReviewId").value(1000));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        // three reads of 750ms each: run one after another they could not finish in under 1.5s
+        assertThat(elapsed).isLessThan(Duration.ofMillis(2L * downstreamDelay));
+        verify(exactly(1), putRequestedFor(urlEqualTo("/hardship")));
+    }
+
     @Test
     void givenInvalidRequest_whenUpdateHardshipIsInvoked_thenFailsWithBadRequest() throws Exception {
         ApiPerformHardshipRequest request = new ApiPerformHardshipRequest(
@@ -0,0 +1,113 @@
+package uk.gov.justice.laa.crime.hardship.integration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder.HARDSHIP_ID;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import uk.gov.justice.laa.crime.hardship.CrimeHardshipApplication;
+import uk.gov.justice.laa.crime.hardship.config.CrimeHardshipTestConfiguration;
+import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.hardship.service.MaatCourtDataService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.wiremock.spring.EnableWireMock;
+import org.wiremock.spring.InjectWireMock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+@EnableWireMock
+@DirtiesContext
+@Import(CrimeHardshipTestConfiguration.class)
+@SpringBootTest(
+        classes = CrimeHardshipApplication.class,
+        properties = {
+            "spring.threads.virtual.enabled=true",
+            "resilience4j.retry.configs.default.wait-duration=50ms"
+        })
+class VirtualThreadPinningIntegrationTest {
+
+    private static final String THREAD_PREFIX = "pinning-check-";
+    private static final int CALLS = 20;
+
+    @InjectWireMock
+    private static WireMockServer wiremock;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MaatCourtDataService maatCourtDataService;
+
+    @Test
+    void givenVirtualThreads_whenCourtDataIsCalledWithOAuthAndRetry_thenNoVirtualThreadIsPinned() throws Exception {
+        stubForOAuth();
+        wiremock.stubFor(get(urlEqualTo("/hardship/" + HARDSHIP_ID))
+                .inScenario("retry")
+                .whenScenarioStateIs(STARTED)
+                .willReturn(WireMock.serviceUnavailable())
+                .willSetStateTo("recovered"));
+        wiremock.stubFor(get(urlEqualTo("/hardship/" + HARDSHIP_ID))
+                .inScenario("retry")
+                .whenScenarioStateIs("recovered")
+                .willReturn(WireMock.ok()
+                        .withFixedDelay(100)
+                        .withHeader("Content-Type", String.valueOf(APPLICATION_JSON))
+                        .withBody(objectMapper.writeValueAsString(TestModelDataBuilder.getApiFindHardshipResponse()))));
+
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> {
+                if (event.getThread() != null && event.getThread().getJavaName().startsWith(THREAD_PREFIX)) {
+                    pinned.add(event);
+                }
+            });
+            recording.startAsync();
+
+            try (ExecutorService executor =
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_PREFIX, 0).factory())) {
+                List<Future<?>> calls = new CopyOnWriteArrayList<>();
+                for (int i = 0; i < CALLS; i++) {
+                    calls.add(executor.submit(() -> maatCourtDataService.getHardship(HARDSHIP_ID)));
+                }
+                for (Future<?> call : calls) {
+                    call.get(10, TimeUnit.SECONDS);
+                }
+            }
+            recording.stop();
+        }
+
+        assertThat(pinned).isEmpty();
+    }
+
+    private void stubForOAuth() throws Exception {
+        Map<String, Object> token =
+                Map.of("expires_in", 3600, "token_type", "Bearer", "access_token", UUID.randomUUID());
+        wiremock.stubFor(post("/oauth2/token")
+                .willReturn(WireMock.ok()
+                        .withHeader("Content-Type", String.valueOf(APPLICATION_JSON))
+                        .withBody(objectMapper.writeValueAsString(token))));
+    }
+}
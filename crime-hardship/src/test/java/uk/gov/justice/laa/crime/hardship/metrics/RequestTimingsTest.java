@@ -0,0 +1,82 @@
+package uk.gov.justice.laa.crime.hardship.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.context.ContextSnapshotFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.close();
+    }
+
+    @Test
+    void givenNoRecordedStages_whenHeaderIsInvoked_thenOnlyTheTotalIsReturned() {
+        assertThat(RequestTimings.open().header()).matches("total;dur=\\d+\\.\\d{2}");
+    }
+
+    @Test
+    void givenRecordedStages_whenHeaderIsInvoked_thenEachStageIsListedInStageOrder() {
+        RequestTimings timings = RequestTimings.open();
+        timings.add(Stage.CALCULATION, TimeUnit.MICROSECONDS.toNanos(250));
+        timings.add(Stage.VALIDATION, TimeUnit.MILLISECONDS.toNanos(3));
+
+        assertThat(timings.header())
+                .startsWith("validation;dur=3.00, calculation;dur=0.25, total;dur=");
+    }
+
+    @Test
+    void givenRepeatedStage_whenHeaderIsInvoked_thenDurationsAreAddedAndCallsAreCounted() {
+        RequestTimings timings = RequestTimings.open();
+        timings.add(Stage.COURT_DATA_READ, TimeUnit.MILLISECONDS.toNanos(10));
+        timings.add(Stage.COURT_DATA_READ, TimeUnit.MILLISECONDS.toNanos(15));
+
+        assertThat(timings.header()).startsWith("court_data_read;dur=25.00;desc=\"2 calls\", total;dur=");
+    }
+
+    @Test
+    void givenSerializationWasStarted_whenFinishSerializationIsInvoked_thenSerializationIsAddedOnce() {
+        RequestTimings timings = RequestTimings.open();
+        timings.startSerialization();
+
+        timings.finishSerialization();
+        timings.finishSerialization();
+
+        assertThat(timings.header()).startsWith("serialization;dur=").doesNotContain("calls");
+    }
+
+    @Test
+    void givenSerializationWasNotStarted_whenFinishSerializationIsInvoked_thenNothingIsAdded() {
+        RequestTimings timings = RequestTimings.open();
+
+        timings.finishSerialization();
+
+        assertThat(timings.header()).startsWith("total;dur=");
+    }
+
+    @Test
+    void givenOpenTimings_whenContextIsCapturedOntoAnotherThread_thenTheSameTimingsAreCurrent() throws Exception {
+        RequestTimings timings = RequestTimings.open();
+        Runnable task = ContextSnapshotFactory.builder().build().captureAll()
+                .wrap(() -> RequestTimings.current().orElseThrow().add(Stage.MAPPING, 1_000));
+
+        Thread thread = Thread.ofVirtual().start(task);
+        thread.join();
+
+        assertThat(timings.header()).startsWith("mapping;dur=0.00, total;dur=");
+    }
+
+    @Test
+    void givenClosedTimings_whenCurrentIsInvoked_thenEmptyIsReturned() {
+        RequestTimings.open();
+        RequestTimings.close();
+
+        assertThat(RequestTimings.current()).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package uk.gov.justice.laa.crime.hardship.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StageMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StageMetrics stageMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stageMetrics = new StageMetrics(meterRegistry);
+    }
+
+    @Test
+    void givenNewStageMetrics_whenCreated_thenATimerIsRegisteredForEveryStageAndOutcome() {
+        assertThat(meterRegistry.find(StageMetrics.STAGE_METRIC).timers()).hasSize(Stage.values().length * 2);
+    }
+
+    @Test
+    void givenWork_whenRecorded_thenResultIsReturnedAndSuccessIsTimed() {
+        String result = stageMetrics.record(Stage.CALCULATION, () -> "result");
+
+        assertThat(result).isEqualTo("result");
+        assertThat(timer(Stage.CALCULATION, "success").count()).isEqualTo(1);
+        assertThat(timer(Stage.CALCULATION, "error").count()).isZero();
+    }
+
+    @Test
+    void givenFailingWork_whenRecorded_thenExceptionIsRethrownAndErrorIsTimed() {
+        IllegalStateException failure = new IllegalStateException("failed");
+
+        assertThatThrownBy(() -> stageMetrics.record(Stage.VALIDATION, () -> {
+                    throw failure;
+                }))
+                .isSameAs(failure);
+        assertThat(timer(Stage.VALIDATION, "error").count()).isEqualTo(1);
+        assertThat(timer(Stage.VALIDATION, "success").count()).isZero();
+    }
+
+    @Test
+    void givenOpenRequestTimings_whenRecorded_thenStageIsAddedToTheRequestTimings() {
+        RequestTimings timings = RequestTimings.open();
+        try {
+            stageMetrics.record(Stage.MAPPING, () -> {});
+            stageMetrics.record(Stage.MAPPING, () -> {});
+        } finally {
+            RequestTimings.close();
+        }
+
+        assertThat(timings.header()).startsWith("mapping;dur=").contains("desc=\"2 calls\"");
+    }
+
+    @Test
+    void givenStageTimer_whenSnapshotTaken_thenServiceLevelObjectivesAreBuckets() {
+        stageMetrics.record(Stage.COURT_DATA_READ, () -> {});
+
+        double[] buckets = Arrays.stream(
+                        timer(Stage.COURT_DATA_READ, "success").takeSnapshot().histogramCounts())
+                .mapToDouble(bucket -> bucket.bucket(TimeUnit.MILLISECONDS))
+                .toArray();
+        assertThat(buckets).contains(5, 50, 250, 1000, 2500);
+    }
+
+    private Timer timer(Stage stage, String outcome) {
+        return meterRegistry
+                .get(StageMetrics.STAGE_METRIC)
+                .tag("stage", stage.getTag())
+                .tag("outcome", outcome)
+                .timer();
+    }
+}
@@ -0,0 +1,154 @@
+package uk.gov.justice.laa.crime.hardship.oauth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.justice.laa.crime.hardship.config.TokenRefreshConfiguration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+@ExtendWith(MockitoExtension.class)
+class ClientCredentialsTokenManagerTest {
+
+    private static final String REGISTRATION_ID = "maat-api";
+    private static final Instant NOW = Instant.parse("2024-04-01T10:00:00Z");
+
+    @Mock
+    private OAuth2AuthorizedClientManager authorizedClientManager;
+
+    @Mock
+    private OAuth2AuthorizedClientService authorizedClientService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRefreshConfiguration configuration;
+    private ClientCredentialsTokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        configuration = new TokenRefreshConfiguration();
+        tokenManager = new ClientCredentialsTokenManager(
+                authorizedClientManager,
+                authorizedClientService,
+                configuration,
+                List.of(REGISTRATION_ID),
+                meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void givenNoHeldToken_whenGetTokenIsInvoked_thenTokenIsFetchedOnceAndHeld() {
+        OAuth2AccessToken token = token("first", Duration.ofHours(1));
+        when(authorizedClientManager.authorize(any(OAuth2AuthorizeRequest.class))).thenReturn(authorizedClient(token));
+
+        assertThat(tokenManager.getToken(REGISTRATION_ID)).isEqualTo(token);
+        assertThat(tokenManager.getToken(REGISTRATION_ID)).isEqualTo(token);
+
+        verify(authorizedClientManager, times(1)).authorize(any(OAuth2AuthorizeRequest.class));
+        assertThat(fetches("success")).isEqualTo(1);
+        assertThat(meterRegistry.get("hardship.oauth.token.expiry").gauge().value()).isEqualTo(3600);
+    }
+
+    @Test
+    void givenBackgroundRefresh_whenRefreshIsInvoked_thenStoredClientIsDroppedAndNewTokenIsHeld() {
+        OAuth2AccessToken token = token("refreshed", Duration.ofHours(1));
+        when(authorizedClientManager.authorize(any(OAuth2AuthorizeRequest.class))).thenReturn(authorizedClient(token));
+
+        tokenManager.refresh(REGISTRATION_ID);
+
+        verify(authorizedClientService)
+                .removeAuthorizedClient(REGISTRATION_ID, ClientCredentialsTokenManager.PRINCIPAL);
+        assertThat(tokenManager.currentToken(REGISTRATION_ID)).contains(token);
+    }
+
+    @Test
+    void givenTokenEndpointFailure_whenRefreshIsInvoked_thenFailureIsRecordedAndNoTokenIsHeld() {
+        when(authorizedClientManager.authorize(any(OAuth2AuthorizeRequest.class)))
+                .thenThrow(new IllegalStateException("Token endpoint unavailable"));
+
+        tokenManager.refresh(REGISTRATION_ID);
+
+        assertThat(tokenManager.currentToken(REGISTRATION_ID)).isEmpty();
+        assertThat(fetches("failure")).isEqualTo(1);
+    }
+
+    @Test
+    void givenNoTokenIssued_whenGetTokenIsInvoked_thenExceptionIsThrown() {
+        assertThatThrownBy(() -> tokenManager.getToken(REGISTRATION_ID)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void givenTokenCloseToExpiry_whenCurrentTokenIsInvoked_thenNoTokenIsReturned() {
+        when(authorizedClientManager.authorize(any(OAuth2AuthorizeRequest.class)))
+                .thenReturn(authorizedClient(token("expiring", Duration.ofSeconds(2))));
+
+        tokenManager.refresh(REGISTRATION_ID);
+
+        assertThat(tokenManager.currentToken(REGISTRATION_ID)).isEmpty();
+    }
+
+    @Test
+    void givenRejectedToken_whenInvalidateIsInvoked_thenTokenIsNoLongerHeld() {
+        OAuth2AccessToken token = token("rejected", Duration.ofHours(1));
+        when(authorizedClientManager.authorize(any(OAuth2AuthorizeRequest.class))).thenReturn(authorizedClient(token));
+        tokenManager.getToken(REGISTRATION_ID);
+
+        tokenManager.invalidate(REGISTRATION_ID, token);
+
+        assertThat(tokenManager.currentToken(REGISTRATION_ID)).isEmpty();
+    }
+
+    @Test
+    void givenTokenLifetime_whenRefreshDelayIsInvoked_thenTokenIsReplacedAheadOfExpiry() {
+        assertThat(tokenManager.refreshDelay(token("long", Duration.ofHours(1)), NOW))
+                .isEqualTo(Duration.ofMinutes(59));
+        assertThat(tokenManager.refreshDelay(token("short", Duration.ofSeconds(60)), NOW))
+                .isEqualTo(Duration.ofSeconds(30));
+        assertThat(tokenManager.refreshDelay(token("expired", Duration.ofSeconds(-1)), NOW))
+                .isEqualTo(Duration.ZERO);
+    }
+
+    private double fetches(String result) {
+        return meterRegistry
+                .get("hardship.oauth.token.fetch")
+                .tag("result", result)
+                .timer()
+                .count();
+    }
+
+    private static OAuth2AccessToken token(String value, Duration lifetime) {
+        return new OAuth2AccessToken(
+                OAuth2AccessToken.TokenType.BEARER, value, NOW.minus(Duration.ofHours(1)), NOW.plus(lifetime));
+    }
+
+    private static OAuth2AuthorizedClient authorizedClient(OAuth2AccessToken token) {
+        ClientRegistration registration = ClientRegistration.withRegistrationId(REGISTRATION_ID)
+                .clientId("client")
+                .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                .tokenUri("http://localhost/oauth2/token")
+                .build();
+        return new OAuth2AuthorizedClient(registration, ClientCredentialsTokenManager.PRINCIPAL, token);
+    }
+}
@@ -0,0 +1,134 @@
+package uk.gov.justice.laa.crime.hardship.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipRequest;
+import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
+import uk.gov.justice.laa.crime.enums.HardshipReviewResult;
+import uk.gov.justice.laa.crime.exception.ValidationException;
+import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.hardship.dto.CalculateHardshipBatchResult;
+import uk.gov.justice.laa.crime.hardship.tracing.TraceIdHandler;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@ExtendWith(MockitoExtension.class)
+class BatchHardshipCalculationServiceTest {
+
+    private static final LocalDateTime APRIL = LocalDateTime.of(2024, 4, 1, 9, 0);
+    private static final LocalDateTime MAY = LocalDateTime.of(2024, 5, 1, 9, 0);
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private TraceIdHandler traceIdHandler;
+
+    @Mock
+    private CrimeMeansAssessmentService crimeMeansAssessmentService;
+
+    @Mock
+    private HardshipCalculationService hardshipCalculationService;
+
+    private BatchHardshipCalculationService batchHardshipCalculationService;
+
+    @BeforeEach
+    void setUp() {
+        batchHardshipCalculationService = new BatchHardshipCalculationService(
+                validator, traceIdHandler, crimeMeansAssessmentService, hardshipCalculationService);
+    }
+
+    @Test
+    void givenItemsSharingReviewDates_whenCalculateHardshipIsInvoked_thenEachThresholdIsFetchedOnce() {
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(any(LocalDate.class)))
+                .thenReturn(TestModelDataBuilder.FULL_THRESHOLD);
+        when(hardshipCalculationService.calculateHardship(any(HardshipReview.class), any()))
+                .thenReturn(TestModelDataBuilder.getHardshipResult(HardshipReviewResult.PASS));
+
+        List<CalculateHardshipBatchResult> results = batchHardshipCalculationService.calculateHardship(
+                List.of(request(APRIL), request(MAY), request(APRIL.plusHours(3)), request(MAY)));
+
+        assertThat(results).hasSize(4).allSatisfy(result -> {
+            assertThat(result.getError()).isNull();
+            assertThat(result.getResult().getPostHardshipDisposableIncome())
+                    .isEqualTo(TestModelDataBuilder.POST_HARDSHIP_DISPOSABLE_INCOME);
+        });
+        verify(crimeMeansAssessmentService, times(1)).getFullAssessmentThreshold(APRIL.toLocalDate());
+        verify(crimeMeansAssessmentService, times(1)).getFullAssessmentThreshold(MAY.toLocalDate());
+    }
+
+    @Test
+    void givenAnInvalidItem_whenCalculateHardshipIsInvoked_thenOnlyThatItemHasAnError() {
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(any(LocalDate.class)))
+                .thenReturn(TestModelDataBuilder.FULL_THRESHOLD);
+        when(hardshipCalculationService.calculateHardship(any(HardshipReview.class), any()))
+                .thenReturn(TestModelDataBuilder.getHardshipResult(HardshipReviewResult.PASS));
+
+        List<CalculateHardshipBatchResult> results = batchHardshipCalculationService.calculateHardship(
+                List.of(request(APRIL), request(null), request(APRIL)));
+
+        assertThat(results.get(0).getResult()).isNotNull();
+        assertThat(results.get(1).getResult()).isNull();
+        assertThat(results.get(1).getError().getCode()).isEqualTo(HttpStatus.BAD_REQUEST.toString());
+        assertThat(results.get(1).getError().getMessage()).contains("hardship.reviewDate");
+        assertThat(results.get(2).getResult()).isNotNull();
+    }
+
+    @Test
+    void givenThresholdLookupFailsForOneDate_whenCalculateHardshipIsInvoked_thenOnlyItemsForThatDateFail() {
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(APRIL.toLocalDate()))
+                .thenReturn(TestModelDataBuilder.FULL_THRESHOLD);
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(MAY.toLocalDate()))
+                .thenThrow(WebClientResponseException.create(
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Service Unavailable",
+                        new HttpHeaders(),
+                        new byte[0],
+                        null));
+        when(hardshipCalculationService.calculateHardship(
+                        any(HardshipReview.class), eq(TestModelDataBuilder.FULL_THRESHOLD)))
+                .thenReturn(TestModelDataBuilder.getHardshipResult(HardshipReviewResult.PASS));
+
+        List<CalculateHardshipBatchResult> results = batchHardshipCalculationService.calculateHardship(
+                List.of(request(MAY), request(APRIL), request(MAY)));
+
+        assertThat(results.get(0).getError().getCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.toString());
+        assertThat(results.get(1).getResult().getReviewResult()).isEqualTo(HardshipReviewResult.PASS);
+        assertThat(results.get(2).getError().getCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.toString());
+    }
+
+    @Test
+    void givenTooManyItems_whenCalculateHardshipIsInvoked_thenValidationExceptionIsThrown() {
+        List<ApiCalculateHardshipRequest> requests = new ArrayList<>(
+                Collections.nCopies(BatchHardshipCalculationService.MAX_BATCH_SIZE + 1, request(APRIL)));
+
+        assertThatThrownBy(() -> batchHardshipCalculationService.calculateHardship(requests))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    private static ApiCalculateHardshipRequest request(LocalDateTime reviewDate) {
+        ApiCalculateHardshipRequest request = TestModelDataBuilder.getApiCalculateHardshipRequest();
+        request.getHardship().setReviewDate(reviewDate);
+        return request;
+    }
+}
@@ -0,0 +1,114 @@
+package uk.gov.justice.laa.crime.hardship.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.laa.crime.enums.HardshipReviewDetailType.EXPENDITURE;
+import static uk.gov.justice.laa.crime.enums.HardshipReviewDetailType.INCOME;
+
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailRequest;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailResponse;
+import uk.gov.justice.laa.crime.hardship.config.ServicesConfiguration;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipDetailSummaries;
+import uk.gov.justice.laa.crime.hardship.tracing.TraceIdHandler;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@ExtendWith(MockitoExtension.class)
+class BulkHardshipCalculationServiceTest {
+
+    private static final int CONCURRENCY = 3;
+
+    @Mock
+    private HardshipCalculationService hardshipCalculationService;
+
+    @Mock
+    private TraceIdHandler traceIdHandler;
+
+    private BulkHardshipCalculationService bulkHardshipCalculationService;
+
+    @BeforeEach
+    void setUp() {
+        ServicesConfiguration servicesConfiguration = new ServicesConfiguration();
+        servicesConfiguration.setMaatApi(new ServicesConfiguration.MaatApi());
+        servicesConfiguration.getMaatApi().setBulkConcurrency(CONCURRENCY);
+        bulkHardshipCalculationService =
+                new BulkHardshipCalculationService(hardshipCalculationService, traceIdHandler, servicesConfiguration);
+    }
+
+    @Test
+    void givenRepeatedPairs_whenCalculateHardshipForDetailsIsInvoked_thenEachPairIsCalculatedOnce() {
+        when(hardshipCalculationService.calculateHardshipForDetail(anyInt(), any()))
+                .thenReturn(new ApiCalculateHardshipByDetailResponse().withHardshipSummary(BigDecimal.TEN));
+
+        HardshipDetailSummaries response = bulkHardshipCalculationService.calculateHardshipForDetails(List.of(
+                request(1, EXPENDITURE.getType()), request(1, INCOME.getType()), request(1, EXPENDITURE.getType())));
+
+        assertThat(response.getSummaries().get(1))
+                .containsEntry(EXPENDITURE.getType(), BigDecimal.TEN)
+                .containsEntry(INCOME.getType(), BigDecimal.TEN);
+        assertThat(response.getErrors()).isEmpty();
+        verify(hardshipCalculationService, times(1)).calculateHardshipForDetail(1, EXPENDITURE);
+        verify(hardshipCalculationService, times(1)).calculateHardshipForDetail(1, INCOME);
+    }
+
+    @Test
+    void givenManyPairs_whenCalculateHardshipForDetailsIsInvoked_thenConcurrencyIsBounded() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(hardshipCalculationService.calculateHardshipForDetail(anyInt(), any()))
+                .thenAnswer(invocation -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    inFlight.decrementAndGet();
+                    return new ApiCalculateHardshipByDetailResponse().withHardshipSummary(BigDecimal.ONE);
+                });
+        List<ApiCalculateHardshipByDetailRequest> requests = new ArrayList<>();
+        for (int repId = 0; repId < 30; repId++) {
+            requests.add(request(repId, EXPENDITURE.getType()));
+        }
+
+        HardshipDetailSummaries response = bulkHardshipCalculationService.calculateHardshipForDetails(requests);
+
+        assertThat(response.getSummaries()).hasSize(30);
+        assertThat(maxInFlight.get()).isBetween(1, CONCURRENCY);
+    }
+
+    @Test
+    void givenFailingPair_whenCalculateHardshipForDetailsIsInvoked_thenOnlyThatPairIsReportedAsAnError() {
+        when(hardshipCalculationService.calculateHardshipForDetail(eq(1), any()))
+                .thenReturn(new ApiCalculateHardshipByDetailResponse().withHardshipSummary(BigDecimal.TEN));
+        when(hardshipCalculationService.calculateHardshipForDetail(eq(2), any()))
+                .thenThrow(WebClientResponseException.create(
+                        HttpStatus.NOT_FOUND.value(), "Not Found", new HttpHeaders(), new byte[0], null));
+
+        HardshipDetailSummaries response = bulkHardshipCalculationService.calculateHardshipForDetails(List.of(
+                request(1, EXPENDITURE.getType()), request(2, EXPENDITURE.getType()), request(3, "UNKNOWN")));
+
+        assertThat(response.getSummaries()).containsOnlyKeys(1);
+        assertThat(response.getErrors().get(2).get(EXPENDITURE.getType()).getCode())
+                .isEqualTo(HttpStatus.NOT_FOUND.toString());
+        assertThat(response.getErrors().get(3).get("UNKNOWN").getCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST.toString());
+    }
+
+    private static ApiCalculateHardshipByDetailRequest request(int repId, String detailType) {
+        return new ApiCalculateHardshipByDetailRequest().withRepId(repId).withDetailType(detailType);
+    }
+}
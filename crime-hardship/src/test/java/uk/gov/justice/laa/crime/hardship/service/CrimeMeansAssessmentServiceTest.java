@@ -1,32 +1,197 @@
 package uk.gov.justice.laa.crime.hardship.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.justice.laa.crime.hardship.cache.FullAssessmentThresholdStore;
 import uk.gov.justice.laa.crime.hardship.client.MeansAssessmentApiClient;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
 import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 @ExtendWith(MockitoExtension.class)
 class CrimeMeansAssessmentServiceTest {
+
+    private static final LocalDate APRIL = LocalDate.of(2024, 4, 1);
+    private static final LocalDate MAY = LocalDate.of(2024, 5, 1);
+    private static final LocalDate JUNE = LocalDate.of(2024, 6, 1);
+
     @Mock
     private MeansAssessmentApiClient cmaApiClient;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+    private CachingConfiguration cachingConfiguration;
     private CrimeMeansAssessmentService crimeMeansAssessmentService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingConfiguration = new CachingConfiguration();
+        crimeMeansAssessmentService = newService();
+    }
+
     @Test
     void givenAValidAssessmentDate_whenGetFullAssessmentThresholdIsInvoked_thenResponseIsReturned() {
         when(cmaApiClient.find(anyString())).thenReturn(BigDecimal.TEN);
         assertThat(crimeMeansAssessmentService.getFullAssessmentThreshold(TestModelDataBuilder.ASSESSMENT_DATE))
                 .isEqualTo(BigDecimal.TEN);
     }
+
+    @Test
+    void givenCachedThreshold_whenGetFullAssessmentThresholdIsInvokedForSameDay_thenCmaIsCalledOnce() {
+        when(cmaApiClient.find("2022-12-14")).thenReturn(BigDecimal.TEN);
+
+        crimeMeansAssessmentService.getFullAssessmentThreshold(TestModelDataBuilder.ASSESSMENT_DATE);
+        BigDecimal threshold = crimeMeansAssessmentService.getFullAssessmentThreshold(
+                TestModelDataBuilder.ASSESSMENT_DATE.plusHours(10));
+
+        assertThat(threshold).isEqualTo(BigDecimal.TEN);
+        verify(cmaApiClient, times(1)).find(anyString());
+        assertThat(cacheRequests("hit")).isEqualTo(1);
+        assertThat(cacheRequests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void givenSameThresholdOnConsecutiveDates_whenGetFullAssessmentThresholdIsInvokedAgain_thenIntervalIsServed() {
+        when(cmaApiClient.find("2024-04-30")).thenReturn(BigDecimal.TEN);
+        when(cmaApiClient.find("2024-05-01")).thenReturn(BigDecimal.TEN);
+
+        crimeMeansAssessmentService.getFullAssessmentThreshold(MAY.minusDays(1));
+        crimeMeansAssessmentService.getFullAssessmentThreshold(MAY);
+
+        assertThat(crimeMeansAssessmentService.getFullAssessmentThreshold(MAY.minusDays(1)))
+                .isEqualTo(BigDecimal.TEN);
+        verify(cmaApiClient, times(2)).find(anyString());
+    }
+
+    @Test
+    void givenSameThresholdOnTwoDates_whenGetFullAssessmentThresholdIsInvokedInBetween_thenCmaIsCalled() {
+        when(cmaApiClient.find("2024-04-01")).thenReturn(BigDecimal.TEN);
+        when(cmaApiClient.find("2024-05-01")).thenReturn(BigDecimal.ONE);
+        when(cmaApiClient.find("2024-06-01")).thenReturn(BigDecimal.TEN);
+
+        crimeMeansAssessmentService.getFullAssessmentThreshold(APRIL);
+        crimeMeansAssessmentService.getFullAssessmentThreshold(JUNE);
+
+        assertThat(crimeMeansAssessmentService.getFullAssessmentThreshold(MAY)).isEqualTo(BigDecimal.ONE);
+        verify(cmaApiClient, times(3)).find(anyString());
+    }
+
+    @Test
+    void givenStaleThresholdAndCmaUnavailable_whenGetFullAssessmentThresholdIsInvoked_thenLastKnownValueIsServed() {
+        cachingConfiguration.getThreshold().setTimeToLive(Duration.ZERO);
+        crimeMeansAssessmentService = newService();
+        when(cmaApiClient.find(anyString()))
+                .thenReturn(BigDecimal.TEN)
+                .thenThrow(WebClientResponseException.create(
+                        HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", new HttpHeaders(), new byte[0], null));
+
+        crimeMeansAssessmentService.getFullAssessmentThreshold(APRIL);
+
+        assertThat(crimeMeansAssessmentService.getFullAssessmentThreshold(APRIL))
+                .isEqualTo(BigDecimal.TEN);
+        assertThat(cacheRequests("stale")).isEqualTo(1);
+    }
+
+    @Test
+    void givenUnknownDateAndCmaUnavailable_whenGetFullAssessmentThresholdIsInvoked_thenEarlierThresholdIsServed() {
+        WebClientRequestException connectionRefused = new WebClientRequestException(
+                new IllegalStateException("Connection refused"),
+                HttpMethod.GET,
+                URI.create("http://cma"),
+                new HttpHeaders());
+        when(cmaApiClient.find("2024-04-01")).thenReturn(BigDecimal.TEN);
+        when(cmaApiClient.find("2024-05-01")).thenThrow(connectionRefused);
+
+        crimeMeansAssessmentService.getFullAssessmentThreshold(APRIL);
+
+        assertThat(crimeMeansAssessmentService.getFullAssessmentThreshold(MAY)).isEqualTo(BigDecimal.TEN);
+    }
+
+    @Test
+    void givenNoKnownThresholdAndCmaUnavailable_whenGetFullAssessmentThresholdIsInvoked_thenExceptionIsThrown() {
+        when(cmaApiClient.find(anyString()))
+                .thenThrow(WebClientResponseException.create(
+                        HttpStatus.BAD_GATEWAY.value(), "Bad Gateway", new HttpHeaders(), new byte[0], null));
+
+        assertThatThrownBy(() -> crimeMeansAssessmentService.getFullAssessmentThreshold(APRIL))
+                .isInstanceOf(WebClientResponseException.class);
+    }
+
+    @Test
+    void givenConcurrentMisses_whenGetFullAssessmentThresholdIsInvoked_thenCmaIsCalledOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(cmaApiClient.find(anyString())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return BigDecimal.TEN;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<BigDecimal>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> crimeMeansAssessmentService.getFullAssessmentThreshold(APRIL)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<BigDecimal> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(BigDecimal.TEN);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(cmaApiClient, times(1)).find(anyString());
+    }
+
+    @Test
+    void givenCachingDisabled_whenGetFullAssessmentThresholdIsInvoked_thenCmaIsAlwaysCalled() {
+        cachingConfiguration.getThreshold().setEnabled(false);
+        crimeMeansAssessmentService = newService();
+        when(cmaApiClient.find(anyString())).thenReturn(BigDecimal.TEN);
+
+        crimeMeansAssessmentService.getFullAssessmentThreshold(APRIL);
+        crimeMeansAssessmentService.getFullAssessmentThreshold(APRIL);
+
+        verify(cmaApiClient, times(2)).find(anyString());
+    }
+
+    private CrimeMeansAssessmentService newService() {
+        return new CrimeMeansAssessmentService(
+                cmaApiClient, new FullAssessmentThresholdStore(), cachingConfiguration, meterRegistry);
+    }
+
+    private double cacheRequests(String result) {
+        return meterRegistry
+                .get("hardship.threshold.cache.requests")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
 }
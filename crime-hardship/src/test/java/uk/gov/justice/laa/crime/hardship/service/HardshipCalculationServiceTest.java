@@ -10,12 +10,17 @@ import static uk.gov.justice.laa.crime.enums.HardshipReviewDetailType.SOL_COSTS;
 import static uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder.FULL_THRESHOLD;
 import static uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder.TEST_SOLICITOR_ESTIMATED_COST;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailRequest;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailResponse;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiHardshipDetail;
 import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
 import uk.gov.justice.laa.crime.enums.HardshipReviewDetailType;
 import uk.gov.justice.laa.crime.enums.HardshipReviewResult;
+import uk.gov.justice.laa.crime.hardship.cache.HardshipDetailCache;
+import uk.gov.justice.laa.crime.hardship.calculation.BigDecimalCalculationEngine;
+import uk.gov.justice.laa.crime.hardship.calculation.HardshipCalculationEngine;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
 import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.hardship.dto.HardshipResult;
 import uk.gov.justice.laa.crime.hardship.mapper.HardshipDetailMapper;
@@ -51,6 +56,13 @@ class HardshipCalculationServiceTest {
     @Spy
     private HardshipDetailMapper detailMapper = new HardshipDetailMapper();
 
+    @Spy
+    private HardshipDetailCache hardshipDetailCache =
+            new HardshipDetailCache(new CachingConfiguration(), new SimpleMeterRegistry());
+
+    @Spy
+    private HardshipCalculationEngine calculationEngine = new BigDecimalCalculationEngine();
+
     @Test
     void givenExpenditureType_whenCalculateHardshipForDetailIsInvoked_thenCorrectTotalIsCalculated() {
         ApiCalculateHardshipByDetailRequest request =
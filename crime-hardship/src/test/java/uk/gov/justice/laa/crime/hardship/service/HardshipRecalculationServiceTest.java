@@ -0,0 +1,177 @@
+package uk.gov.justice.laa.crime.hardship.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
+import uk.gov.justice.laa.crime.enums.HardshipReviewResult;
+import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipRecalculationRequest;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipRecalculationResult;
+import uk.gov.justice.laa.crime.hardship.tracing.TraceIdHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+@ExtendWith(MockitoExtension.class)
+class HardshipRecalculationServiceTest {
+
+    private static final LocalDate THRESHOLD_DATE = LocalDate.of(2024, 4, 1);
+
+    private final ObjectMapper objectMapper =
+            new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Mock
+    private TraceIdHandler traceIdHandler;
+
+    @Mock
+    private CrimeMeansAssessmentService crimeMeansAssessmentService;
+
+    @Mock
+    private HardshipCalculationService hardshipCalculationService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HardshipRecalculationService hardshipRecalculationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hardshipRecalculationService = new HardshipRecalculationService(
+                objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                traceIdHandler,
+                crimeMeansAssessmentService,
+                hardshipCalculationService,
+                meterRegistry);
+    }
+
+    @Test
+    void givenStreamOfReviews_whenRecalculateIsInvoked_thenAResultIsWrittenPerLineInOrder() throws IOException {
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(THRESHOLD_DATE))
+                .thenReturn(TestModelDataBuilder.FULL_THRESHOLD);
+        when(hardshipCalculationService.calculateHardship(any(HardshipReview.class), any()))
+                .thenReturn(TestModelDataBuilder.getHardshipResult(HardshipReviewResult.PASS));
+
+        List<HardshipRecalculationResult> results =
+                recalculate(line(request("a")) + line(request("b")) + line(request("c")));
+
+        assertThat(results).extracting(HardshipRecalculationResult::getReference).containsExactly("a", "b", "c");
+        assertThat(results).extracting(HardshipRecalculationResult::getLine).containsExactly(1L, 2L, 3L);
+        assertThat(results)
+                .allSatisfy(result -> assertThat(result.getResult().getPostHardshipDisposableIncome())
+                        .isEqualTo(TestModelDataBuilder.POST_HARDSHIP_DISPOSABLE_INCOME));
+        verify(crimeMeansAssessmentService, times(1)).getFullAssessmentThreshold(THRESHOLD_DATE);
+        assertThat(items("calculated")).isEqualTo(3);
+    }
+
+    @Test
+    void givenAnInvalidLine_whenRecalculateIsInvoked_thenItIsReportedAndTheStreamContinues() throws IOException {
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(THRESHOLD_DATE))
+                .thenReturn(TestModelDataBuilder.FULL_THRESHOLD);
+        when(hardshipCalculationService.calculateHardship(any(HardshipReview.class), any()))
+                .thenReturn(TestModelDataBuilder.getHardshipResult(HardshipReviewResult.PASS));
+        HardshipRecalculationRequest invalid = HardshipRecalculationRequest.builder()
+                .reference("invalid")
+                .build();
+
+        List<HardshipRecalculationResult> results =
+                recalculate(line(request("a")) + line(invalid) + line(request("c")));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(1).getReference()).isEqualTo("invalid");
+        assertThat(results.get(1).getError().getCode()).isEqualTo(HttpStatus.BAD_REQUEST.toString());
+        assertThat(results.get(2).getResult()).isNotNull();
+        assertThat(items("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void givenCmaUnavailable_whenRecalculateIsInvoked_thenTheFailedLookupIsReusedForTheSameDate()
+            throws IOException {
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(THRESHOLD_DATE))
+                .thenThrow(WebClientResponseException.create(
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Service Unavailable",
+                        new HttpHeaders(),
+                        new byte[0],
+                        null));
+
+        List<HardshipRecalculationResult> results =
+                recalculate(line(request("a")) + line(request("b")) + line(request("c")));
+
+        assertThat(results)
+                .extracting(result -> result.getError().getCode())
+                .containsOnly(HttpStatus.SERVICE_UNAVAILABLE.toString());
+        verify(crimeMeansAssessmentService, times(1)).getFullAssessmentThreshold(THRESHOLD_DATE);
+        assertThat(items("failed")).isEqualTo(3);
+    }
+
+    @Test
+    void givenMalformedLine_whenRecalculateIsInvoked_thenTheStreamEndsWithAnError() throws IOException {
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(THRESHOLD_DATE))
+                .thenReturn(TestModelDataBuilder.FULL_THRESHOLD);
+        when(hardshipCalculationService.calculateHardship(any(HardshipReview.class), any()))
+                .thenReturn(TestModelDataBuilder.getHardshipResult(HardshipReviewResult.PASS));
+
+        List<HardshipRecalculationResult> results =
+                recalculate(line(request("a")) + "{\"reference\": \n" + line(request("c")));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getResult()).isNotNull();
+        assertThat(results.get(1).getLine()).isEqualTo(2);
+        assertThat(results.get(1).getError().getCode()).isEqualTo(HttpStatus.BAD_REQUEST.toString());
+    }
+
+    private List<HardshipRecalculationResult> recalculate(String ndjson) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        hardshipRecalculationService.recalculate(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), output);
+
+        List<HardshipRecalculationResult> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readValue(line, HardshipRecalculationResult.class));
+        }
+        return results;
+    }
+
+    private String line(HardshipRecalculationRequest request) throws IOException {
+        return objectMapper.writeValueAsString(request) + "\n";
+    }
+
+    private static HardshipRecalculationRequest request(String reference) {
+        return HardshipRecalculationRequest.builder()
+                .reference(reference)
+                .hardship(TestModelDataBuilder.getHardshipReview())
+                .thresholdDate(THRESHOLD_DATE)
+                .build();
+    }
+
+    private double items(String outcome) {
+        return meterRegistry
+                .get("hardship.recalculation.items")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
@@ -4,21 +4,28 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiFindHardshipResponse;
 import uk.gov.justice.laa.crime.common.model.hardship.HardshipReview;
 import uk.gov.justice.laa.crime.common.model.hardship.maat_api.ApiPersistHardshipRequest;
 import uk.gov.justice.laa.crime.enums.HardshipReviewResult;
 import uk.gov.justice.laa.crime.enums.HardshipReviewStatus;
 import uk.gov.justice.laa.crime.enums.RequestType;
+import uk.gov.justice.laa.crime.hardship.cache.HardshipDetailCache;
+import uk.gov.justice.laa.crime.hardship.cache.HardshipResponseCache;
+import uk.gov.justice.laa.crime.hardship.cache.SerializedHardship;
 import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
 import uk.gov.justice.laa.crime.hardship.dto.HardshipResult;
 import uk.gov.justice.laa.crime.hardship.dto.HardshipReviewDTO;
 import uk.gov.justice.laa.crime.hardship.mapper.PersistHardshipMapper;
+import uk.gov.justice.laa.crime.hardship.metrics.StageMetrics;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -50,6 +57,15 @@ class HardshipServiceTest {
     @Mock
     private CrimeMeansAssessmentService crimeMeansAssessmentService;
 
+    @Mock
+    private HardshipDetailCache hardshipDetailCache;
+
+    @Mock
+    private HardshipResponseCache hardshipResponseCache;
+
+    @Spy
+    private StageMetrics stageMetrics = new StageMetrics(new SimpleMeterRegistry());
+
     private static final HardshipResult HARDSHIP_RESULT =
             TestModelDataBuilder.getHardshipResult(HardshipReviewResult.PASS);
 
@@ -64,6 +80,7 @@ class HardshipServiceTest {
                 .thenReturn(HARDSHIP_RESULT);
         HardshipReviewDTO result = hardshipService.create(reviewDTO);
         assertResult(result);
+        verify(hardshipDetailCache).invalidateRep(TestModelDataBuilder.TEST_REP_ID);
     }
 
     @Test
@@ -77,6 +94,18 @@ class HardshipServiceTest {
         assertResult(result);
     }
 
+    @Test
+    void givenPreloadedThreshold_whenCreateIsInvoked_thenThresholdIsNotLookedUpAgain() {
+        setUpPersistence();
+        reviewDTO.setFullThreshold(BigDecimal.TEN);
+        when(calculationService.calculateHardship(any(HardshipReview.class), any(BigDecimal.class)))
+                .thenReturn(HARDSHIP_RESULT);
+        HardshipReviewDTO result = hardshipService.create(reviewDTO);
+        assertResult(result);
+        verify(calculationService).calculateHardship(reviewDTO.getHardship(), BigDecimal.TEN);
+        verifyNoInteractions(crimeMeansAssessmentService);
+    }
+
     @Test
     void givenValidHardshipReviewId_whenFindIsInvoked_thenHardshipIsRetrieved() {
         ApiFindHardshipResponse expected = new ApiFindHardshipResponse();
@@ -87,6 +116,24 @@ class HardshipServiceTest {
         assertThat(apiFindHardshipResponse.getId()).isEqualTo(expected.getId());
     }
 
+    @Test
+    void givenValidHardshipReviewId_whenFindSerializedIsInvoked_thenSourceIsSerializedByTheCache() {
+        byte[] source = "{}".getBytes(StandardCharsets.UTF_8);
+        SerializedHardship expected = new SerializedHardship(source, "\"tag\"", new byte[0]);
+        when(maatCourtDataService.getHardshipBody(TestModelDataBuilder.HARDSHIP_ID)).thenReturn(source);
+        when(hardshipResponseCache.serialize(TestModelDataBuilder.HARDSHIP_ID, source)).thenReturn(expected);
+
+        assertThat(hardshipService.findSerialized(TestModelDataBuilder.HARDSHIP_ID)).isEqualTo(expected);
+    }
+
+    @Test
+    void givenMissingHardshipReview_whenFindSerializedIsInvoked_thenNullIsReturned() {
+        when(maatCourtDataService.getHardshipBody(anyInt())).thenReturn(null);
+
+        assertThat(hardshipService.findSerialized(TestModelDataBuilder.HARDSHIP_ID)).isNull();
+        verifyNoInteractions(hardshipResponseCache);
+    }
+
     @Test
     void givenValidParameters_whenRollbackIsInvoked_thenHardshipStatusIsInProgressAndResultIsNull() {
         Map<String, Object> updateFields = new HashMap<>();
@@ -95,6 +142,7 @@ class HardshipServiceTest {
         doNothing().when(maatCourtDataService).patchHardship(TestModelDataBuilder.HARDSHIP_ID, updateFields);
         hardshipService.rollback(TestModelDataBuilder.HARDSHIP_ID);
         verify(maatCourtDataService).patchHardship(TestModelDataBuilder.HARDSHIP_ID, updateFields);
+        verify(hardshipDetailCache).invalidateHardshipReview(TestModelDataBuilder.HARDSHIP_ID);
     }
 
     private static void assertResult(HardshipReviewDTO result) {
@@ -1,5 +1,6 @@
 package uk.gov.justice.laa.crime.hardship.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -8,17 +9,29 @@ import static uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilde
 import static uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder.HARDSHIP_ID;
 import static uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder.TEST_REP_ID;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiFindHardshipResponse;
 import uk.gov.justice.laa.crime.common.model.hardship.ApiHardshipDetail;
 import uk.gov.justice.laa.crime.common.model.hardship.maat_api.ApiPersistHardshipRequest;
 import uk.gov.justice.laa.crime.enums.RequestType;
+import uk.gov.justice.laa.crime.hardship.cache.RequestFetchContext;
 import uk.gov.justice.laa.crime.hardship.client.MaatCourtDataApiClient;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+import uk.gov.justice.laa.crime.hardship.metrics.StageMetrics;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -28,9 +41,17 @@ class MaatCourtDataServiceTest {
     @Mock
     private MaatCourtDataApiClient maatCourtDataClient;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+    private CachingConfiguration cachingConfiguration;
     private MaatCourtDataService maatCourtDataService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingConfiguration = new CachingConfiguration();
+        maatCourtDataService = newService();
+    }
+
     @Test
     void givenAValidRepId_whenGetHardshipByDetailTypeIsInvoked_thenResponseIsReturned() {
         when(maatCourtDataClient.getHardshipDetails(TEST_REP_ID, DETAIL_TYPE))
@@ -58,4 +79,97 @@ class MaatCourtDataServiceTest {
         maatCourtDataService.getHardship(HARDSHIP_ID);
         verify(maatCourtDataClient, times(1)).getHardship(HARDSHIP_ID);
     }
+
+    @Test
+    void givenOpenFetchContext_whenGetHardshipBodyIsInvokedTwice_thenCourtDataApiIsCalledOnce() {
+        byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+        when(maatCourtDataClient.getHardshipBody(HARDSHIP_ID)).thenReturn(body);
+        RequestFetchContext context = RequestFetchContext.open();
+        try {
+            maatCourtDataService.getHardshipBody(HARDSHIP_ID);
+
+            assertThat(maatCourtDataService.getHardshipBody(HARDSHIP_ID)).isSameAs(body);
+        } finally {
+            RequestFetchContext.close();
+        }
+        verify(maatCourtDataClient, times(1)).getHardshipBody(HARDSHIP_ID);
+        assertThat(context.memoizedReads()).isEqualTo(1);
+    }
+
+    @Test
+    void givenCoalescingEnabled_whenConcurrentGetHardshipIsInvoked_thenCourtDataApiIsCalledOnce() throws Exception {
+        cachingConfiguration.getCourtData().setCoalesceRequests(true);
+        maatCourtDataService = newService();
+        ApiFindHardshipResponse expected = new ApiFindHardshipResponse();
+        CountDownLatch release = new CountDownLatch(1);
+        when(maatCourtDataClient.getHardship(HARDSHIP_ID)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return expected;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ApiFindHardshipResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> maatCourtDataService.getHardship(HARDSHIP_ID)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<ApiFindHardshipResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(maatCourtDataClient, times(1)).getHardship(HARDSHIP_ID);
+        assertThat(meterRegistry
+                        .get("hardship.court-data.requests.coalesced")
+                        .tag("operation", "getHardship")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void givenCoalescingDisabled_whenGetHardshipByDetailTypeIsInvokedTwice_thenCourtDataApiIsCalledTwice() {
+        when(maatCourtDataClient.getHardshipDetails(TEST_REP_ID, DETAIL_TYPE))
+                .thenReturn(List.of(new ApiHardshipDetail()));
+
+        maatCourtDataService.getHardshipByDetailType(TEST_REP_ID, DETAIL_TYPE);
+        maatCourtDataService.getHardshipByDetailType(TEST_REP_ID, DETAIL_TYPE);
+
+        verify(maatCourtDataClient, times(2)).getHardshipDetails(TEST_REP_ID, DETAIL_TYPE);
+    }
+
+    @Test
+    void givenOpenFetchContext_whenGetHardshipIsInvokedTwice_thenCourtDataApiIsCalledOnce() {
+        when(maatCourtDataClient.getHardship(HARDSHIP_ID)).thenReturn(new ApiFindHardshipResponse());
+        RequestFetchContext.open();
+        try {
+            maatCourtDataService.getHardship(HARDSHIP_ID);
+            maatCourtDataService.getHardship(HARDSHIP_ID);
+        } finally {
+            RequestFetchContext.close();
+        }
+        verify(maatCourtDataClient, times(1)).getHardship(HARDSHIP_ID);
+    }
+
+    @Test
+    void givenOpenFetchContext_whenHardshipIsPatchedBetweenReads_thenCourtDataApiIsCalledAgain() {
+        when(maatCourtDataClient.getHardship(HARDSHIP_ID)).thenReturn(new ApiFindHardshipResponse());
+        RequestFetchContext.open();
+        try {
+            maatCourtDataService.getHardship(HARDSHIP_ID);
+            maatCourtDataService.patchHardship(HARDSHIP_ID, Map.of());
+            maatCourtDataService.getHardship(HARDSHIP_ID);
+        } finally {
+            RequestFetchContext.close();
+        }
+        verify(maatCourtDataClient, times(2)).getHardship(HARDSHIP_ID);
+    }
+
+    private MaatCourtDataService newService() {
+        return new MaatCourtDataService(
+                maatCourtDataClient, cachingConfiguration, new StageMetrics(meterRegistry), meterRegistry);
+    }
 }
@@ -0,0 +1,91 @@
+package uk.gov.justice.laa.crime.hardship.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.hardship.cache.FullAssessmentThresholdStore;
+import uk.gov.justice.laa.crime.hardship.client.MeansAssessmentApiClient;
+import uk.gov.justice.laa.crime.hardship.client.ReactiveMeansAssessmentApiClient;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCrimeMeansAssessmentServiceTest {
+
+    private static final LocalDate APRIL = LocalDate.of(2024, 4, 1);
+
+    @Mock
+    private ReactiveMeansAssessmentApiClient reactiveCmaApiClient;
+
+    @Mock
+    private MeansAssessmentApiClient cmaApiClient;
+
+    private FullAssessmentThresholdStore thresholdStore;
+    private ReactiveCrimeMeansAssessmentService reactiveService;
+
+    @BeforeEach
+    void setUp() {
+        thresholdStore = new FullAssessmentThresholdStore();
+        CrimeMeansAssessmentService crimeMeansAssessmentService = new CrimeMeansAssessmentService(
+                cmaApiClient, thresholdStore, new CachingConfiguration(), new SimpleMeterRegistry());
+        reactiveService = new ReactiveCrimeMeansAssessmentService(reactiveCmaApiClient, crimeMeansAssessmentService);
+    }
+
+    @Test
+    void givenFreshCachedThreshold_whenGetFullAssessmentThresholdIsInvoked_thenCmaIsNotCalled() {
+        thresholdStore.put(APRIL, BigDecimal.TEN, Instant.now());
+
+        assertThat(reactiveService.getFullAssessmentThreshold(APRIL).block()).isEqualTo(BigDecimal.TEN);
+        verifyNoInteractions(reactiveCmaApiClient, cmaApiClient);
+    }
+
+    @Test
+    void givenCacheMiss_whenGetFullAssessmentThresholdIsInvoked_thenThresholdIsFetchedAndCached() {
+        when(reactiveCmaApiClient.find("2024-04-01")).thenReturn(Mono.just(BigDecimal.TEN));
+
+        assertThat(reactiveService.getFullAssessmentThreshold(APRIL).block()).isEqualTo(BigDecimal.TEN);
+        assertThat(reactiveService.getFullAssessmentThreshold(APRIL).block()).isEqualTo(BigDecimal.TEN);
+
+        verify(reactiveCmaApiClient, times(1)).find("2024-04-01");
+    }
+
+    @Test
+    void givenStaleThresholdAndCmaUnavailable_whenGetFullAssessmentThresholdIsInvoked_thenStaleThresholdIsServed() {
+        thresholdStore.put(APRIL, BigDecimal.TEN, Instant.now().minus(Duration.ofDays(1)));
+        when(reactiveCmaApiClient.find("2024-04-01")).thenReturn(Mono.error(serviceUnavailable()));
+
+        assertThat(reactiveService.getFullAssessmentThreshold(APRIL).block()).isEqualTo(BigDecimal.TEN);
+    }
+
+    @Test
+    void givenNoKnownThresholdAndCmaUnavailable_whenGetFullAssessmentThresholdIsInvoked_thenErrorIsPropagated() {
+        when(reactiveCmaApiClient.find("2024-04-01")).thenReturn(Mono.error(serviceUnavailable()));
+
+        assertThatThrownBy(() -> reactiveService.getFullAssessmentThreshold(APRIL).block())
+                .isInstanceOf(WebClientResponseException.class);
+    }
+
+    private static WebClientResponseException serviceUnavailable() {
+        return WebClientResponseException.create(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", new HttpHeaders(), new byte[0], null);
+    }
+}
@@ -0,0 +1,160 @@
+package uk.gov.justice.laa.crime.hardship.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiCalculateHardshipByDetailResponse;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiFindHardshipResponse;
+import uk.gov.justice.laa.crime.common.model.hardship.ApiPerformHardshipRequest;
+import uk.gov.justice.laa.crime.common.model.hardship.maat_api.ApiPersistHardshipRequest;
+import uk.gov.justice.laa.crime.enums.HardshipReviewDetailType;
+import uk.gov.justice.laa.crime.enums.HardshipReviewStatus;
+import uk.gov.justice.laa.crime.enums.RequestType;
+import uk.gov.justice.laa.crime.exception.ValidationException;
+import uk.gov.justice.laa.crime.hardship.cache.HardshipDetailCache;
+import uk.gov.justice.laa.crime.hardship.config.CachingConfiguration;
+import uk.gov.justice.laa.crime.hardship.data.builder.TestModelDataBuilder;
+import uk.gov.justice.laa.crime.hardship.dto.HardshipReviewDTO;
+import uk.gov.justice.laa.crime.hardship.mapper.HardshipMapper;
+import uk.gov.justice.laa.crime.hardship.metrics.StageMetrics;
+import uk.gov.justice.laa.crime.hardship.validation.HardshipValidationService;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveHardshipServiceTest {
+
+    @Mock
+    private HardshipService hardshipService;
+
+    @Mock
+    private HardshipCalculationService hardshipCalculationService;
+
+    @Mock
+    private ReactiveMaatCourtDataService maatCourtDataService;
+
+    @Mock
+    private ReactiveCrimeMeansAssessmentService crimeMeansAssessmentService;
+
+    private ReactiveHardshipService reactiveHardshipService;
+
+    @BeforeEach
+    void setUp() {
+        // validation rules are exercised for real; only the downstream calls are mocked
+        HardshipValidationService hardshipValidationService =
+                new HardshipValidationService(null, new StageMetrics(new SimpleMeterRegistry()));
+        reactiveHardshipService = new ReactiveHardshipService(
+                new HardshipMapper(),
+                hardshipService,
+                hardshipValidationService,
+                hardshipCalculationService,
+                maatCourtDataService,
+                crimeMeansAssessmentService,
+                new HardshipDetailCache(new CachingConfiguration(), new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void givenValidRequest_whenCreateIsInvoked_thenHardshipIsPersistedWithLookedUpThreshold() {
+        ApiPerformHardshipRequest request = TestModelDataBuilder.getApiPerformHardshipRequest();
+        ApiPersistHardshipRequest persistRequest = new ApiPersistHardshipRequest();
+        when(maatCourtDataService.getFinancialAssessment(TestModelDataBuilder.FINANCIAL_ASSESSMENT_ID))
+                .thenReturn(Mono.just(TestModelDataBuilder.getFinancialAssessmentDTO()));
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(any(LocalDateTime.class)))
+                .thenReturn(Mono.just(BigDecimal.TEN));
+        when(hardshipService.prepare(any(HardshipReviewDTO.class), any(BigDecimal.class)))
+                .thenReturn(persistRequest);
+        when(maatCourtDataService.persistHardship(persistRequest, RequestType.CREATE))
+                .thenReturn(Mono.just(TestModelDataBuilder.getApiPersistHardshipResponse()));
+        when(hardshipService.complete(any(HardshipReviewDTO.class), any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        HardshipReviewDTO result = reactiveHardshipService.create(request).block();
+
+        assertThat(result).isNotNull();
+        assertThat(result.getFullThreshold()).isEqualTo(BigDecimal.TEN);
+        assertThat(result.getHardship()).isEqualTo(request.getHardship());
+        verify(maatCourtDataService, never()).getHardship(any());
+    }
+
+    @Test
+    void givenCompletedHardship_whenUpdateIsInvoked_thenValidationExceptionIsRaised() {
+        ApiPerformHardshipRequest request = TestModelDataBuilder.getApiPerformHardshipRequest();
+        when(maatCourtDataService.getFinancialAssessment(TestModelDataBuilder.FINANCIAL_ASSESSMENT_ID))
+                .thenReturn(Mono.just(TestModelDataBuilder.getFinancialAssessmentDTO()));
+        when(maatCourtDataService.getHardship(TestModelDataBuilder.HARDSHIP_ID))
+                .thenReturn(Mono.just(new ApiFindHardshipResponse().withStatus(HardshipReviewStatus.COMPLETE)));
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(any(LocalDateTime.class)))
+                .thenReturn(Mono.just(BigDecimal.TEN));
+
+        assertThatThrownBy(() -> reactiveHardshipService.update(request).block())
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(HardshipValidationService.CANNOT_MODIFY_COMPLETE_HARDSHIP_ERROR);
+        verify(maatCourtDataService, never()).persistHardship(any(), any());
+    }
+
+    @Test
+    void givenCompletedHardshipAndCmaUnavailable_whenUpdateIsInvoked_thenValidationExceptionIsRaised() {
+        ApiPerformHardshipRequest request = TestModelDataBuilder.getApiPerformHardshipRequest();
+        when(maatCourtDataService.getFinancialAssessment(TestModelDataBuilder.FINANCIAL_ASSESSMENT_ID))
+                .thenReturn(Mono.just(TestModelDataBuilder.getFinancialAssessmentDTO()));
+        // the threshold lookup fails before the existing hardship has been read
+        when(maatCourtDataService.getHardship(TestModelDataBuilder.HARDSHIP_ID))
+                .thenReturn(Mono.just(new ApiFindHardshipResponse().withStatus(HardshipReviewStatus.COMPLETE))
+                        .delayElement(Duration.ofMillis(50)));
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(any(LocalDateTime.class)))
+                .thenReturn(Mono.error(WebClientResponseException.create(
+                        HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", null, null, null)));
+
+        assertThatThrownBy(() -> reactiveHardshipService.update(request).block())
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(HardshipValidationService.CANNOT_MODIFY_COMPLETE_HARDSHIP_ERROR);
+        verify(maatCourtDataService, never()).persistHardship(any(), any());
+    }
+
+    @Test
+    void givenValidRequestAndCmaUnavailable_whenCreateIsInvoked_thenLookupErrorIsRaised() {
+        ApiPerformHardshipRequest request = TestModelDataBuilder.getApiPerformHardshipRequest();
+        when(maatCourtDataService.getFinancialAssessment(TestModelDataBuilder.FINANCIAL_ASSESSMENT_ID))
+                .thenReturn(Mono.just(TestModelDataBuilder.getFinancialAssessmentDTO()));
+        when(crimeMeansAssessmentService.getFullAssessmentThreshold(any(LocalDateTime.class)))
+                .thenReturn(Mono.error(WebClientResponseException.create(
+                        HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", null, null, null)));
+
+        assertThatThrownBy(() -> reactiveHardshipService.create(request).block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        verify(maatCourtDataService, never()).persistHardship(any(), any());
+    }
+
+    @Test
+    void givenNoHardshipDetails_whenCalculateHardshipForDetailIsInvoked_thenSummaryIsStillReturned() {
+        ApiCalculateHardshipByDetailResponse expected =
+                new ApiCalculateHardshipByDetailResponse().withHardshipSummary(BigDecimal.ZERO);
+        when(maatCourtDataService.getHardshipByDetailType(
+                        TestModelDataBuilder.TEST_REP_ID, HardshipReviewDetailType.EXPENDITURE.getType()))
+                .thenReturn(Mono.empty());
+        when(hardshipCalculationService.calculateHardshipForDetail(isNull())).thenReturn(expected);
+
+        ApiCalculateHardshipByDetailResponse result = reactiveHardshipService
+                .calculateHardshipForDetail(TestModelDataBuilder.TEST_REP_ID, HardshipReviewDetailType.EXPENDITURE)
+                .block();
+
+        assertThat(result.getHardshipSummary()).isEqualTo(expected.getHardshipSummary());
+    }
+}
@@ -17,14 +17,24 @@ env:
     value: {{ .Values.sentry.sampleRate | quote }}
   - name: LOG_LEVEL
     value: {{ .Values.logging.level }}
+  - name: VIRTUAL_THREADS_ENABLED
+    value: {{ .Values.java.virtualThreads | default false | quote }}
   - name: MAAT_API_BASE_URL
     value: {{ .Values.maatApi.baseUrl }}
   - name: MAAT_API_OAUTH_URL
     value: {{ .Values.maatApi.oauthUrl }}
+  - name: MAAT_API_HEDGING_ENABLED
+    value: {{ .Values.maatApi.hedging | default false | quote }}
+  - name: MAAT_API_CONCURRENCY_LIMIT_ENABLED
+    value: {{ .Values.maatApi.concurrencyLimit | default false | quote }}
   - name: CMA_API_BASE_URL
     value: {{ .Values.cmaApi.baseUrl }}
   - name: CMA_API_OAUTH_URL
     value: {{ .Values.cmaApi.oauthUrl }}
+  - name: CMA_API_HEDGING_ENABLED
+    value: {{ .Values.cmaApi.hedging | default false | quote }}
+  - name: CMA_API_CONCURRENCY_LIMIT_ENABLED
+    value: {{ .Values.cmaApi.concurrencyLimit | default false | quote }}
   - name: CMA_API_OAUTH_CLIENT_ID
     valueFrom:
       secretKeyRef:
@@ -47,4 +57,12 @@ env:
         key: MAAT_API_OAUTH_CLIENT_SECRET
   - name: JWT_ISSUER_URI
     value: {{ .Values.jwt.issuerUri }}
+  {{- with .Values.thresholdSnapshot }}
+  {{- if .enabled }}
+  - name: THRESHOLD_SNAPSHOT_ENABLED
+    value: "true"
+  - name: THRESHOLD_SNAPSHOT_PATH
+    value: {{ printf "%s/thresholds.csv" .mountPath | quote }}
+  {{- end }}
+  {{- end }}
 {{- end -}}